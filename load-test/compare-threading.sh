@@ -0,0 +1,32 @@
+#!/usr/bin/env bash
+# Runs the same k6 scenario against the service on platform threads and on virtual threads.
+# Requires JDK 21, k6 and a running Mongo/Config Server. TOKEN must be a valid access token.
+# The scenario lists CATEGORY (default load-test), so seed Mongo with at least 20 ACTIVE products in that category
+# first. The read caches are disabled for both runs so every request goes to Mongo.
+set -euo pipefail
+
+: "${TOKEN:?TOKEN must be set}"
+: "${APP_PROFILE:=dev}"
+VUS="${VUS:-500}"
+CATEGORY="${CATEGORY:-load-test}"
+PORT="${PORT:-8080}"
+ROOT="$(cd "$(dirname "$0")/.." && pwd)"
+
+mvn -B -q -f "$ROOT/pom.xml" -Pvirtual-threads -DskipTests package
+JAR="$(ls "$ROOT"/target/product-service-*.jar | head -n 1)"
+
+run() {
+    local mode="$1" profiles="$2"
+    APP_PROFILE="$profiles" java -jar "$JAR" --server.port="$PORT" --product.cache.enabled=false > "$ROOT/target/$mode.log" 2>&1 &
+    local pid=$!
+    trap 'kill $pid 2>/dev/null || true' RETURN
+
+    until curl -s -o /dev/null -H "Authorization: Bearer $TOKEN" "http://localhost:$PORT/actuator/health"; do sleep 1; done
+
+    MODE="$mode" VUS="$VUS" TOKEN="$TOKEN" CATEGORY="$CATEGORY" BASE_URL="http://localhost:$PORT" RESULT_FILE="$ROOT/target/$mode" \
+        k6 run --quiet "$ROOT/load-test/threading-comparison.js"
+    echo "$mode: live threads $(jcmd "$pid" Thread.print 2>/dev/null | grep -c '^"' || true), RSS $(ps -o rss= -p "$pid") KB"
+}
+
+run platform-threads "$APP_PROFILE"
+run virtual-threads "$APP_PROFILE,virtual-threads"
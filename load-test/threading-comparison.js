@@ -0,0 +1,43 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+// A category listing blocks on Mongo, which is where platform and virtual threads differ; see compare-threading.sh for data setup.
+const TARGET_PATH = __ENV.TARGET_PATH || `/products?category=${encodeURIComponent(__ENV.CATEGORY || 'load-test')}`;
+const VUS = Number(__ENV.VUS || 500);
+
+export const options = {
+    scenarios: {
+        sustained: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '30s', target: VUS },
+                { duration: '2m', target: VUS },
+                { duration: '15s', target: 0 },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+};
+
+const params = {
+    headers: { Authorization: `Bearer ${__ENV.TOKEN}` },
+};
+
+export default function () {
+    const response = http.get(`${BASE_URL}${TARGET_PATH}`, params);
+    check(response, { 'status is 200': (r) => r.status === 200 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`${__ENV.RESULT_FILE || 'threading-summary'}.json`]: JSON.stringify(data, null, 2),
+        stdout: `${__ENV.MODE || 'run'}: ${data.metrics.http_reqs.values.rate.toFixed(1)} req/s, `
+            + `p95 ${data.metrics.http_req_duration.values['p(95)'].toFixed(1)} ms, `
+            + `p99 ${data.metrics.http_req_duration.values['p(99)'].toFixed(1)} ms\n`,
+    };
+}
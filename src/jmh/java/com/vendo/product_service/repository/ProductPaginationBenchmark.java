@@ -0,0 +1,151 @@
+package com.vendo.product_service.repository;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.vendo.product_service.common.pagination.ProductCursor;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.model.projection.ProductSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares skip/limit with keyset pagination at increasing page depth. Needs a reachable MongoDB, e.g.
+ * -Djmh.args="-prof gc -jvmArgsAppend -Dbenchmark.mongo.uri=mongodb://localhost:27017 ProductPaginationBenchmark".
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductPaginationBenchmark {
+
+    private static final String DATABASE = "product_benchmark";
+
+    private static final String CATEGORY = "benchmark";
+
+    private static final int PAGE_SIZE = 20;
+
+    private static final int PRODUCT_COUNT = 10_001 * PAGE_SIZE;
+
+    @Param({"1", "100", "1000", "10000"})
+    int page;
+
+    private MongoClient mongoClient;
+
+    private MongoTemplate mongoTemplate;
+
+    private ProductRepositoryCustomImpl productRepository;
+
+    private ProductCursor cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mongoClient = MongoClients.create(System.getProperty("benchmark.mongo.uri", "mongodb://localhost:27017"));
+        mongoTemplate = new MongoTemplate(mongoClient, DATABASE);
+        productRepository = new ProductRepositoryCustomImpl(mongoTemplate);
+
+        createIndexes();
+        seedProducts();
+
+        cursor = page == 1 ? null : cursorBeforePage();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        mongoClient.close();
+    }
+
+    @Benchmark
+    public List<ProductSummary> skipLimit() {
+        Query query = new Query(categoryFilter())
+                .with(Sort.by(Sort.Direction.ASC, "price", "id"))
+                .skip((long) (page - 1) * PAGE_SIZE)
+                .limit(PAGE_SIZE + 1);
+
+        return mongoTemplate.query(Product.class).as(ProductSummary.class).matching(query).all();
+    }
+
+    @Benchmark
+    public List<ProductSummary> keyset() {
+        return productRepository.findCategoryPage(CATEGORY, ProductSort.PRICE_ASC, cursor, PAGE_SIZE + 1);
+    }
+
+    private ProductCursor cursorBeforePage() {
+        Query query = new Query(categoryFilter())
+                .with(Sort.by(Sort.Direction.ASC, "price", "id"))
+                .skip((long) (page - 1) * PAGE_SIZE - 1)
+                .limit(1);
+        ProductSummary last = mongoTemplate.query(Product.class).as(ProductSummary.class).matching(query).firstValue();
+
+        return ProductCursor.after(last, ProductSort.PRICE_ASC, CATEGORY);
+    }
+
+    private Criteria categoryFilter() {
+        return Criteria.where("categories").is(CATEGORY).and("status").is(ProductStatus.ACTIVE);
+    }
+
+    private void createIndexes() {
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(
+                (MongoMappingContext) mongoTemplate.getConverter().getMappingContext());
+        IndexOperations indexOperations = mongoTemplate.indexOps(Product.class);
+
+        indexResolver.resolveIndexFor(Product.class).forEach(indexOperations::createIndex);
+    }
+
+    private void seedProducts() {
+        long existing = mongoTemplate.count(new Query(categoryFilter()), Product.class);
+        List<Product> batch = new ArrayList<>();
+
+        for (long i = existing; i < PRODUCT_COUNT; i++) {
+            batch.add(Product.builder()
+                    .sellerId("benchmark-seller")
+                    .sku("SKU-" + i)
+                    .title("Benchmark product " + i)
+                    .brand("Vendo")
+                    .categories(List.of(CATEGORY))
+                    .price(BigDecimal.valueOf(ThreadLocalRandom.current().nextInt(100, 100_000), 2))
+                    .currency("USD")
+                    .stock(10)
+                    .status(ProductStatus.ACTIVE)
+                    .createdAt(Instant.now())
+                    .build());
+
+            if (batch.size() == 5_000) {
+                mongoTemplate.insertAll(batch);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            mongoTemplate.insertAll(batch);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.vendo.product_service.security.common.helper;
+
+import com.vendo.domain.user.common.type.UserStatus;
+import com.vendo.product_service.security.common.config.JwtProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static com.vendo.security.common.type.TokenClaim.ROLES_CLAIM;
+import static com.vendo.security.common.type.TokenClaim.STATUS_CLAIM;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwtHelperBenchmark {
+
+    private static final String SECRET_KEY = "secretKeysecretKeysecretKeysecretKeysecretKey";
+
+    public enum TokenType {
+        VALID, EXPIRED, TAMPERED
+    }
+
+    @State(Scope.Benchmark)
+    public static class HelperState {
+
+        JwtHelper jwtHelper;
+
+        @Setup
+        public void setUp() {
+            JwtProperties jwtProperties = new JwtProperties();
+            jwtProperties.setSecretKey(SECRET_KEY);
+
+            jwtHelper = new JwtHelper(jwtProperties, event -> {});
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class TokenState {
+
+        @Param({"VALID", "EXPIRED", "TAMPERED"})
+        TokenType tokenType;
+
+        @Param({"1", "50"})
+        int roleCount;
+
+        String token;
+
+        @Setup
+        public void setUp(HelperState helperState) {
+            long expirationOffset = tokenType == TokenType.EXPIRED ? -TimeUnit.MINUTES.toMillis(1) : TimeUnit.DAYS.toMillis(1);
+            String signedToken = generateToken(helperState.jwtHelper, roleCount, expirationOffset);
+
+            token = tokenType == TokenType.TAMPERED ? tamperSignature(signedToken) : signedToken;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class ClaimsState {
+
+        @Param({"1", "50"})
+        int roleCount;
+
+        Claims claims;
+
+        @Setup
+        public void setUp(HelperState helperState) {
+            String token = generateToken(helperState.jwtHelper, roleCount, TimeUnit.DAYS.toMillis(1));
+            claims = helperState.jwtHelper.extractAllClaims(token);
+        }
+    }
+
+    @Benchmark
+    public void extractAllClaims(HelperState helperState, TokenState tokenState, Blackhole blackhole) {
+        try {
+            blackhole.consume(helperState.jwtHelper.extractAllClaims(tokenState.token));
+        } catch (JwtException e) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    public List<SimpleGrantedAuthority> extractAuthorities(HelperState helperState, ClaimsState claimsState) {
+        return helperState.jwtHelper.extractAuthorities(claimsState.claims);
+    }
+
+    @Benchmark
+    public UserStatus extractUserStatus(HelperState helperState, ClaimsState claimsState) {
+        return helperState.jwtHelper.extractUserStatus(claimsState.claims);
+    }
+
+    private static String generateToken(JwtHelper jwtHelper, int roleCount, long expirationOffset) {
+        List<String> roles = IntStream.range(0, roleCount)
+                .mapToObj(i -> "ROLE_BENCHMARK_" + i)
+                .toList();
+
+        return Jwts.builder()
+                .subject("benchmark-user")
+                .claims(Map.of(
+                        STATUS_CLAIM.getClaim(), UserStatus.ACTIVE,
+                        ROLES_CLAIM.getClaim(), roles
+                ))
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + expirationOffset))
+                .signWith(jwtHelper.getSignInKey())
+                .compact();
+    }
+
+    private static String tamperSignature(String token) {
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char replaced = token.charAt(signatureStart) == 'A' ? 'B' : 'A';
+
+        return token.substring(0, signatureStart) + replaced + token.substring(signatureStart + 1);
+    }
+}
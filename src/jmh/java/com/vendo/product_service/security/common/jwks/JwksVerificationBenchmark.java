@@ -0,0 +1,110 @@
+package com.vendo.product_service.security.common.jwks;
+
+import com.vendo.product_service.security.common.config.JwtProperties;
+import com.vendo.product_service.security.common.helper.JwtHelper;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.Key;
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Clock;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Compares verification through the kid locator with a parser bound to the same key, per algorithm.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JwksVerificationBenchmark {
+
+    private static final String SECRET_KEY = "secretKeysecretKeysecretKeysecretKeysecretKey";
+
+    private static final String KEY_ID = "benchmark-key";
+
+    @Param({"HS256", "RS256", "ES256"})
+    String algorithm;
+
+    private Path jwksFile;
+
+    private JwtHelper jwtHelper;
+
+    private JwtParser boundParser;
+
+    private String token;
+
+    @Setup
+    public void setUp() throws IOException {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(SECRET_KEY);
+
+        Key signingKey;
+        Key verificationKey;
+        if ("HS256".equals(algorithm)) {
+            jwtHelper = new JwtHelper(jwtProperties, event -> {});
+            signingKey = jwtHelper.getSignInKey();
+            verificationKey = signingKey;
+        } else {
+            KeyPair keyPair = "RS256".equals(algorithm) ? Jwts.SIG.RS256.keyPair().build() : Jwts.SIG.ES256.keyPair().build();
+            jwksFile = Files.createTempFile("jwks", ".json");
+            Files.writeString(jwksFile, "{\"keys\":[" + Jwks.json(Jwks.builder().key(keyPair.getPublic()).id(KEY_ID).build()) + "]}");
+
+            jwtProperties.getJwks().setEnabled(true);
+            jwtProperties.getJwks().setLocation(jwksFile.toUri().toString());
+            JwksKeyStore jwksKeyStore = new JwksKeyStore(jwtProperties, new DefaultResourceLoader(), event -> {}, Runnable::run, Clock.systemUTC());
+
+            jwtHelper = new JwtHelper(jwtProperties, event -> {}, jwksKeyStore);
+            signingKey = keyPair.getPrivate();
+            verificationKey = keyPair.getPublic();
+        }
+
+        boundParser = verificationKey instanceof PublicKey publicKey
+                ? Jwts.parser().verifyWith(publicKey).build()
+                : Jwts.parser().verifyWith((SecretKey) verificationKey).build();
+        token = Jwts.builder()
+                .header().keyId("HS256".equals(algorithm) ? null : KEY_ID).and()
+                .subject("benchmark-user")
+                .expiration(new Date(System.currentTimeMillis() + TimeUnit.DAYS.toMillis(1)))
+                .signWith(signingKey)
+                .compact();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (jwksFile != null) {
+            Files.deleteIfExists(jwksFile);
+        }
+    }
+
+    @Benchmark
+    public Claims jwtHelper() {
+        return jwtHelper.extractAllClaims(token);
+    }
+
+    @Benchmark
+    public Claims boundParser() {
+        return boundParser.parseSignedClaims(token).getPayload();
+    }
+}
@@ -0,0 +1,52 @@
+package com.vendo.product_service.security.filter;
+
+import com.vendo.product_service.security.common.config.PermittedPathProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ProductAntPathResolverBenchmark {
+
+    @Param({"/swagger-ui/index.html", "/v3/api-docs/swagger-config", "/test/ping", "/products/64f1c2e5a1b2c3d4e5f60718"})
+    String path;
+
+    @Param({"0", "40"})
+    int extraPatternCount;
+
+    private ProductAntPathResolver productAntPathResolver;
+
+    @Setup
+    public void setUp() {
+        List<String> extraPatterns = IntStream.range(0, extraPatternCount)
+                .mapToObj(i -> i % 2 == 0 ? "/catalog/section-" + i + "/**" : "/catalog/section-" + i + "/{id}")
+                .toList();
+
+        PermittedPathProperties permittedPathProperties = new PermittedPathProperties();
+        permittedPathProperties.setPermitted(extraPatterns);
+
+        productAntPathResolver = new ProductAntPathResolver(permittedPathProperties);
+    }
+
+    @Benchmark
+    public boolean isPermittedPath() {
+        return productAntPathResolver.isPermittedPath(path);
+    }
+}
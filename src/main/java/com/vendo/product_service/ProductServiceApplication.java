@@ -2,12 +2,18 @@ package com.vendo.product_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
 
 @SpringBootApplication
 public class ProductServiceApplication {
 
+	// Enough for every bean instantiation step; StartupRunnerConfig logs and drains the timeline once ready.
+	private static final int STARTUP_STEPS_CAPACITY = 10_000;
+
 	public static void main(String[] args) {
-		SpringApplication.run(ProductServiceApplication.class, args);
+		SpringApplication application = new SpringApplication(ProductServiceApplication.class);
+		application.setApplicationStartup(new BufferingApplicationStartup(STARTUP_STEPS_CAPACITY));
+		application.run(args);
 	}
 
 }
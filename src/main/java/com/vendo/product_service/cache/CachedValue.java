@@ -0,0 +1,8 @@
+package com.vendo.product_service.cache;
+
+record CachedValue<V>(V value, long loadedAtNanos) {
+
+    boolean isFresh(long nowNanos, long timeToLiveNanos) {
+        return nowNanos - loadedAtNanos < timeToLiveNanos;
+    }
+}
@@ -0,0 +1,16 @@
+package com.vendo.product_service.cache;
+
+import com.vendo.product_service.common.type.ProductSort;
+
+public record CategoryPageKey(String category, ProductSort sort, String cursor, int limit) {
+
+    static final String SHARED_KEY_PREFIX = "product:listing:";
+
+    static String sharedKeyPrefix(String category) {
+        return SHARED_KEY_PREFIX + category + "|";
+    }
+
+    String sharedKey() {
+        return sharedKeyPrefix(category) + sort + "|" + limit + "|" + (cursor == null ? "" : cursor);
+    }
+}
@@ -0,0 +1,32 @@
+package com.vendo.product_service.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Striped so that an eviction only holds back loads of keys sharing its stripe, not every load in the cache.
+final class EvictionEpochs {
+
+    private final AtomicLongArray stripes;
+
+    EvictionEpochs(int stripes) {
+        this.stripes = new AtomicLongArray(stripes);
+    }
+
+    long current(Object key) {
+        return stripes.get(index(key));
+    }
+
+    void advance(Object key) {
+        stripes.incrementAndGet(index(key));
+    }
+
+    void advanceAll() {
+        for (int i = 0; i < stripes.length(); i++) {
+            stripes.incrementAndGet(i);
+        }
+    }
+
+    private int index(Object key) {
+        int hash = key.hashCode();
+        return ((hash ^ (hash >>> 16)) & Integer.MAX_VALUE) % stripes.length();
+    }
+}
@@ -0,0 +1,39 @@
+package com.vendo.product_service.cache;
+
+import com.vendo.product_service.event.ProductChangeBatchEvent;
+import com.vendo.product_service.event.ProductChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ProductCacheInvalidator {
+
+    private final ProductReadCache productReadCache;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocalChange(ProductChangedEvent event) {
+        evict(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onLocalChanges(ProductChangeBatchEvent batch) {
+        batch.changes().forEach(this::evict);
+    }
+
+    // Every instance consumes with its own group so that each one evicts its local entries.
+    @KafkaListener(
+            topics = "${product.events.topic:product-events}",
+            groupId = "${spring.application.name}-cache-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onRemoteChange(ProductChangedEvent event) {
+        evict(event);
+    }
+
+    private void evict(ProductChangedEvent event) {
+        productReadCache.evict(event.productId(), event.categories());
+    }
+}
@@ -0,0 +1,298 @@
+package com.vendo.product_service.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.vendo.product_service.cache.config.ProductCacheProperties;
+import com.vendo.product_service.cache.shared.SharedProductCache;
+import com.vendo.product_service.common.dto.ProductAttributeDto;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.http.VersionedPage;
+import com.vendo.product_service.model.projection.ProductSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Component
+public class ProductReadCache {
+
+    public static final String PRODUCT_CACHE_NAME = "product.by-id";
+
+    public static final String LISTING_CACHE_NAME = "product.category-listing";
+
+    private static final String PRODUCT_KEY_PREFIX = "product:by-id:";
+
+    private static final int OBJECT_OVERHEAD = 64;
+
+    private static final int EPOCH_STRIPES = 4096;
+
+    private final boolean enabled;
+
+    private final Duration sharedTimeToLive;
+
+    private final long productTimeToLiveNanos;
+
+    private final long listingTimeToLiveNanos;
+
+    private final SharedProductCache sharedProductCache;
+
+    private final Ticker ticker;
+
+    // Bumped on every eviction so that a load racing with an eviction does not cache what it read before it,
+    // neither locally nor in the shared cache. Products are keyed by id and listings by category.
+    private final EvictionEpochs productEpochs = new EvictionEpochs(EPOCH_STRIPES);
+
+    private final EvictionEpochs listingEpochs = new EvictionEpochs(EPOCH_STRIPES);
+
+    private final Cache<String, CachedValue<ProductResponse>> products;
+
+    private final Cache<CategoryPageKey, CachedValue<VersionedPage<ProductSummary>>> listings;
+
+    private final SingleFlight<String, ProductResponse> productLoads;
+
+    private final SingleFlight<CategoryPageKey, VersionedPage<ProductSummary>> listingLoads;
+
+    @Autowired
+    public ProductReadCache(ProductCacheProperties productCacheProperties, SharedProductCache sharedProductCache, MeterRegistry meterRegistry) {
+        this(productCacheProperties, sharedProductCache, meterRegistry, Ticker.systemTicker());
+    }
+
+    ProductReadCache(ProductCacheProperties productCacheProperties, SharedProductCache sharedProductCache,
+                     MeterRegistry meterRegistry, Ticker ticker) {
+        ProductCacheProperties.Coalescing coalescing = productCacheProperties.getCoalescing();
+        Duration productTimeToLive = productCacheProperties.getProduct().getTimeToLive();
+        Duration listingTimeToLive = productCacheProperties.getListing().getTimeToLive();
+
+        this.enabled = productCacheProperties.isEnabled();
+        this.sharedTimeToLive = productCacheProperties.getShared().getTimeToLive();
+        this.productTimeToLiveNanos = productTimeToLive.toNanos();
+        this.listingTimeToLiveNanos = listingTimeToLive.toNanos();
+        this.sharedProductCache = sharedProductCache;
+        this.ticker = ticker;
+
+        // Entries outlive their time to live by the grace period so they can still be served as stale data.
+        this.products = Caffeine.newBuilder()
+                .maximumWeight(productCacheProperties.getProduct().getMaximumWeight().toBytes())
+                .weigher((String id, CachedValue<ProductResponse> product) -> weigh(product.value()))
+                .expireAfterWrite(productTimeToLive.plus(coalescing.getStaleGracePeriod()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.listings = Caffeine.newBuilder()
+                .maximumSize(productCacheProperties.getListing().getMaximumSize())
+                .expireAfterWrite(listingTimeToLive.plus(coalescing.getStaleGracePeriod()))
+                .ticker(ticker)
+                .recordStats()
+                .build();
+        this.productLoads = new SingleFlight<>(PRODUCT_CACHE_NAME, coalescing.getTimeout(), DataAccessException.class::isInstance, meterRegistry);
+        this.listingLoads = new SingleFlight<>(LISTING_CACHE_NAME, coalescing.getTimeout(), DataAccessException.class::isInstance, meterRegistry);
+
+        CaffeineCacheMetrics.monitor(meterRegistry, products, PRODUCT_CACHE_NAME);
+        CaffeineCacheMetrics.monitor(meterRegistry, listings, LISTING_CACHE_NAME);
+    }
+
+    public ProductResponse getProduct(String id, Function<String, ProductResponse> loader) {
+        if (!enabled) {
+            return loader.apply(id);
+        }
+
+        return read(products, productLoads, productTimeToLiveNanos, id, productEpochs, id,
+                PRODUCT_KEY_PREFIX + id, ProductResponse.class, () -> loader.apply(id));
+    }
+
+    public Optional<ProductResponse> peekProduct(String id) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        CachedValue<ProductResponse> cached = products.getIfPresent(id);
+        return cached != null && cached.isFresh(ticker.read(), productTimeToLiveNanos)
+                ? Optional.of(cached.value())
+                : Optional.empty();
+    }
+
+    // Non-blocking loaders take the epoch before reading and hand it back, so a racing eviction still wins.
+    public long evictionEpoch(String id) {
+        return productEpochs.current(id);
+    }
+
+    public void putProduct(ProductResponse product, long epoch) {
+        if (enabled && productEpochs.current(product.getId()) == epoch) {
+            products.put(product.getId(), new CachedValue<>(product, ticker.read()));
+        }
+    }
+
+    public Map<String, ProductResponse> getProducts(Collection<String> ids,
+                                                    Function<Set<String>, Map<String, ProductResponse>> loader) {
+        if (!enabled) {
+            return loader.apply(Set.copyOf(ids));
+        }
+
+        Map<String, ProductResponse> found = new HashMap<>();
+        Map<String, ProductResponse> stale = new HashMap<>();
+        Map<String, String> sharedKeys = new HashMap<>();
+        long now = ticker.read();
+
+        products.getAllPresent(ids).forEach((id, cached) -> {
+            if (cached.isFresh(now, productTimeToLiveNanos)) {
+                found.put(id, cached.value());
+            } else {
+                stale.put(id, cached.value());
+            }
+        });
+        ids.stream()
+                .filter(id -> !found.containsKey(id))
+                .forEach(id -> sharedKeys.put(PRODUCT_KEY_PREFIX + id, id));
+        if (sharedKeys.isEmpty()) {
+            return found;
+        }
+
+        Map<String, Long> epochs = new HashMap<>();
+        sharedKeys.values().forEach(id -> epochs.put(id, productEpochs.current(id)));
+        sharedProductCache.getAll(sharedKeys.keySet(), ProductResponse.class)
+                .forEach((sharedKey, product) -> found.put(sharedKeys.get(sharedKey), product));
+
+        Set<String> unresolvedIds = new HashSet<>(sharedKeys.values());
+        unresolvedIds.removeAll(found.keySet());
+        if (!unresolvedIds.isEmpty()) {
+            try {
+                Map<String, ProductResponse> loaded = loader.apply(unresolvedIds);
+                loaded.forEach((id, product) -> putShared(PRODUCT_KEY_PREFIX + id, product, productEpochs, id, epochs.get(id)));
+                found.putAll(loaded);
+            } catch (DataAccessException e) {
+                if (!stale.keySet().containsAll(unresolvedIds)) {
+                    throw e;
+                }
+                unresolvedIds.forEach(id -> found.put(id, stale.get(id)));
+                return found;
+            }
+        }
+
+        long loadedAt = ticker.read();
+        sharedKeys.values().stream()
+                .filter(id -> found.containsKey(id) && productEpochs.current(id) == epochs.get(id))
+                .forEach(id -> products.put(id, new CachedValue<>(found.get(id), loadedAt)));
+        return found;
+    }
+
+    @SuppressWarnings("unchecked")
+    public VersionedPage<ProductSummary> getCategoryPage(CategoryPageKey pageKey,
+                                                         Function<CategoryPageKey, VersionedPage<ProductSummary>> loader) {
+        if (!enabled) {
+            return loader.apply(pageKey);
+        }
+
+        return read(listings, listingLoads, listingTimeToLiveNanos, pageKey, listingEpochs, pageKey.category(),
+                pageKey.sharedKey(), VersionedPage.class, () -> loader.apply(pageKey));
+    }
+
+    public void evict(String productId, Collection<String> categories) {
+        productEpochs.advance(productId);
+        products.invalidate(productId);
+        sharedProductCache.evict(PRODUCT_KEY_PREFIX + productId);
+
+        if (categories == null || categories.isEmpty()) {
+            return;
+        }
+
+        categories.forEach(listingEpochs::advance);
+        listings.asMap().keySet().removeIf(key -> categories.contains(key.category()));
+        categories.forEach(category -> sharedProductCache.evictByPrefix(CategoryPageKey.sharedKeyPrefix(category)));
+    }
+
+    public void invalidateAll() {
+        productEpochs.advanceAll();
+        listingEpochs.advanceAll();
+        products.invalidateAll();
+        listings.invalidateAll();
+        sharedProductCache.evictByPrefix(PRODUCT_KEY_PREFIX);
+        sharedProductCache.evictByPrefix(CategoryPageKey.SHARED_KEY_PREFIX);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <K, V> V read(Cache<K, CachedValue<V>> cache, SingleFlight<K, V> singleFlight, long timeToLiveNanos, K key,
+                          EvictionEpochs epochs, Object epochKey, String sharedKey, Class<? super V> type, Supplier<V> loader) {
+        CachedValue<V> cached = cache.getIfPresent(key);
+        if (cached != null && cached.isFresh(ticker.read(), timeToLiveNanos)) {
+            return cached.value();
+        }
+
+        V stale = cached == null ? null : cached.value();
+        return singleFlight.execute(key, () -> {
+            long epoch = epochs.current(epochKey);
+            V value = sharedProductCache.get(sharedKey, type)
+                    .map(shared -> (V) shared)
+                    .orElseGet(() -> {
+                        V loaded = loader.get();
+                        putShared(sharedKey, loaded, epochs, epochKey, epoch);
+                        return loaded;
+                    });
+            if (epochs.current(epochKey) == epoch) {
+                cache.put(key, new CachedValue<>(value, ticker.read()));
+            }
+            return value;
+        }, stale);
+    }
+
+    // An eviction landing between the check and the put removes the entry again, so it cannot outlive the change.
+    private void putShared(String sharedKey, Object value, EvictionEpochs epochs, Object epochKey, long epoch) {
+        if (epochs.current(epochKey) != epoch) {
+            return;
+        }
+
+        sharedProductCache.put(sharedKey, value, sharedTimeToLive);
+        if (epochs.current(epochKey) != epoch) {
+            sharedProductCache.evict(sharedKey);
+        }
+    }
+
+    private static int weigh(ProductResponse product) {
+        long weight = OBJECT_OVERHEAD
+                + weigh(product.getId())
+                + weigh(product.getSellerId())
+                + weigh(product.getSku())
+                + weigh(product.getTitle())
+                + weigh(product.getDescription())
+                + weigh(product.getBrand())
+                + weigh(product.getCurrency())
+                + weighAll(product.getCategories());
+
+        List<ProductAttributeDto> attributes = product.getAttributes();
+        if (attributes != null) {
+            for (ProductAttributeDto attribute : attributes) {
+                weight += OBJECT_OVERHEAD + weigh(attribute.getName()) + weigh(attribute.getValue());
+            }
+        }
+
+        return (int) Math.min(Integer.MAX_VALUE, weight);
+    }
+
+    private static long weighAll(List<String> values) {
+        if (values == null) {
+            return 0;
+        }
+
+        long weight = 0;
+        for (String value : values) {
+            weight += weigh(value);
+        }
+        return weight;
+    }
+
+    private static long weigh(String value) {
+        return value == null ? 0 : OBJECT_OVERHEAD + value.length();
+    }
+}
@@ -0,0 +1,109 @@
+package com.vendo.product_service.cache;
+
+import com.vendo.product_service.common.exception.ProductLoadTimeoutException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Lets concurrent callers of the same key share one load. The first caller runs the loader on its own thread,
+ * the others wait on its result for at most {@code timeout} and fall back to the stale value they were given.
+ */
+public class SingleFlight<K, V> {
+
+    private static final String METRIC_NAME = "product.cache.loads";
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final long timeoutNanos;
+
+    private final Predicate<Throwable> staleOnFailure;
+
+    private final Counter leaderLoads;
+
+    private final Counter coalescedLoads;
+
+    private final Counter staleLoads;
+
+    private final Counter timedOutLoads;
+
+    public SingleFlight(String cacheName, Duration timeout, Predicate<Throwable> staleOnFailure, MeterRegistry meterRegistry) {
+        this.timeoutNanos = timeout.toNanos();
+        this.staleOnFailure = staleOnFailure;
+        this.leaderLoads = counter(meterRegistry, cacheName, "leader");
+        this.coalescedLoads = counter(meterRegistry, cacheName, "coalesced");
+        this.staleLoads = counter(meterRegistry, cacheName, "stale");
+        this.timedOutLoads = counter(meterRegistry, cacheName, "timeout");
+    }
+
+    public V execute(K key, Supplier<V> loader, V stale) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+
+        if (existing == null) {
+            leaderLoads.increment();
+            return lead(key, future, loader, stale);
+        }
+
+        coalescedLoads.increment();
+        return follow(existing, stale);
+    }
+
+    private V lead(K key, CompletableFuture<V> future, Supplier<V> loader, V stale) {
+        try {
+            V value = loader.get();
+            future.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            return staleOrThrow(e, stale);
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    private V follow(CompletableFuture<V> future, V stale) {
+        try {
+            return future.get(timeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            if (stale != null) {
+                staleLoads.increment();
+                return stale;
+            }
+            timedOutLoads.increment();
+            throw new ProductLoadTimeoutException("Product is temporarily unavailable.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                return staleOrThrow(cause, stale);
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ProductLoadTimeoutException("Product is temporarily unavailable.");
+        }
+    }
+
+    private V staleOrThrow(RuntimeException e, V stale) {
+        if (stale == null || !staleOnFailure.test(e)) {
+            throw e;
+        }
+        staleLoads.increment();
+        return stale;
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String cacheName, String outcome) {
+        return Counter.builder(METRIC_NAME)
+                .tag("cache", cacheName)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+}
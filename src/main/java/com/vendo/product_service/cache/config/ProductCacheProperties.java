@@ -0,0 +1,71 @@
+package com.vendo.product_service.cache.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.cache")
+public class ProductCacheProperties {
+
+    private boolean enabled = true;
+
+    private Product product = new Product();
+
+    private Listing listing = new Listing();
+
+    private Shared shared = new Shared();
+
+    private Coalescing coalescing = new Coalescing();
+
+    @Setter
+    @Getter
+    public static class Product {
+
+        private DataSize maximumWeight = DataSize.ofMegabytes(64);
+
+        private Duration timeToLive = Duration.ofMinutes(5);
+
+    }
+
+    @Setter
+    @Getter
+    public static class Listing {
+
+        private long maximumSize = 5_000;
+
+        private Duration timeToLive = Duration.ofSeconds(30);
+
+    }
+
+    @Setter
+    @Getter
+    public static class Shared {
+
+        private SharedCacheType type = SharedCacheType.NONE;
+
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+    }
+
+    @Setter
+    @Getter
+    public static class Coalescing {
+
+        private Duration timeout = Duration.ofSeconds(2);
+
+        private Duration staleGracePeriod = Duration.ofMinutes(5);
+
+    }
+
+    public enum SharedCacheType {
+        NONE,
+        LOCAL
+    }
+}
@@ -0,0 +1,21 @@
+package com.vendo.product_service.cache.config;
+
+import com.vendo.product_service.cache.shared.LocalSharedProductCache;
+import com.vendo.product_service.cache.shared.NoOpSharedProductCache;
+import com.vendo.product_service.cache.shared.SharedProductCache;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SharedProductCacheConfig {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SharedProductCache sharedProductCache(ProductCacheProperties productCacheProperties) {
+        return switch (productCacheProperties.getShared().getType()) {
+            case LOCAL -> new LocalSharedProductCache();
+            case NONE -> new NoOpSharedProductCache();
+        };
+    }
+}
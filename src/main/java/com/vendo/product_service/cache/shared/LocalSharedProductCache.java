@@ -0,0 +1,59 @@
+package com.vendo.product_service.cache.shared;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for a shared cache, used for local runs and tests.
+ */
+public class LocalSharedProductCache implements SharedProductCache {
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Clock clock;
+
+    public LocalSharedProductCache() {
+        this(Clock.systemUTC());
+    }
+
+    public LocalSharedProductCache(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+
+        if (!entry.expiresAt().isAfter(clock.instant())) {
+            entries.remove(key, entry);
+            return Optional.empty();
+        }
+
+        return type.isInstance(entry.value()) ? Optional.of(type.cast(entry.value())) : Optional.empty();
+    }
+
+    @Override
+    public void put(String key, Object value, Duration timeToLive) {
+        entries.put(key, new Entry(value, clock.instant().plus(timeToLive)));
+    }
+
+    @Override
+    public void evict(String key) {
+        entries.remove(key);
+    }
+
+    @Override
+    public void evictByPrefix(String prefix) {
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    private record Entry(Object value, Instant expiresAt) {
+    }
+}
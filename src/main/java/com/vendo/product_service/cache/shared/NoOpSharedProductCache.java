@@ -0,0 +1,24 @@
+package com.vendo.product_service.cache.shared;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public class NoOpSharedProductCache implements SharedProductCache {
+
+    @Override
+    public <T> Optional<T> get(String key, Class<T> type) {
+        return Optional.empty();
+    }
+
+    @Override
+    public void put(String key, Object value, Duration timeToLive) {
+    }
+
+    @Override
+    public void evict(String key) {
+    }
+
+    @Override
+    public void evictByPrefix(String prefix) {
+    }
+}
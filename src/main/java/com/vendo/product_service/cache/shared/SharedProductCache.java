@@ -0,0 +1,25 @@
+package com.vendo.product_service.cache.shared;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+public interface SharedProductCache {
+
+    <T> Optional<T> get(String key, Class<T> type);
+
+    default <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> values = new HashMap<>();
+        keys.forEach(key -> get(key, type).ifPresent(value -> values.put(key, value)));
+        return values;
+    }
+
+    void put(String key, Object value, Duration timeToLive);
+
+    void evict(String key);
+
+    void evictByPrefix(String prefix);
+
+}
@@ -0,0 +1,100 @@
+package com.vendo.product_service.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.Properties;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+// application.yaml imports the snapshot ahead of the Config Server, so the server's values win whenever it is
+// reachable and the last values it served are used when it is not. Secrets are never written: keys that look like
+// credentials and URIs carrying a user:password part are left out, so those must also be supplied by the
+// environment or a mounted secret for the fallback to start. The file itself is readable by the owner only.
+// Not keyed on spring.cloud.config.enabled: the AOT build sets it to false, which would drop this bean from production.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.config-snapshot", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ConfigSnapshotWriter {
+
+    private static final String CONFIG_SERVER_SOURCE_PREFIX = "configserver:";
+
+    private static final Pattern SECRET_KEY = Pattern.compile(".*(password|secret|key|token|credential).*", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern URI_WITH_PASSWORD = Pattern.compile("[a-z][a-z0-9+.-]*://[^/@\\s]*:[^/@\\s]*@.*", Pattern.CASE_INSENSITIVE);
+
+    private static final Set<PosixFilePermission> OWNER_ONLY = PosixFilePermissions.fromString("rw-------");
+
+    private final ConfigurableEnvironment environment;
+
+    private final Path snapshotLocation;
+
+    public ConfigSnapshotWriter(ConfigurableEnvironment environment,
+                                @Value("${CONFIG_SNAPSHOT_LOCATION:config-snapshot.properties}") Path snapshotLocation) {
+        this.environment = environment;
+        this.snapshotLocation = snapshotLocation;
+    }
+
+    @EventListener({ApplicationReadyEvent.class, EnvironmentChangeEvent.class})
+    public void writeSnapshot() {
+        Properties snapshot = new Properties();
+        for (PropertySource<?> propertySource : environment.getPropertySources()) {
+            if (propertySource.getName().startsWith(CONFIG_SERVER_SOURCE_PREFIX)
+                    && propertySource instanceof EnumerablePropertySource<?> enumerable) {
+                // Sources are in precedence order, so the first value seen for a key is the effective one.
+                for (String name : enumerable.getPropertyNames()) {
+                    Object value = enumerable.getProperty(name);
+                    if (value != null && !isSecret(name, value.toString())) {
+                        snapshot.putIfAbsent(name, value.toString());
+                    }
+                }
+            }
+        }
+
+        // Nothing came from the Config Server, so the existing snapshot is still the best fallback.
+        if (snapshot.isEmpty()) {
+            return;
+        }
+
+        try {
+            Path directory = snapshotLocation.toAbsolutePath().getParent();
+            Files.createDirectories(directory);
+            Path temporary = createOwnerOnlyFile(directory);
+            try (Writer writer = Files.newBufferedWriter(temporary, StandardCharsets.UTF_8)) {
+                snapshot.store(writer, "Config Server snapshot");
+            }
+            Files.move(temporary, snapshotLocation, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Saved {} Config Server properties to {}", snapshot.size(), snapshotLocation);
+        } catch (IOException e) {
+            log.warn("Failed to save the Config Server snapshot to {}", snapshotLocation, e);
+        }
+    }
+
+    private static boolean isSecret(String name, String value) {
+        return SECRET_KEY.matcher(name).matches() || URI_WITH_PASSWORD.matcher(value).matches();
+    }
+
+    private Path createOwnerOnlyFile(Path directory) throws IOException {
+        String prefix = snapshotLocation.getFileName().toString();
+        if (directory.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            return Files.createTempFile(directory, prefix, ".tmp", PosixFilePermissions.asFileAttribute(OWNER_ONLY));
+        }
+        return Files.createTempFile(directory, prefix, ".tmp");
+    }
+}
@@ -0,0 +1,41 @@
+package com.vendo.product_service.common.config;
+
+import com.vendo.product_service.model.ImportJob;
+import com.vendo.product_service.model.OutboxEvent;
+import com.vendo.product_service.model.Product;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.mongo", name = "create-indexes", havingValue = "true", matchIfMissing = true)
+public class MongoIndexInitializer {
+
+    private static final List<Class<?>> INDEXED_DOCUMENTS = List.of(Product.class, OutboxEvent.class, ImportJob.class);
+
+    private final MongoTemplate mongoTemplate;
+
+    private final MongoMappingContext mongoMappingContext;
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void createIndexes() {
+        MongoPersistentEntityIndexResolver indexResolver = new MongoPersistentEntityIndexResolver(mongoMappingContext);
+
+        for (Class<?> document : INDEXED_DOCUMENTS) {
+            IndexOperations indexOperations = mongoTemplate.indexOps(document);
+            indexResolver.resolveIndexFor(document).forEach(indexOperations::createIndex);
+            log.info("Ensured indexes for {}.", mongoTemplate.getCollectionName(document));
+        }
+    }
+}
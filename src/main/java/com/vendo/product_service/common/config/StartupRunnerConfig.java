@@ -1,21 +1,88 @@
 package com.vendo.product_service.common.config;
 
+import com.sun.management.HotSpotDiagnosticMXBean;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.aot.AotDetector;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.management.ManagementFactory;
+import java.util.Comparator;
+import java.util.List;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class StartupRunnerConfig implements CommandLineRunner {
 
-    @Value("${server.url}")
+    @Value("${server.url:}")
     private String SERVER_URL;
 
     private static final String SWAGGER_UI_URL_TEMPLATE = "%s/swagger-ui/index.html";
 
+    private static final String SPRINGDOC_CONFIGURATION = "org.springdoc.core.configuration.SpringDocConfiguration";
+
+    private static final String BEAN_INSTANTIATE_STEP = "spring.beans.instantiate";
+
+    private static final String BEAN_NAME_TAG = "beanName";
+
+    private static final int SLOWEST_BEANS = 10;
+
+    private final ConfigurableApplicationContext applicationContext;
+
     @Override
     public void run(String... args) {
-        log.info("Swagger UI: {}", SWAGGER_UI_URL_TEMPLATE.formatted(SERVER_URL));
+        if (StringUtils.isNotEmpty(SERVER_URL) && ClassUtils.isPresent(SPRINGDOC_CONFIGURATION, getClass().getClassLoader())) {
+            log.info("Swagger UI: {}", SWAGGER_UI_URL_TEMPLATE.formatted(SERVER_URL));
+        }
+
+        logStartupTimeline();
+    }
+
+    private void logStartupTimeline() {
+        log.info("Started {} ms after JVM start (AOT: {}, CDS archive: {}).",
+                ManagementFactory.getRuntimeMXBean().getUptime(), AotDetector.useGeneratedArtifacts(), sharedArchiveFile());
+
+        if (!(applicationContext.getApplicationStartup() instanceof BufferingApplicationStartup applicationStartup)) {
+            return;
+        }
+
+        // Draining releases the recorded steps; they are only needed once.
+        List<StartupTimeline.TimelineEvent> events = applicationStartup.drainBufferedTimeline().getEvents();
+        events.stream()
+                .filter(event -> event.getStartupStep().getParentId() == null)
+                .forEach(event -> log.info("Startup phase {}: {} ms", event.getStartupStep().getName(), event.getDuration().toMillis()));
+        events.stream()
+                .filter(event -> BEAN_INSTANTIATE_STEP.equals(event.getStartupStep().getName()))
+                .sorted(Comparator.comparing(StartupTimeline.TimelineEvent::getDuration).reversed())
+                .limit(SLOWEST_BEANS)
+                .forEach(event -> log.info("Slow bean {}: {} ms", beanName(event.getStartupStep()), event.getDuration().toMillis()));
+    }
+
+    private String beanName(StartupStep step) {
+        for (StartupStep.Tag tag : step.getTags()) {
+            if (BEAN_NAME_TAG.equals(tag.getKey())) {
+                return tag.getValue();
+            }
+        }
+        return step.getName();
+    }
+
+    // Native images have no HotSpot diagnostics.
+    private String sharedArchiveFile() {
+        try {
+            String archive = ManagementFactory.getPlatformMXBean(HotSpotDiagnosticMXBean.class).getVMOption("SharedArchiveFile").getValue();
+            return StringUtils.isEmpty(archive) ? "none" : archive;
+        } catch (RuntimeException e) {
+            return "unavailable";
+        }
     }
 }
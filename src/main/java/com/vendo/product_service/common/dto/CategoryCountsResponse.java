@@ -0,0 +1,22 @@
+package com.vendo.product_service.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CategoryCountsResponse {
+
+    private String category;
+
+    private long productCount;
+
+    private Map<String, Map<String, Long>> attributes;
+
+}
@@ -0,0 +1,18 @@
+package com.vendo.product_service.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class FacetCount {
+
+    private String value;
+
+    private long count;
+
+}
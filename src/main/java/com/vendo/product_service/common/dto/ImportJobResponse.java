@@ -0,0 +1,43 @@
+package com.vendo.product_service.common.dto;
+
+import com.vendo.product_service.common.type.ImportFormat;
+import com.vendo.product_service.common.type.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportJobResponse {
+
+    private String id;
+
+    private ImportFormat format;
+
+    private ImportJobStatus status;
+
+    private long processedRows;
+
+    private long insertedCount;
+
+    private long updatedCount;
+
+    private long failedCount;
+
+    private List<ImportRowErrorDto> errors;
+
+    private String message;
+
+    private Instant createdAt;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+}
@@ -0,0 +1,20 @@
+package com.vendo.product_service.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportRowErrorDto {
+
+    private long row;
+
+    private String sku;
+
+    private String message;
+
+}
@@ -0,0 +1,22 @@
+package com.vendo.product_service.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceBucketCount {
+
+    private BigDecimal from;
+
+    private BigDecimal to;
+
+    private long count;
+
+}
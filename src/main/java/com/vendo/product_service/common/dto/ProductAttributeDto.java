@@ -0,0 +1,21 @@
+package com.vendo.product_service.common.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductAttributeDto {
+
+    @NotBlank
+    private String name;
+
+    @NotBlank
+    private String value;
+
+}
@@ -0,0 +1,20 @@
+package com.vendo.product_service.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatchItem {
+
+    private String id;
+
+    private boolean found;
+
+    private ProductResponse product;
+
+}
@@ -0,0 +1,25 @@
+package com.vendo.product_service.common.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductBatchRequest {
+
+    public static final int MAX_IDS = 100;
+
+    @NotEmpty
+    @Size(max = MAX_IDS)
+    private List<@NotBlank String> ids;
+
+}
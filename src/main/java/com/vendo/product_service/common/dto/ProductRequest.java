@@ -0,0 +1,58 @@
+package com.vendo.product_service.common.dto;
+
+import com.vendo.product_service.common.type.ProductStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductRequest {
+
+    @NotBlank
+    @Size(max = 64)
+    private String sku;
+
+    @NotBlank
+    @Size(max = 200)
+    private String title;
+
+    @Size(max = 5000)
+    private String description;
+
+    @NotBlank
+    private String brand;
+
+    @NotEmpty
+    private List<@NotBlank String> categories;
+
+    private List<@Valid ProductAttributeDto> attributes;
+
+    @NotNull
+    @DecimalMin("0.00")
+    private BigDecimal price;
+
+    @NotBlank
+    @Size(min = 3, max = 3)
+    private String currency;
+
+    @NotNull
+    @PositiveOrZero
+    private Integer stock;
+
+    private ProductStatus status;
+
+}
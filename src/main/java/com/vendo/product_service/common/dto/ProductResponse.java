@@ -0,0 +1,49 @@
+package com.vendo.product_service.common.dto;
+
+import com.vendo.product_service.common.type.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductResponse {
+
+    private String id;
+
+    private String sellerId;
+
+    private String sku;
+
+    private String title;
+
+    private String description;
+
+    private String brand;
+
+    private List<String> categories;
+
+    private List<ProductAttributeDto> attributes;
+
+    private BigDecimal price;
+
+    private String currency;
+
+    private Integer stock;
+
+    private ProductStatus status;
+
+    private Long version;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,22 @@
+package com.vendo.product_service.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchFacets {
+
+    private List<FacetCount> categories;
+
+    private List<FacetCount> brands;
+
+    private List<PriceBucketCount> prices;
+
+}
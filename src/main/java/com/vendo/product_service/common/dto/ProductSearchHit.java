@@ -0,0 +1,28 @@
+package com.vendo.product_service.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchHit {
+
+    private String id;
+
+    private String title;
+
+    private String brand;
+
+    private BigDecimal price;
+
+    private String currency;
+
+    private float score;
+
+}
@@ -0,0 +1,26 @@
+package com.vendo.product_service.common.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationRequest {
+
+    public static final int MAX_QUANTITY = 100;
+
+    @NotBlank
+    private String productId;
+
+    @Min(1)
+    @Max(MAX_QUANTITY)
+    private int quantity;
+
+}
@@ -0,0 +1,24 @@
+package com.vendo.product_service.common.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationResponse {
+
+    private String id;
+
+    private String productId;
+
+    private int quantity;
+
+    private Instant expiresAt;
+
+}
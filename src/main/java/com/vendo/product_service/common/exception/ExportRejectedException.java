@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class ExportRejectedException extends RuntimeException {
+
+    public ExportRejectedException(String message) {
+        super(message);
+    }
+}
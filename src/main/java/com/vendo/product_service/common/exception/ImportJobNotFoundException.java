@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class ImportJobNotFoundException extends RuntimeException {
+
+    public ImportJobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class ImportRejectedException extends RuntimeException {
+
+    public ImportRejectedException(String message) {
+        super(message);
+    }
+}
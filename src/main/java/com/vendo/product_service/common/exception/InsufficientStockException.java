@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class InsufficientStockException extends RuntimeException {
+
+    public InsufficientStockException(String message) {
+        super(message);
+    }
+}
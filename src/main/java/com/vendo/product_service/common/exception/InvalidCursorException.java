@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class InvalidCursorException extends RuntimeException {
+
+    public InvalidCursorException(String message) {
+        super(message);
+    }
+}
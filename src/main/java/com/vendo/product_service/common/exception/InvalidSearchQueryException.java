@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class InvalidSearchQueryException extends RuntimeException {
+
+    public InvalidSearchQueryException(String message) {
+        super(message);
+    }
+}
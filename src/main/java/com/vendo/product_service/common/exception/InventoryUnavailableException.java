@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class InventoryUnavailableException extends RuntimeException {
+
+    public InventoryUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class ProductLoadTimeoutException extends RuntimeException {
+
+    public ProductLoadTimeoutException(String message) {
+        super(message);
+    }
+}
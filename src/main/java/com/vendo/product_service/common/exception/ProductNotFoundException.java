@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class ProductNotFoundException extends RuntimeException {
+
+    public ProductNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.exception;
+
+public class ReservationNotFoundException extends RuntimeException {
+
+    public ReservationNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,26 @@
+package com.vendo.product_service.common.exporting;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.export")
+public class ExportProperties {
+
+    private int cursorBatchSize = 1_000;
+
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+
+    private int maxConcurrentExports = 4;
+
+    // Exports stream for as long as the client keeps reading; other async requests keep the default timeout.
+    private Duration requestTimeout = Duration.ofHours(2);
+
+}
@@ -0,0 +1,47 @@
+package com.vendo.product_service.common.http;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.http.CacheControl;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.http-cache")
+public class HttpCacheProperties {
+
+    private Policy product = new Policy();
+
+    private Policy listing = new Policy();
+
+    @Setter
+    @Getter
+    public static class Policy {
+
+        private Duration maxAge = Duration.ZERO;
+
+        private boolean cachePublic = true;
+
+        private boolean mustRevalidate = true;
+
+        private Duration staleWhileRevalidate;
+
+        public CacheControl toCacheControl() {
+            CacheControl cacheControl = CacheControl.maxAge(maxAge);
+            if (cachePublic) {
+                cacheControl = cacheControl.cachePublic();
+            }
+            if (mustRevalidate) {
+                cacheControl = cacheControl.mustRevalidate();
+            }
+            if (staleWhileRevalidate != null) {
+                cacheControl = cacheControl.staleWhileRevalidate(staleWhileRevalidate);
+            }
+            return cacheControl;
+        }
+    }
+}
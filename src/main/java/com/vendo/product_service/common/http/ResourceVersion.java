@@ -0,0 +1,67 @@
+package com.vendo.product_service.common.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.http.ETag;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+
+public record ResourceVersion(String eTag, Instant lastModified) {
+
+    private static final String CONTENT_DIGEST = "SHA-256";
+
+    public static ResourceVersion of(Long version, Instant lastModified) {
+        return new ResourceVersion(version == null ? null : quote(version.toString()), lastModified);
+    }
+
+    // Hashes the same JSON the client receives, so the tag changes exactly when the response body does.
+    public static ResourceVersion ofContent(ObjectWriter writer, Object content) {
+        try {
+            byte[] digest = MessageDigest.getInstance(CONTENT_DIGEST).digest(writer.writeValueAsBytes(content));
+            return new ResourceVersion(quote(HexFormat.of().formatHex(digest)), null);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Failed to compute the content version", e);
+        }
+    }
+
+    public static boolean isConditional(HttpHeaders requestHeaders) {
+        return !requestHeaders.getIfNoneMatch().isEmpty() || requestHeaders.getIfModifiedSince() != -1;
+    }
+
+    public boolean matches(HttpHeaders requestHeaders) {
+        List<String> ifNoneMatch = requestHeaders.getIfNoneMatch();
+        if (!ifNoneMatch.isEmpty()) {
+            if (eTag == null) {
+                return false;
+            }
+
+            ETag current = ETag.create(eTag);
+            return ifNoneMatch.stream()
+                    .map(ETag::create)
+                    .anyMatch(candidate -> candidate.isWildcard() || candidate.compare(current, false));
+        }
+
+        long ifModifiedSince = requestHeaders.getIfModifiedSince();
+        return ifModifiedSince != -1 && lastModified != null && lastModified.getEpochSecond() * 1000 <= ifModifiedSince;
+    }
+
+    public <B extends ResponseEntity.HeadersBuilder<B>> B applyTo(B response) {
+        if (eTag != null) {
+            response.eTag(eTag);
+        }
+        if (lastModified != null) {
+            response.lastModified(lastModified);
+        }
+        return response;
+    }
+
+    private static String quote(String value) {
+        return "\"" + value + "\"";
+    }
+}
@@ -0,0 +1,7 @@
+package com.vendo.product_service.common.http;
+
+import com.vendo.product_service.common.dto.CursorPageResponse;
+
+// The version is computed once when the page is loaded and cached with it, so revalidation never re-serializes the page.
+public record VersionedPage<T>(CursorPageResponse<T> page, ResourceVersion version) {
+}
@@ -0,0 +1,11 @@
+package com.vendo.product_service.common.importing;
+
+import java.util.Map;
+import java.util.Set;
+
+public record BulkUpsertResult(Set<Integer> insertedIndexes, int updatedCount, Map<Integer, String> failures) {
+
+    public int insertedCount() {
+        return insertedIndexes.size();
+    }
+}
@@ -0,0 +1,125 @@
+package com.vendo.product_service.common.importing;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.vendo.product_service.common.dto.ProductAttributeDto;
+import com.vendo.product_service.common.dto.ProductRequest;
+import com.vendo.product_service.common.type.ProductStatus;
+import org.apache.commons.lang3.StringUtils;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads products from CSV with a header row. Multi-valued columns separate values with {@code |},
+ * attributes are written as {@code name:value}.
+ */
+public class CsvProductRowReader implements ProductRowReader {
+
+    private static final String VALUE_SEPARATOR = "\\|";
+
+    private static final char ATTRIBUTE_SEPARATOR = ':';
+
+    private final MappingIterator<String[]> rows;
+
+    private final Map<String, Integer> columns = new HashMap<>();
+
+    private long row = 1;
+
+    public CsvProductRowReader(MappingIterator<String[]> rows) {
+        this.rows = rows;
+        if (rows.hasNext()) {
+            String[] header = rows.next();
+            for (int i = 0; i < header.length; i++) {
+                columns.put(header[i].trim().toLowerCase(), i);
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return rows.hasNext();
+    }
+
+    @Override
+    public ImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String[] values = rows.next();
+        row++;
+        try {
+            return ImportRow.parsed(row, toProductRequest(values));
+        } catch (IllegalArgumentException e) {
+            return ImportRow.failed(row, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        rows.close();
+    }
+
+    private ProductRequest toProductRequest(String[] values) {
+        return ProductRequest.builder()
+                .sku(value(values, "sku"))
+                .title(value(values, "title"))
+                .description(value(values, "description"))
+                .brand(value(values, "brand"))
+                .categories(list(values, "categories"))
+                .attributes(list(values, "attributes").stream().map(this::toAttribute).toList())
+                .price(parse(values, "price", BigDecimal::new))
+                .currency(value(values, "currency"))
+                .stock(parse(values, "stock", Integer::valueOf))
+                .status(parse(values, "status", ProductStatus::valueOf))
+                .build();
+    }
+
+    private ProductAttributeDto toAttribute(String value) {
+        int separator = value.indexOf(ATTRIBUTE_SEPARATOR);
+        if (separator < 0) {
+            throw new IllegalArgumentException("attributes: expected name:value but was " + value);
+        }
+        return new ProductAttributeDto(value.substring(0, separator).trim(), value.substring(separator + 1).trim());
+    }
+
+    private List<String> list(String[] values, String column) {
+        String value = value(values, column);
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream(value.split(VALUE_SEPARATOR)).map(String::trim).filter(StringUtils::isNotEmpty).toList();
+    }
+
+    private <T> T parse(String[] values, String column, ValueParser<T> parser) {
+        String value = value(values, column);
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return parser.parse(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(column + ": invalid value " + value);
+        }
+    }
+
+    private String value(String[] values, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= values.length) {
+            return null;
+        }
+        return StringUtils.trimToNull(values[index]);
+    }
+
+    private interface ValueParser<T> {
+
+        T parse(String value);
+
+    }
+}
@@ -0,0 +1,28 @@
+package com.vendo.product_service.common.importing;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.import")
+public class ImportProperties {
+
+    private int batchSize = 1_000;
+
+    private int writeParallelism = 4;
+
+    private int maxConcurrentJobs = 2;
+
+    private int queueCapacity = 10;
+
+    private int maxErrors = 1_000;
+
+    private Path spoolDirectory = Path.of(System.getProperty("java.io.tmpdir"));
+
+}
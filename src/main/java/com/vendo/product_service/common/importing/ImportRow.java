@@ -0,0 +1,14 @@
+package com.vendo.product_service.common.importing;
+
+import com.vendo.product_service.common.dto.ProductRequest;
+
+public record ImportRow(long row, ProductRequest request, String error) {
+
+    public static ImportRow parsed(long row, ProductRequest request) {
+        return new ImportRow(row, request, null);
+    }
+
+    public static ImportRow failed(long row, String error) {
+        return new ImportRow(row, null, error);
+    }
+}
@@ -0,0 +1,66 @@
+package com.vendo.product_service.common.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.vendo.product_service.common.dto.ProductRequest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.NoSuchElementException;
+
+public class NdjsonProductRowReader implements ProductRowReader {
+
+    private final BufferedReader reader;
+
+    private final ObjectReader objectReader;
+
+    private long row;
+
+    private String nextLine;
+
+    public NdjsonProductRowReader(BufferedReader reader, ObjectReader objectReader) {
+        this.reader = reader;
+        this.objectReader = objectReader.forType(ProductRequest.class);
+    }
+
+    @Override
+    public boolean hasNext() {
+        try {
+            while (nextLine == null) {
+                String line = reader.readLine();
+                if (line == null) {
+                    return false;
+                }
+
+                row++;
+                if (!line.isBlank()) {
+                    nextLine = line;
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public ImportRow next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        String line = nextLine;
+        nextLine = null;
+        try {
+            return ImportRow.parsed(row, objectReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return ImportRow.failed(row, "Malformed JSON: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,7 @@
+package com.vendo.product_service.common.importing;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+public interface ProductRowReader extends Iterator<ImportRow>, Closeable {
+}
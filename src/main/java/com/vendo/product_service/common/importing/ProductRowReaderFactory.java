@@ -0,0 +1,42 @@
+package com.vendo.product_service.common.importing;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvParser;
+import com.vendo.product_service.common.type.ImportFormat;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+@Component
+public class ProductRowReaderFactory {
+
+    private final ObjectMapper objectMapper;
+
+    private final CsvMapper csvMapper;
+
+    public ProductRowReaderFactory(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.csvMapper = CsvMapper.builder()
+                .enable(CsvParser.Feature.WRAP_AS_ARRAY)
+                .enable(CsvParser.Feature.SKIP_EMPTY_LINES)
+                .build();
+    }
+
+    public ProductRowReader open(ImportFormat format, InputStream inputStream) throws IOException {
+        return switch (format) {
+            case CSV -> {
+                MappingIterator<String[]> rows = csvMapper.readerFor(String[].class).readValues(inputStream);
+                yield new CsvProductRowReader(rows);
+            }
+            case NDJSON -> new NdjsonProductRowReader(
+                    new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8)),
+                    objectMapper.reader());
+        };
+    }
+}
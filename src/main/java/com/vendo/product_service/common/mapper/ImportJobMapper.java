@@ -0,0 +1,15 @@
+package com.vendo.product_service.common.mapper;
+
+import com.vendo.product_service.common.dto.ImportJobResponse;
+import com.vendo.product_service.common.dto.ImportRowErrorDto;
+import com.vendo.product_service.model.ImportJob;
+import com.vendo.product_service.model.ImportRowError;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ImportJobMapper {
+
+    ImportJobResponse toImportJobResponse(ImportJob importJob);
+
+    ImportRowErrorDto toImportRowErrorDto(ImportRowError importRowError);
+}
@@ -0,0 +1,37 @@
+package com.vendo.product_service.common.mapper;
+
+import com.vendo.product_service.common.dto.ProductAttributeDto;
+import com.vendo.product_service.common.dto.ProductRequest;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.model.ProductAttribute;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+import org.mapstruct.NullValuePropertyMappingStrategy;
+
+@Mapper(componentModel = "spring")
+public interface ProductMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "sellerId", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "status", defaultValue = "DRAFT")
+    Product toProduct(ProductRequest productRequest);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "sellerId", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    @Mapping(target = "createdAt", ignore = true)
+    @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "status", nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    void updateProduct(ProductRequest productRequest, @MappingTarget Product product);
+
+    ProductResponse toProductResponse(Product product);
+
+    ProductAttribute toProductAttribute(ProductAttributeDto productAttributeDto);
+
+    ProductAttributeDto toProductAttributeDto(ProductAttribute productAttribute);
+}
@@ -0,0 +1,11 @@
+package com.vendo.product_service.common.mapper;
+
+import com.vendo.product_service.common.dto.ReservationResponse;
+import com.vendo.product_service.inventory.Reservation;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ReservationMapper {
+
+    ReservationResponse toReservationResponse(Reservation reservation);
+}
@@ -0,0 +1,18 @@
+package com.vendo.product_service.common.pagination;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.pagination")
+public class PaginationProperties {
+
+    private String cursorSecret;
+
+    private int maxPageSize = 100;
+
+}
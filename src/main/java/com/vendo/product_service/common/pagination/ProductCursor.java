@@ -0,0 +1,26 @@
+package com.vendo.product_service.common.pagination;
+
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.model.projection.ProductSummary;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ProductCursor(ProductSort sort, String filterKey, String sortValue, String id) {
+
+    public static ProductCursor after(ProductSummary productSummary, ProductSort sort, String filterKey) {
+        String sortValue = switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> productSummary.price().toPlainString();
+            case NEWEST -> String.valueOf(productSummary.createdAt().toEpochMilli());
+        };
+
+        return new ProductCursor(sort, filterKey, sortValue, productSummary.id());
+    }
+
+    public Object sortKey() {
+        return switch (sort) {
+            case PRICE_ASC, PRICE_DESC -> new BigDecimal(sortValue);
+            case NEWEST -> Instant.ofEpochMilli(Long.parseLong(sortValue));
+        };
+    }
+}
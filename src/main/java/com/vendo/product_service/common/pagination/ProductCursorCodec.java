@@ -0,0 +1,98 @@
+package com.vendo.product_service.common.pagination;
+
+import com.vendo.product_service.common.exception.InvalidCursorException;
+import com.vendo.product_service.common.type.ProductSort;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+@Slf4j
+@Component
+public class ProductCursorCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final String VERSION = "1";
+
+    private static final String FIELD_SEPARATOR = "|";
+
+    private static final String SIGNATURE_SEPARATOR = ".";
+
+    private static final int SIGNATURE_LENGTH = 16;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+
+    public ProductCursorCodec(PaginationProperties paginationProperties) {
+        this.key = new SecretKeySpec(resolveSecret(paginationProperties.getCursorSecret()), ALGORITHM);
+    }
+
+    public String encode(ProductCursor cursor) {
+        String payload = String.join(FIELD_SEPARATOR, VERSION, cursor.sort().name(), cursor.filterKey(), cursor.sortValue(), cursor.id());
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+
+        return ENCODER.encodeToString(payloadBytes) + SIGNATURE_SEPARATOR + ENCODER.encodeToString(sign(payloadBytes));
+    }
+
+    public ProductCursor decode(String token, ProductSort sort, String filterKey) {
+        try {
+            String[] parts = StringUtils.split(token, SIGNATURE_SEPARATOR);
+            if (parts.length != 2) {
+                throw new InvalidCursorException("Invalid cursor.");
+            }
+
+            byte[] payloadBytes = DECODER.decode(parts[0]);
+            if (!MessageDigest.isEqual(sign(payloadBytes), DECODER.decode(parts[1]))) {
+                throw new InvalidCursorException("Invalid cursor.");
+            }
+
+            String[] fields = StringUtils.splitPreserveAllTokens(new String(payloadBytes, StandardCharsets.UTF_8), FIELD_SEPARATOR);
+            if (fields.length != 5 || !VERSION.equals(fields[0])) {
+                throw new InvalidCursorException("Invalid cursor.");
+            }
+
+            if (!sort.name().equals(fields[1]) || !filterKey.equals(fields[2])) {
+                throw new InvalidCursorException("Cursor does not match the requested listing.");
+            }
+
+            ProductCursor cursor = new ProductCursor(sort, filterKey, fields[3], fields[4]);
+            cursor.sortKey();
+            return cursor;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("Invalid cursor.");
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return Arrays.copyOf(mac.doFinal(payload), SIGNATURE_LENGTH);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not supported.", e);
+        }
+    }
+
+    private static byte[] resolveSecret(String cursorSecret) {
+        if (StringUtils.isNotBlank(cursorSecret)) {
+            return cursorSecret.getBytes(StandardCharsets.UTF_8);
+        }
+
+        log.warn("product.pagination.cursor-secret is not set, cursors will only be valid on this instance.");
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
@@ -0,0 +1,7 @@
+package com.vendo.product_service.common.type;
+
+public enum ProductChangeType {
+    CREATED,
+    UPDATED,
+    ARCHIVED
+}
@@ -0,0 +1,17 @@
+package com.vendo.product_service.common.type;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+
+@Getter
+@RequiredArgsConstructor
+public enum ProductSort {
+    PRICE_ASC("price", Sort.Direction.ASC),
+    PRICE_DESC("price", Sort.Direction.DESC),
+    NEWEST("createdAt", Sort.Direction.DESC);
+
+    private final String field;
+
+    private final Sort.Direction direction;
+}
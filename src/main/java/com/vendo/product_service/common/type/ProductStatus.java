@@ -0,0 +1,8 @@
+package com.vendo.product_service.common.type;
+
+public enum ProductStatus {
+    DRAFT,
+    ACTIVE,
+    INACTIVE,
+    ARCHIVED
+}
@@ -0,0 +1,6 @@
+package com.vendo.product_service.common.type;
+
+public enum ReservationState {
+    RESERVED,
+    CONFIRMED
+}
@@ -0,0 +1,34 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.common.dto.CategoryCountsResponse;
+import com.vendo.product_service.service.CategoryCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/products/categories")
+@ConditionalOnProperty(prefix = "product.counts", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class CategoryCountController {
+
+    private final CategoryCountService categoryCountService;
+
+    @GetMapping("/counts")
+    public ResponseEntity<Map<String, Long>> findCategoryCounts() {
+        return ResponseEntity.ok(categoryCountService.findCategoryCounts());
+    }
+
+    @GetMapping("/{category}/counts")
+    public ResponseEntity<CategoryCountsResponse> findCategoryCounts(@PathVariable String category) {
+        return ResponseEntity.ok(categoryCountService.findCategoryCounts(category));
+    }
+}
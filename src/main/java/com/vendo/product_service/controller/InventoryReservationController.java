@@ -0,0 +1,50 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.common.dto.ReservationRequest;
+import com.vendo.product_service.common.dto.ReservationResponse;
+import com.vendo.product_service.service.InventoryReservationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/reservations")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnProperty(prefix = "product.inventory", name = "enabled", havingValue = "true")
+public class InventoryReservationController {
+
+    private final InventoryReservationService inventoryReservationService;
+
+    @PostMapping
+    public ResponseEntity<ReservationResponse> reserve(@AuthenticationPrincipal String userId,
+                                                       @Valid @RequestBody ReservationRequest reservationRequest) {
+        ReservationResponse reservation = inventoryReservationService.reserve(userId, reservationRequest);
+
+        return ResponseEntity.created(URI.create("/reservations/" + reservation.getId()))
+                .body(reservation);
+    }
+
+    @PostMapping("/{id}/confirmation")
+    public ResponseEntity<Void> confirm(@AuthenticationPrincipal String userId, @PathVariable String id) {
+        inventoryReservationService.confirm(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> release(@AuthenticationPrincipal String userId, @PathVariable String id) {
+        inventoryReservationService.release(userId, id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,83 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.common.dto.CursorPageResponse;
+import com.vendo.product_service.common.dto.ProductBatchItem;
+import com.vendo.product_service.common.dto.ProductBatchRequest;
+import com.vendo.product_service.common.dto.ProductBatchResponse;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.http.HttpCacheProperties;
+import com.vendo.product_service.common.http.ResourceVersion;
+import com.vendo.product_service.common.http.VersionedPage;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.model.projection.ProductSummary;
+import com.vendo.product_service.service.ProductService;
+import com.vendo.product_service.warmup.HotProductTracker;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/products")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProductController {
+
+    private final ProductService productService;
+
+    private final HttpCacheProperties httpCacheProperties;
+
+    private final HotProductTracker hotProductTracker;
+
+    // Reads are tracked only once the product is known to exist, so random ids cannot crowd out hot products.
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductResponse> findById(@PathVariable String id, @RequestHeader HttpHeaders requestHeaders) {
+        CacheControl cacheControl = httpCacheProperties.getProduct().toCacheControl();
+        if (ResourceVersion.isConditional(requestHeaders)) {
+            ResourceVersion version = productService.findActiveVersion(id);
+            if (version.matches(requestHeaders)) {
+                hotProductTracker.record(id);
+                return version.applyTo(ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl)).build();
+            }
+        }
+
+        ProductResponse product = productService.findActiveById(id);
+        hotProductTracker.record(id);
+        return ResourceVersion.of(product.getVersion(), product.getUpdatedAt())
+                .applyTo(ResponseEntity.ok().cacheControl(cacheControl))
+                .body(product);
+    }
+
+    // The page and its ETag usually come from the listing cache; a matching ETag then skips serialization entirely.
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<ProductSummary>> findByCategory(@RequestParam String category,
+                                                                             @RequestParam(defaultValue = "PRICE_ASC") ProductSort sort,
+                                                                             @RequestParam(required = false) String cursor,
+                                                                             @RequestParam(defaultValue = "20") int limit) {
+        VersionedPage<ProductSummary> page = productService.findActiveByCategory(category, sort, cursor, limit);
+        return page.version()
+                .applyTo(ResponseEntity.ok().cacheControl(httpCacheProperties.getListing().toCacheControl()))
+                .body(page.page());
+    }
+
+    @PostMapping("/batch")
+    public ResponseEntity<ProductBatchResponse> findBatch(@Valid @RequestBody ProductBatchRequest productBatchRequest) {
+        ProductBatchResponse productBatchResponse = productService.findActiveByIds(productBatchRequest.getIds());
+        hotProductTracker.recordAll(productBatchResponse.getItems().stream()
+                .filter(ProductBatchItem::isFound)
+                .map(ProductBatchItem::getId)
+                .toList());
+        return ResponseEntity.ok(productBatchResponse);
+    }
+}
@@ -0,0 +1,64 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.common.exporting.ExportProperties;
+import com.vendo.product_service.service.ProductExportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncManager;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.concurrent.Callable;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/exports/products")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProductExportController {
+
+    private static final String GZIP = "gzip";
+
+    private static final String EXPORT_SLOT = ProductExportController.class.getName() + ".exportSlot";
+
+    private final ProductExportService productExportService;
+
+    private final ExportProperties exportProperties;
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportActive(@RequestParam(required = false) String after,
+                                                              @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                              HttpServletRequest request) {
+        productExportService.reserve(after);
+
+        // Completion also fires when the body never runs, e.g. the executor rejected it or the client left before dispatch.
+        WebAsyncManager asyncManager = WebAsyncUtils.getAsyncManager(request);
+        asyncManager.getAsyncWebRequest().setTimeout(exportProperties.getRequestTimeout().toMillis());
+        asyncManager.registerCallableInterceptor(EXPORT_SLOT, new CallableProcessingInterceptor() {
+            @Override
+            public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                productExportService.release();
+            }
+        });
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains(GZIP);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        return response.body(outputStream -> productExportService.exportActive(after, gzip, outputStream));
+    }
+}
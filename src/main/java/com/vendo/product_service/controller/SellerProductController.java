@@ -0,0 +1,66 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.common.dto.CursorPageResponse;
+import com.vendo.product_service.common.dto.ProductRequest;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.projection.ProductSummary;
+import com.vendo.product_service.service.ProductService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/seller/products")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SellerProductController {
+
+    private final ProductService productService;
+
+    @PostMapping
+    public ResponseEntity<ProductResponse> create(@AuthenticationPrincipal String sellerId,
+                                                  @Valid @RequestBody ProductRequest productRequest) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(productService.create(sellerId, productRequest));
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ProductResponse> findById(@AuthenticationPrincipal String sellerId, @PathVariable String id) {
+        return ResponseEntity.ok(productService.findSellerProduct(sellerId, id));
+    }
+
+    @GetMapping
+    public ResponseEntity<CursorPageResponse<ProductSummary>> findAll(@AuthenticationPrincipal String sellerId,
+                                                                      @RequestParam(defaultValue = "ACTIVE") ProductStatus status,
+                                                                      @RequestParam(defaultValue = "NEWEST") ProductSort sort,
+                                                                      @RequestParam(required = false) String cursor,
+                                                                      @RequestParam(defaultValue = "20") int limit) {
+        return ResponseEntity.ok(productService.findSellerProducts(sellerId, status, sort, cursor, limit));
+    }
+
+    @PutMapping("/{id}")
+    public ResponseEntity<ProductResponse> update(@AuthenticationPrincipal String sellerId,
+                                                  @PathVariable String id,
+                                                  @Valid @RequestBody ProductRequest productRequest) {
+        return ResponseEntity.ok(productService.update(sellerId, id, productRequest));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> archive(@AuthenticationPrincipal String sellerId, @PathVariable String id) {
+        productService.archive(sellerId, id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,44 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.common.dto.ImportJobResponse;
+import com.vendo.product_service.common.type.ImportFormat;
+import com.vendo.product_service.service.ProductImportService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/seller/products/imports")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SellerProductImportController {
+
+    private final ProductImportService productImportService;
+
+    @PostMapping(consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<ImportJobResponse> startImport(@AuthenticationPrincipal String sellerId,
+                                                         HttpServletRequest request) throws IOException {
+        ImportFormat format = ImportFormat.of(MediaType.parseMediaType(request.getContentType()));
+        ImportJobResponse importJob = productImportService.startImport(sellerId, format, request.getInputStream());
+
+        return ResponseEntity.accepted()
+                .location(URI.create("/seller/products/imports/" + importJob.getId()))
+                .body(importJob);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<ImportJobResponse> findById(@AuthenticationPrincipal String sellerId, @PathVariable String id) {
+        return ResponseEntity.ok(productImportService.findJob(sellerId, id));
+    }
+}
@@ -0,0 +1,21 @@
+package com.vendo.product_service.counts;
+
+import java.time.Instant;
+import java.util.Map;
+
+public record CategoryCountSnapshot(
+        Map<String, Long> categories,
+        Map<String, Map<String, Map<String, Long>>> attributes,
+        Instant builtAt
+) {
+
+    static final CategoryCountSnapshot EMPTY = new CategoryCountSnapshot(Map.of(), Map.of(), Instant.EPOCH);
+
+    public long productCount(String category) {
+        return categories.getOrDefault(category, 0L);
+    }
+
+    public Map<String, Map<String, Long>> attributeCounts(String category) {
+        return attributes.getOrDefault(category, Map.of());
+    }
+}
@@ -0,0 +1,24 @@
+package com.vendo.product_service.counts;
+
+import com.vendo.product_service.readiness.StartupCheck;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.counts", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryCountStartupCheck implements StartupCheck {
+
+    private final CategoryCountUpdater categoryCountUpdater;
+
+    @Override
+    public String name() {
+        return "category-counts";
+    }
+
+    @Override
+    public boolean isReady() {
+        return categoryCountUpdater.isReconciled();
+    }
+}
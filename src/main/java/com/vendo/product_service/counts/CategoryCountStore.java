@@ -0,0 +1,87 @@
+package com.vendo.product_service.counts;
+
+import com.vendo.product_service.model.Product;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(prefix = "product.counts", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryCountStore {
+
+    private final AtomicReference<CategoryCountSnapshot> snapshot = new AtomicReference<>(CategoryCountSnapshot.EMPTY);
+
+    private final Object lock = new Object();
+
+    private CategoryCountTally tally = new CategoryCountTally();
+
+    private Set<String> changedDuringReconcile;
+
+    private boolean dirty;
+
+    public CategoryCountSnapshot snapshot() {
+        return snapshot.get();
+    }
+
+    public void apply(Collection<String> ids, Collection<Product> current) {
+        Map<String, Product> products = current.stream().collect(Collectors.toMap(Product::getId, Function.identity(), (a, b) -> b));
+
+        synchronized (lock) {
+            ids.forEach(id -> tally.replace(id, products.get(id)));
+            if (changedDuringReconcile != null) {
+                changedDuringReconcile.addAll(ids);
+            }
+            dirty = true;
+        }
+    }
+
+    CategoryCountTally beginReconcile() {
+        synchronized (lock) {
+            changedDuringReconcile = new HashSet<>();
+        }
+        return new CategoryCountTally();
+    }
+
+    // Returns the products changed while the scan ran; the caller re-reads them because the scan may have seen older versions.
+    Set<String> completeReconcile(CategoryCountTally reconciled) {
+        Set<String> changed;
+        synchronized (lock) {
+            tally = reconciled;
+            changed = changedDuringReconcile;
+            changedDuringReconcile = null;
+            dirty = true;
+        }
+
+        publish();
+        return changed;
+    }
+
+    void abortReconcile() {
+        synchronized (lock) {
+            changedDuringReconcile = null;
+        }
+    }
+
+    // Rebuilding the snapshot is proportional to the number of facet values, so changes are batched between publishes.
+    @Scheduled(fixedDelayString = "${product.counts.publish-interval-ms:1000}")
+    public void publish() {
+        CategoryCountSnapshot next;
+        synchronized (lock) {
+            if (!dirty) {
+                return;
+            }
+            next = tally.toSnapshot();
+            dirty = false;
+        }
+
+        snapshot.set(next);
+    }
+}
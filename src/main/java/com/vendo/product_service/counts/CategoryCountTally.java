@@ -0,0 +1,116 @@
+package com.vendo.product_service.counts;
+
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.model.ProductAttribute;
+import org.apache.commons.lang3.StringUtils;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Not thread-safe; CategoryCountStore guards every instance with its lock.
+class CategoryCountTally {
+
+    private final Map<FacetKey, Count> counts = new HashMap<>();
+
+    // What each active product currently adds to the counts, so a change can be applied as a delta.
+    private final Map<String, FacetKey[]> contributions = new HashMap<>();
+
+    void replace(String id, Product product) {
+        FacetKey[] current = product != null && product.getStatus() == ProductStatus.ACTIVE ? keysOf(product) : null;
+        FacetKey[] previous = current == null ? contributions.remove(id) : contributions.put(id, current);
+
+        // Adding first keeps keys shared by both sides alive while the previous ones are released.
+        adjust(current, 1);
+        adjust(previous, -1);
+    }
+
+    int facetCount() {
+        return counts.size();
+    }
+
+    CategoryCountSnapshot toSnapshot() {
+        Map<String, Long> categories = new HashMap<>();
+        Map<String, Map<String, Map<String, Long>>> attributes = new HashMap<>();
+
+        for (Count count : counts.values()) {
+            FacetKey key = count.key;
+            if (count.value <= 0) {
+                continue;
+            }
+
+            if (key.isCategory()) {
+                categories.put(key.category(), count.value);
+            } else {
+                attributes.computeIfAbsent(key.category(), category -> new HashMap<>())
+                        .computeIfAbsent(key.attribute(), attribute -> new HashMap<>())
+                        .put(key.value(), count.value);
+            }
+        }
+
+        return new CategoryCountSnapshot(Map.copyOf(categories), immutableCopy(attributes), Instant.now());
+    }
+
+    private void adjust(FacetKey[] keys, int delta) {
+        if (keys == null) {
+            return;
+        }
+
+        // Values that no active product carries any more are dropped, so retired facets do not accumulate.
+        for (FacetKey key : keys) {
+            Count count = counts.get(key);
+            count.value += delta;
+            if (count.value == 0) {
+                counts.remove(key);
+            }
+        }
+    }
+
+    // Keys are interned through the counts map so that contributions share one instance per facet value.
+    private FacetKey[] keysOf(Product product) {
+        Set<FacetKey> keys = new LinkedHashSet<>();
+        if (product.getCategories() != null) {
+            for (String category : product.getCategories()) {
+                if (StringUtils.isBlank(category)) {
+                    continue;
+                }
+
+                keys.add(FacetKey.category(category));
+                if (product.getAttributes() != null) {
+                    for (ProductAttribute attribute : product.getAttributes()) {
+                        if (attribute != null && attribute.name() != null && attribute.value() != null) {
+                            keys.add(new FacetKey(category, attribute.name(), attribute.value()));
+                        }
+                    }
+                }
+            }
+        }
+
+        return keys.stream()
+                .map(key -> counts.computeIfAbsent(key, Count::new).key)
+                .toArray(FacetKey[]::new);
+    }
+
+    private static Map<String, Map<String, Map<String, Long>>> immutableCopy(Map<String, Map<String, Map<String, Long>>> attributes) {
+        return attributes.entrySet().stream().collect(Collectors.toUnmodifiableMap(
+                Map.Entry::getKey,
+                category -> category.getValue().entrySet().stream().collect(Collectors.toUnmodifiableMap(
+                        Map.Entry::getKey,
+                        attribute -> Map.copyOf(attribute.getValue())))));
+    }
+
+    private static final class Count {
+
+        private final FacetKey key;
+
+        private long value;
+
+        private Count(FacetKey key) {
+            this.key = key;
+        }
+    }
+}
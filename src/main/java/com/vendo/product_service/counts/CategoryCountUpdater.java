@@ -0,0 +1,138 @@
+package com.vendo.product_service.counts;
+
+import com.vendo.product_service.counts.config.CategoryCountProperties;
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.counts", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryCountUpdater {
+
+    private final CategoryCountStore categoryCountStore;
+
+    private final ProductRepository productRepository;
+
+    private final CategoryCountProperties categoryCountProperties;
+
+    private final Timer reconcileTimer;
+
+    private final AtomicBoolean reconciling = new AtomicBoolean();
+
+    private volatile boolean reconciledOnce;
+
+    public CategoryCountUpdater(CategoryCountStore categoryCountStore, ProductRepository productRepository,
+                                CategoryCountProperties categoryCountProperties, MeterRegistry meterRegistry) {
+        this.categoryCountStore = categoryCountStore;
+        this.productRepository = productRepository;
+        this.categoryCountProperties = categoryCountProperties;
+        this.reconcileTimer = Timer.builder("product.counts.reconcile")
+                .description("Duration of a full category count reconciliation")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(
+            topics = "${product.events.topic:product-events}",
+            groupId = "${spring.application.name}-counts-${random.uuid}",
+            batch = "true",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onChanges(List<ConsumerRecord<String, ProductChangedEvent>> records) {
+        Set<String> ids = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .map(ProductChangedEvent::productId)
+                .collect(Collectors.toSet());
+
+        if (!ids.isEmpty()) {
+            categoryCountStore.apply(ids, productRepository.findFacetsByIdIn(ids));
+        }
+    }
+
+    public boolean isReconciled() {
+        return reconciledOnce;
+    }
+
+    // The first run builds the counts; later runs correct any drift from missed or failed events.
+    @Scheduled(fixedDelayString = "${product.counts.reconcile.interval-ms:900000}")
+    public void reconcile() {
+        if (!reconciling.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            reconcileAll();
+        } finally {
+            reconciling.set(false);
+        }
+    }
+
+    // Until the first run succeeds the counts are empty and readiness waits on them, so a failed run is retried sooner.
+    @Scheduled(fixedDelayString = "${product.counts.reconcile.retry-interval-ms:30000}")
+    public void retryInitialReconcile() {
+        if (!reconciledOnce) {
+            reconcile();
+        }
+    }
+
+    private void reconcileAll() {
+        CategoryCountProperties.Reconcile properties = categoryCountProperties.getReconcile();
+        CategoryCountTally reconciled = categoryCountStore.beginReconcile();
+        long startedAt = System.nanoTime();
+        long scanned = 0;
+
+        try (Stream<Product> products = productRepository.streamActiveFacets(properties.getBatchSize())) {
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                Product product = iterator.next();
+                reconciled.replace(product.getId(), product);
+                if (++scanned % properties.getBatchSize() == 0) {
+                    throttle(scanned, startedAt, properties.getMaxDocumentsPerSecond());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            categoryCountStore.abortReconcile();
+            return;
+        } catch (RuntimeException e) {
+            categoryCountStore.abortReconcile();
+            log.warn("Failed to reconcile category counts after {} products", scanned, e);
+            return;
+        }
+
+        Set<String> changed = categoryCountStore.completeReconcile(reconciled);
+        if (!changed.isEmpty()) {
+            categoryCountStore.apply(changed, productRepository.findFacetsByIdIn(changed));
+        }
+
+        reconciledOnce = true;
+        reconcileTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        log.info("Reconciled category counts from {} active products", scanned);
+    }
+
+    private void throttle(long scanned, long startedAt, int maxDocumentsPerSecond) throws InterruptedException {
+        long expectedNanos = TimeUnit.SECONDS.toNanos(scanned) / maxDocumentsPerSecond;
+        long aheadNanos = expectedNanos - (System.nanoTime() - startedAt);
+        if (aheadNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(aheadNanos);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.vendo.product_service.counts;
+
+record FacetKey(String category, String attribute, String value) {
+
+    static FacetKey category(String category) {
+        return new FacetKey(category, null, null);
+    }
+
+    boolean isCategory() {
+        return attribute == null;
+    }
+}
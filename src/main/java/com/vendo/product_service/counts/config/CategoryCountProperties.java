@@ -0,0 +1,33 @@
+package com.vendo.product_service.counts.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.counts")
+public class CategoryCountProperties {
+
+    private boolean enabled = true;
+
+    private long publishIntervalMs = 1_000;
+
+    private Reconcile reconcile = new Reconcile();
+
+    @Setter
+    @Getter
+    public static class Reconcile {
+
+        private long intervalMs = 900_000;
+
+        private long retryIntervalMs = 30_000;
+
+        private int batchSize = 500;
+
+        private int maxDocumentsPerSecond = 5_000;
+
+    }
+}
@@ -0,0 +1,15 @@
+package com.vendo.product_service.event;
+
+import com.vendo.product_service.common.type.ReservationState;
+
+import java.time.Instant;
+
+public record InventoryReservationEvent(
+        ReservationState state,
+        String reservationId,
+        String productId,
+        String userId,
+        int quantity,
+        Instant expiresAt
+) {
+}
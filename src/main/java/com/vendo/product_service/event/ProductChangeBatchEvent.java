@@ -0,0 +1,6 @@
+package com.vendo.product_service.event;
+
+import java.util.List;
+
+public record ProductChangeBatchEvent(List<ProductChangedEvent> changes) {
+}
@@ -0,0 +1,16 @@
+package com.vendo.product_service.event;
+
+import com.vendo.product_service.common.type.ProductChangeType;
+
+import java.time.Instant;
+import java.util.Set;
+
+public record ProductChangedEvent(
+        ProductChangeType type,
+        String productId,
+        String sellerId,
+        Set<String> categories,
+        Long version,
+        Instant occurredAt
+) {
+}
@@ -0,0 +1,31 @@
+package com.vendo.product_service.event.config;
+
+import com.vendo.product_service.inventory.config.InventoryProperties;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+
+@Configuration
+public class KafkaTopicConfig {
+
+    @Bean
+    public NewTopic productEventsTopic(ProductEventProperties productEventProperties) {
+        return TopicBuilder.name(productEventProperties.getTopic())
+                .partitions(productEventProperties.getPartitions())
+                .replicas(productEventProperties.getReplicas())
+                .build();
+    }
+
+    // Compaction keeps the latest state per reservation and drops closed ones, which bounds the rebuild.
+    @Bean
+    @ConditionalOnProperty(prefix = "product.inventory", name = "enabled", havingValue = "true")
+    public NewTopic inventoryReservationsTopic(InventoryProperties inventoryProperties) {
+        return TopicBuilder.name(inventoryProperties.getTopic())
+                .partitions(inventoryProperties.getPartitions())
+                .replicas(inventoryProperties.getReplicas())
+                .compact()
+                .build();
+    }
+}
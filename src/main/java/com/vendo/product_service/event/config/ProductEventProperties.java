@@ -0,0 +1,44 @@
+package com.vendo.product_service.event.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.events")
+public class ProductEventProperties {
+
+    private boolean enabled = true;
+
+    private String topic = "product-events";
+
+    private int partitions = 6;
+
+    private short replicas = 1;
+
+    private Relay relay = new Relay();
+
+    @Setter
+    @Getter
+    public static class Relay {
+
+        private long intervalMs = 200;
+
+        private int batchSize = 500;
+
+        private int maxBatchesPerRun = 10;
+
+        private Duration sendTimeout = Duration.ofSeconds(10);
+
+        private Duration lockTimeToLive = Duration.ofSeconds(30);
+
+        // Failures Kafka reports as retriable, such as an unavailable broker, do not count towards this.
+        private int maxAttempts = 5;
+
+    }
+}
@@ -0,0 +1,38 @@
+package com.vendo.product_service.event.outbox;
+
+import com.vendo.product_service.event.ProductChangeBatchEvent;
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.model.OutboxEvent;
+import com.vendo.product_service.repository.OutboxEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// Shares its condition with ProductOutboxRelay: without the relay nothing would ever drain the outbox.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.events", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxEventWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    // Runs synchronously on the publishing thread, so the insert joins the product write transaction.
+    @EventListener
+    public void write(ProductChangedEvent event) {
+        outboxEventRepository.insert(toOutboxEvent(event));
+    }
+
+    @EventListener
+    public void writeAll(ProductChangeBatchEvent batch) {
+        outboxEventRepository.insert(batch.changes().stream().map(this::toOutboxEvent).toList());
+    }
+
+    private OutboxEvent toOutboxEvent(ProductChangedEvent event) {
+        return OutboxEvent.builder()
+                .aggregateId(event.productId())
+                .payload(event)
+                .createdAt(event.occurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,45 @@
+package com.vendo.product_service.event.outbox;
+
+import com.vendo.product_service.event.config.ProductEventProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Component
+@RequiredArgsConstructor
+public class OutboxRelayLock {
+
+    private static final String COLLECTION = "outbox_relay_lock";
+
+    private static final String LOCK_ID = "product-outbox-relay";
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final MongoTemplate mongoTemplate;
+
+    private final ProductEventProperties productEventProperties;
+
+    public boolean tryAcquire() {
+        Instant now = Instant.now();
+        Query query = Query.query(where("_id").is(LOCK_ID)
+                .orOperator(where("lockedUntil").lte(now), where("owner").is(owner)));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("lockedUntil", now.plus(productEventProperties.getRelay().getLockTimeToLive()));
+
+        try {
+            mongoTemplate.upsert(query, update, COLLECTION);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.vendo.product_service.event.outbox;
+
+import com.vendo.product_service.event.config.ProductEventProperties;
+import com.vendo.product_service.model.OutboxEvent;
+import com.vendo.product_service.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.events", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductOutboxRelay {
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final OutboxRelayLock outboxRelayLock;
+
+    private final ProductEventProperties productEventProperties;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+
+    private final Timer deliveryTimer;
+
+    private final Counter failureCounter;
+
+    private final Counter parkedCounter;
+
+    public ProductOutboxRelay(OutboxEventRepository outboxEventRepository, KafkaTemplate<String, Object> kafkaTemplate,
+                              OutboxRelayLock outboxRelayLock, ProductEventProperties productEventProperties,
+                              MeterRegistry meterRegistry) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.kafkaTemplate = kafkaTemplate;
+        this.outboxRelayLock = outboxRelayLock;
+        this.productEventProperties = productEventProperties;
+
+        TimeGauge.builder("product.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::doubleValue)
+                .description("Age of the oldest undelivered outbox event")
+                .register(meterRegistry);
+        this.deliveryTimer = Timer.builder("product.outbox.delivery")
+                .description("Time from outbox write to Kafka acknowledgement")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("product.outbox.failures")
+                .register(meterRegistry);
+        this.parkedCounter = Counter.builder("product.outbox.parked")
+                .description("Outbox events given up on after a non-retriable failure")
+                .register(meterRegistry);
+    }
+
+    // The lease is renewed before every batch and a batch never outlasts the send timeout, so as long as that stays
+    // below lock-time-to-live no other instance can take over while a batch is in flight.
+    @Scheduled(fixedDelayString = "${product.events.relay.interval-ms:200}")
+    public void relay() {
+        ProductEventProperties.Relay properties = productEventProperties.getRelay();
+        for (int i = 0; i < properties.getMaxBatchesPerRun(); i++) {
+            if (!outboxRelayLock.tryAcquire()) {
+                lagMillis.set(0);
+                return;
+            }
+
+            List<OutboxEvent> batch = outboxEventRepository.findByParkedAtIsNullOrderByCreatedAtAscIdAsc(Limit.of(properties.getBatchSize()));
+            lagMillis.set(batch.isEmpty() ? 0 : Duration.between(batch.get(0).getCreatedAt(), Instant.now()).toMillis());
+
+            if (batch.isEmpty() || send(batch) < batch.size() || batch.size() < properties.getBatchSize()) {
+                return;
+            }
+        }
+    }
+
+    private int send(List<OutboxEvent> batch) {
+        String topic = productEventProperties.getTopic();
+        List<CompletableFuture<SendResult<String, Object>>> results = new ArrayList<>(batch.size());
+        for (OutboxEvent event : batch) {
+            results.add(sendAsync(topic, event));
+        }
+
+        // Only the acknowledged prefix is removed so a retry never reorders events of the same product.
+        List<String> delivered = new ArrayList<>(batch.size());
+        long deadline = System.nanoTime() + productEventProperties.getRelay().getSendTimeout().toNanos();
+        try {
+            for (int i = 0; i < batch.size(); i++) {
+                results.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                delivered.add(batch.get(i).getId());
+                deliveryTimer.record(Duration.between(batch.get(i).getCreatedAt(), Instant.now()));
+            }
+        } catch (ExecutionException e) {
+            failureCounter.increment();
+            recordFailure(batch.get(delivered.size()), e.getCause());
+        } catch (TimeoutException e) {
+            failureCounter.increment();
+            log.warn("Failed to relay outbox event {}, retrying on next run.", batch.get(delivered.size()).getId(), e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (!delivered.isEmpty()) {
+            outboxEventRepository.deleteAllById(delivered);
+        }
+        return delivered.size();
+    }
+
+    // Serialization errors are thrown by send itself rather than reported through the future.
+    private CompletableFuture<SendResult<String, Object>> sendAsync(String topic, OutboxEvent event) {
+        try {
+            return kafkaTemplate.send(topic, event.getAggregateId(), event.getPayload());
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    // An event Kafka will never accept would otherwise hold back every later event, so it is parked after too many
+    // attempts, or at once when it can never succeed. Parking gives up ordering for that one product event.
+    private void recordFailure(OutboxEvent event, Throwable failure) {
+        if (hasCause(failure, RetriableException.class)) {
+            log.warn("Failed to relay outbox event {}, retrying on next run.", event.getId(), failure);
+            return;
+        }
+
+        event.setAttempts(event.getAttempts() + 1);
+        int maxAttempts = productEventProperties.getRelay().getMaxAttempts();
+        if (event.getAttempts() >= maxAttempts || hasCause(failure, RecordTooLargeException.class)
+                || hasCause(failure, SerializationException.class)) {
+            event.setParkedAt(Instant.now());
+            parkedCounter.increment();
+            log.error("Parking outbox event {} of product {} after {} failed attempts.",
+                    event.getId(), event.getAggregateId(), event.getAttempts(), failure);
+        } else {
+            log.warn("Failed to relay outbox event {} (attempt {} of {}), retrying on next run.",
+                    event.getId(), event.getAttempts(), maxAttempts, failure);
+        }
+        outboxEventRepository.save(event);
+    }
+
+    private static boolean hasCause(Throwable failure, Class<? extends Throwable> type) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
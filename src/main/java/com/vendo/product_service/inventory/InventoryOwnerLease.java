@@ -0,0 +1,50 @@
+package com.vendo.product_service.inventory;
+
+import com.vendo.product_service.inventory.config.InventoryProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.inventory", name = "enabled", havingValue = "true")
+public class InventoryOwnerLease {
+
+    private static final String COLLECTION = "inventory_owner_lease";
+
+    private static final String LEASE_ID = "inventory-reservations";
+
+    private final String owner = UUID.randomUUID().toString();
+
+    private final MongoTemplate mongoTemplate;
+
+    private final InventoryProperties inventoryProperties;
+
+    // The returned expiry is computed before the write, so it never outlasts the one stored.
+    public Optional<Instant> tryAcquire() {
+        Instant now = Instant.now();
+        Instant lockedUntil = now.plus(inventoryProperties.getLeaseTimeToLive());
+        Query query = Query.query(where("_id").is(LEASE_ID)
+                .orOperator(where("lockedUntil").lte(now), where("owner").is(owner)));
+        Update update = new Update()
+                .set("owner", owner)
+                .set("lockedUntil", lockedUntil);
+
+        try {
+            mongoTemplate.upsert(query, update, COLLECTION);
+            return Optional.of(lockedUntil);
+        } catch (DuplicateKeyException e) {
+            return Optional.empty();
+        }
+    }
+}
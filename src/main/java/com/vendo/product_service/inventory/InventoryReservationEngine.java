@@ -0,0 +1,447 @@
+package com.vendo.product_service.inventory;
+
+import com.vendo.product_service.common.exception.InsufficientStockException;
+import com.vendo.product_service.common.exception.InventoryUnavailableException;
+import com.vendo.product_service.common.exception.ProductNotFoundException;
+import com.vendo.product_service.common.exception.ReservationNotFoundException;
+import com.vendo.product_service.common.type.ProductChangeType;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.common.type.ReservationState;
+import com.vendo.product_service.event.InventoryReservationEvent;
+import com.vendo.product_service.event.ProductChangeBatchEvent;
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.inventory.config.InventoryProperties;
+import com.vendo.product_service.readiness.StartupCheck;
+import com.vendo.product_service.repository.ProductRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Reserves stock in memory so that a flash sale on one product does not serialize on its Mongo document. Each
+ * product's available units live in a {@link StripedStockCounter}, holds expire after a time to live, confirmed
+ * units are written to Mongo in periodic batches and every state change is appended to the {@link ReservationLog},
+ * from which holds and unflushed sales are rebuilt after a restart.
+ * <p>
+ * The counters are only correct while one instance owns all reservations, so reservations require a single-replica
+ * deployment: {@code product.inventory.enabled} is set on exactly one instance, rolled out stop-before-start, and
+ * {@code /reservations} is routed to it. The {@link InventoryOwnerLease} enforces this: an instance that cannot take
+ * the lease never passes its startup check, so it is not registered for traffic, and it logs an error instead of
+ * answering every reservation as unavailable. A new owner drops whatever it held before and rebuilds from the log
+ * and Mongo.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.inventory", name = "enabled", havingValue = "true")
+public class InventoryReservationEngine implements StartupCheck {
+
+    private final Map<String, ProductStock> stock = new ConcurrentHashMap<>();
+
+    private final Map<String, Reservation> holds = new ConcurrentHashMap<>();
+
+    private final Map<String, Queue<Reservation>> sold = new ConcurrentHashMap<>();
+
+    private final ProductRepository productRepository;
+
+    private final ReservationLog reservationLog;
+
+    private final InventoryOwnerLease inventoryOwnerLease;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final InventoryProperties inventoryProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final Clock clock;
+
+    private final int stripes;
+
+    private volatile Instant ownedUntil;
+
+    private volatile boolean rebuilt;
+
+    private volatile boolean contested;
+
+    @Autowired
+    public InventoryReservationEngine(ProductRepository productRepository, ReservationLog reservationLog,
+                                      InventoryOwnerLease inventoryOwnerLease, ApplicationEventPublisher applicationEventPublisher,
+                                      InventoryProperties inventoryProperties, MongoTransactionManager transactionManager) {
+        this(productRepository, reservationLog, inventoryOwnerLease, applicationEventPublisher, inventoryProperties,
+                transactionManager, Clock.systemUTC());
+    }
+
+    InventoryReservationEngine(ProductRepository productRepository, ReservationLog reservationLog,
+                               InventoryOwnerLease inventoryOwnerLease, ApplicationEventPublisher applicationEventPublisher,
+                               InventoryProperties inventoryProperties, MongoTransactionManager transactionManager, Clock clock) {
+        this.productRepository = productRepository;
+        this.reservationLog = reservationLog;
+        this.inventoryOwnerLease = inventoryOwnerLease;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.inventoryProperties = inventoryProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.clock = clock;
+        this.stripes = inventoryProperties.getStripes() > 0 ? inventoryProperties.getStripes() : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public String name() {
+        return "inventory";
+    }
+
+    // A second replica stays out of rotation: it would only answer reservations as unavailable.
+    @Override
+    public boolean isReady() {
+        return isServing();
+    }
+
+    public Reservation reserve(String userId, String productId, int quantity) {
+        ensureOwner();
+        ProductStock productStock = stockOf(productId);
+        if (!productStock.counter.tryTake(quantity)) {
+            throw new InsufficientStockException("Insufficient stock.");
+        }
+
+        Reservation reservation = new Reservation(UUID.randomUUID().toString(), productId, userId, quantity,
+                clock.instant().plus(inventoryProperties.getHoldTimeToLive()));
+        holds.put(reservation.id(), reservation);
+        try {
+            reservationLog.append(reservation, ReservationState.RESERVED);
+        } catch (InventoryUnavailableException e) {
+            // The record may still have been written; the tombstone keeps a rebuild from resurrecting the hold.
+            if (holds.remove(reservation.id(), reservation)) {
+                productStock.counter.put(quantity);
+            }
+            removeFromLog(reservation.id());
+            throw e;
+        }
+        return reservation;
+    }
+
+    public void confirm(String userId, String reservationId) {
+        ensureOwner();
+        Reservation reservation = findHold(userId, reservationId);
+        ProductStock productStock = stockOf(reservation.productId());
+        if (reservation.isExpired(clock.instant())) {
+            releaseHold(productStock, reservation);
+            throw new ReservationNotFoundException("Reservation not found.");
+        }
+        if (!holds.remove(reservationId, reservation)) {
+            throw new ReservationNotFoundException("Reservation not found.");
+        }
+
+        try {
+            reservationLog.append(reservation, ReservationState.CONFIRMED);
+        } catch (InventoryUnavailableException e) {
+            holds.put(reservationId, reservation);
+            throw e;
+        }
+        sold.computeIfAbsent(reservation.productId(), ignored -> new ConcurrentLinkedQueue<>()).add(reservation);
+    }
+
+    public void release(String userId, String reservationId) {
+        ensureOwner();
+        Reservation reservation = findHold(userId, reservationId);
+        if (!releaseHold(stockOf(reservation.productId()), reservation)) {
+            throw new ReservationNotFoundException("Reservation not found.");
+        }
+    }
+
+    long available(String productId) {
+        ensureOwner();
+        return Math.max(0, stockOf(productId).counter.available());
+    }
+
+    @Scheduled(fixedDelayString = "${product.inventory.expiry-interval-ms:1000}")
+    public void expireHolds() {
+        if (!isServing()) {
+            return;
+        }
+
+        Instant now = clock.instant();
+        for (Reservation reservation : holds.values()) {
+            if (!reservation.isExpired(now)) {
+                continue;
+            }
+            try {
+                releaseHold(stockOf(reservation.productId()), reservation);
+            } catch (DataAccessException e) {
+                log.warn("Failed to release expired reservation {}.", reservation.id(), e);
+            }
+        }
+    }
+
+    // Mongo is decremented before the log entries are removed: a crash in between replays sales that were already
+    // written, which can only undersell. The change events are written to the outbox in the same transaction as the
+    // stock, so a flushed decrement is never left unannounced.
+    @Scheduled(fixedDelayString = "${product.inventory.flush-interval-ms:500}")
+    public synchronized void flush() {
+        if (!isServing()) {
+            return;
+        }
+
+        Map<String, Long> units = new HashMap<>();
+        List<Reservation> flushed = new ArrayList<>();
+        for (Map.Entry<String, Queue<Reservation>> entry : sold.entrySet()) {
+            if (entry.getValue().isEmpty() || !isLoadable(entry.getKey())) {
+                continue;
+            }
+
+            Reservation reservation;
+            while ((reservation = entry.getValue().poll()) != null) {
+                units.merge(entry.getKey(), (long) reservation.quantity(), Long::sum);
+                flushed.add(reservation);
+            }
+        }
+
+        if (!units.isEmpty()) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    productRepository.decrementStock(units);
+                    publishChanges(units.keySet());
+                });
+            } catch (RuntimeException e) {
+                log.warn("Failed to flush {} confirmed reservations, retrying on the next run.", flushed.size(), e);
+                flushed.forEach(reservation -> sold.get(reservation.productId()).add(reservation));
+                return;
+            }
+
+            units.forEach((productId, decrement) -> stock.get(productId).baseline -= decrement);
+            flushed.forEach(reservation -> removeFromLog(reservation.id()));
+        }
+
+        resyncStale();
+    }
+
+    // A lease that lapsed before it was renewed may have been held by another instance in between, so the state is
+    // rebuilt whenever ownership was not continuous.
+    @Scheduled(fixedDelayString = "${product.inventory.lease-renew-interval-ms:5000}")
+    public synchronized void maintainOwnership() {
+        Optional<Instant> lease;
+        try {
+            lease = inventoryOwnerLease.tryAcquire();
+        } catch (DataAccessException e) {
+            log.warn("Failed to renew the inventory lease.", e);
+            return;
+        }
+
+        if (lease.isEmpty()) {
+            if (!contested) {
+                log.error("Inventory lease is held by another instance, not serving reservations until it expires. "
+                        + "product.inventory.enabled must be set on a single replica.");
+            }
+            contested = true;
+            resign();
+            return;
+        }
+
+        contested = false;
+
+        if (!isOwner()) {
+            resign();
+        }
+        ownedUntil = lease.get();
+        if (!rebuilt) {
+            rebuild();
+        }
+    }
+
+    private void rebuild() {
+        try {
+            Map<String, InventoryReservationEvent> events = reservationLog.replay();
+            events.values().forEach(this::restore);
+            rebuilt = true;
+            log.info("Rebuilt {} holds and {} unflushed sales from the reservation log.",
+                    holds.size(), sold.values().stream().mapToInt(Queue::size).sum());
+        } catch (RuntimeException e) {
+            holds.clear();
+            sold.clear();
+            log.warn("Failed to rebuild reservations from the log, retrying.", e);
+        }
+    }
+
+    private void resign() {
+        ownedUntil = null;
+        rebuilt = false;
+        stock.clear();
+        holds.clear();
+        sold.clear();
+    }
+
+    // Stock edited elsewhere is picked up on the next flush, which owns the baseline.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        markStale(event.productId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProductChangeBatch(ProductChangeBatchEvent event) {
+        event.changes().forEach(change -> markStale(change.productId()));
+    }
+
+    private void restore(InventoryReservationEvent event) {
+        Reservation reservation = new Reservation(event.reservationId(), event.productId(), event.userId(),
+                event.quantity(), event.expiresAt());
+        if (event.state() == ReservationState.RESERVED) {
+            holds.put(reservation.id(), reservation);
+        } else {
+            sold.computeIfAbsent(reservation.productId(), ignored -> new ConcurrentLinkedQueue<>()).add(reservation);
+        }
+    }
+
+    private Reservation findHold(String userId, String reservationId) {
+        Reservation reservation = holds.get(reservationId);
+        if (reservation == null || !reservation.userId().equals(userId)) {
+            throw new ReservationNotFoundException("Reservation not found.");
+        }
+        return reservation;
+    }
+
+    // Whoever removes the hold returns its units, so a hold released by the user and the sweeper at once counts once.
+    private boolean releaseHold(ProductStock productStock, Reservation reservation) {
+        if (!holds.remove(reservation.id(), reservation)) {
+            return false;
+        }
+
+        productStock.counter.put(reservation.quantity());
+        removeFromLog(reservation.id());
+        return true;
+    }
+
+    private void removeFromLog(String reservationId) {
+        try {
+            reservationLog.remove(reservationId);
+        } catch (InventoryUnavailableException e) {
+            log.warn("Failed to remove reservation {} from the log.", reservationId, e);
+        }
+    }
+
+    private void ensureOwner() {
+        if (!isServing()) {
+            throw new InventoryUnavailableException("Inventory is not available on this instance.");
+        }
+    }
+
+    private boolean isServing() {
+        return rebuilt && isOwner();
+    }
+
+    private boolean isOwner() {
+        Instant now = clock.instant();
+        Instant until = ownedUntil;
+        return until != null && now.isBefore(until.minus(inventoryProperties.getLogTimeout()));
+    }
+
+    // Holds and unflushed sales are already taken from the units loaded here; loading blocks concurrent callers
+    // for the same product, so none of them can change those collections before the counter exists.
+    private ProductStock stockOf(String productId) {
+        return stock.computeIfAbsent(productId, this::load);
+    }
+
+    private ProductStock load(String productId) {
+        long units = currentStock(productId)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found."));
+        long held = holds.values().stream()
+                .filter(reservation -> reservation.productId().equals(productId))
+                .mapToLong(Reservation::quantity)
+                .sum();
+        long unflushed = sold.getOrDefault(productId, new ConcurrentLinkedQueue<>()).stream()
+                .mapToLong(Reservation::quantity)
+                .sum();
+
+        return new ProductStock(new StripedStockCounter(stripes, units - held - unflushed), units);
+    }
+
+    private boolean isLoadable(String productId) {
+        try {
+            stockOf(productId);
+            return true;
+        } catch (ProductNotFoundException e) {
+            // Sales of a product that is gone stay in the log until it is active again.
+            return false;
+        }
+    }
+
+    // A product that is no longer active is treated as having no stock, so its remaining holds can still be released.
+    private void resyncStale() {
+        stock.forEach((productId, productStock) -> {
+            if (!productStock.stale) {
+                return;
+            }
+
+            productStock.stale = false;
+            try {
+                long units = currentStock(productId).orElse(0L);
+                productStock.counter.adjust(units - productStock.baseline);
+                productStock.baseline = units;
+            } catch (DataAccessException e) {
+                productStock.stale = true;
+                log.warn("Failed to resync stock of product {}.", productId, e);
+            }
+        });
+    }
+
+    private Optional<Long> currentStock(String productId) {
+        return productRepository.findStockByIdAndStatus(productId, ProductStatus.ACTIVE)
+                .map(product -> product.getStock() == null ? 0L : product.getStock().longValue());
+    }
+
+    private void publishChanges(Collection<String> productIds) {
+        Instant now = clock.instant();
+        List<ProductChangedEvent> changes = productRepository.findChangeKeysByIdIn(productIds).stream()
+                .map(product -> new ProductChangedEvent(
+                        ProductChangeType.UPDATED,
+                        product.getId(),
+                        product.getSellerId(),
+                        product.getCategories() == null ? Set.of() : Set.copyOf(product.getCategories()),
+                        product.getVersion(),
+                        now))
+                .toList();
+        if (!changes.isEmpty()) {
+            applicationEventPublisher.publishEvent(new ProductChangeBatchEvent(changes));
+        }
+    }
+
+    private void markStale(String productId) {
+        ProductStock productStock = stock.get(productId);
+        if (productStock != null) {
+            productStock.stale = true;
+        }
+    }
+
+    // The baseline is the stock last read from or written to Mongo; only flush and load touch it.
+    private static final class ProductStock {
+
+        private final StripedStockCounter counter;
+
+        private long baseline;
+
+        private volatile boolean stale;
+
+        private ProductStock(StripedStockCounter counter, long baseline) {
+            this.counter = counter;
+            this.baseline = baseline;
+        }
+    }
+}
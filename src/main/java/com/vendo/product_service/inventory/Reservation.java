@@ -0,0 +1,16 @@
+package com.vendo.product_service.inventory;
+
+import java.time.Instant;
+
+public record Reservation(
+        String id,
+        String productId,
+        String userId,
+        int quantity,
+        Instant expiresAt
+) {
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
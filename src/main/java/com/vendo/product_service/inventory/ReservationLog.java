@@ -0,0 +1,93 @@
+package com.vendo.product_service.inventory;
+
+import com.vendo.product_service.common.exception.InventoryUnavailableException;
+import com.vendo.product_service.common.type.ReservationState;
+import com.vendo.product_service.event.InventoryReservationEvent;
+import com.vendo.product_service.inventory.config.InventoryProperties;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Compacted topic keyed by reservation id holding the latest state of every reservation that is still open or not
+ * yet flushed to Mongo. Closed reservations are written as tombstones, so replaying it restores exactly what the
+ * engine held in memory.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.inventory", name = "enabled", havingValue = "true")
+public class ReservationLog {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    private final ConsumerFactory<String, Object> consumerFactory;
+
+    private final InventoryProperties inventoryProperties;
+
+    public void append(Reservation reservation, ReservationState state) {
+        send(reservation.id(), new InventoryReservationEvent(state, reservation.id(), reservation.productId(),
+                reservation.userId(), reservation.quantity(), reservation.expiresAt()));
+    }
+
+    public void remove(String reservationId) {
+        send(reservationId, null);
+    }
+
+    public Map<String, InventoryReservationEvent> replay() {
+        Duration timeout = inventoryProperties.getLogTimeout();
+        Properties overrides = new Properties();
+        overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        overrides.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        try (Consumer<String, Object> consumer = consumerFactory.createConsumer(null, "inventory-rebuild", null, overrides)) {
+            List<TopicPartition> partitions = consumer.partitionsFor(inventoryProperties.getTopic(), timeout).stream()
+                    .map(partition -> new TopicPartition(partition.topic(), partition.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+
+            // Only records written before the replay started are read; the engine accepts no requests until it ends.
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions, timeout);
+            Map<String, InventoryReservationEvent> latest = new HashMap<>();
+            while (partitions.stream().anyMatch(partition -> consumer.position(partition, timeout) < endOffsets.get(partition))) {
+                for (ConsumerRecord<String, Object> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.value() instanceof InventoryReservationEvent event) {
+                        latest.put(record.key(), event);
+                    } else {
+                        latest.remove(record.key());
+                    }
+                }
+            }
+            return latest;
+        }
+    }
+
+    private void send(String reservationId, InventoryReservationEvent event) {
+        try {
+            kafkaTemplate.send(inventoryProperties.getTopic(), reservationId, event)
+                    .get(inventoryProperties.getLogTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            throw new InventoryUnavailableException("Reservation could not be recorded.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InventoryUnavailableException("Reservation could not be recorded.");
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.vendo.product_service.inventory;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Available units of one product, spread over stripes so that concurrent reservations mostly update different
+ * cache lines. Units are only ever taken from a stripe with a compare-and-set that keeps it non-negative, so the
+ * units handed out can never exceed the units put in. Debt records units that were withdrawn while already reserved
+ * and is repaid before released units become available again.
+ */
+class StripedStockCounter {
+
+    // 8 longs are 64 bytes, so every stripe starts on its own cache line.
+    private static final int PADDING = 8;
+
+    private final AtomicLongArray cells;
+
+    private final int stripes;
+
+    private final AtomicLong debt = new AtomicLong();
+
+    StripedStockCounter(int stripes, long units) {
+        this.stripes = stripes;
+        this.cells = new AtomicLongArray(stripes * PADDING);
+
+        if (units < 0) {
+            debt.set(-units);
+            return;
+        }
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            cells.set(stripe * PADDING, units / stripes + (stripe < units % stripes ? 1 : 0));
+        }
+    }
+
+    // A single pass over the stripes; units returned concurrently to a stripe already visited may be missed,
+    // which can only turn a reservation down, never oversell.
+    boolean tryTake(long units) {
+        if (debt.get() > 0) {
+            return false;
+        }
+
+        int start = ThreadLocalRandom.current().nextInt(stripes);
+        long taken = 0;
+        for (int i = 0; i < stripes && taken < units; i++) {
+            taken += takeUpTo(((start + i) % stripes) * PADDING, units - taken);
+        }
+
+        if (taken < units) {
+            put(taken);
+            return false;
+        }
+        return true;
+    }
+
+    void put(long units) {
+        long remaining = repayDebt(units);
+        if (remaining > 0) {
+            cells.getAndAdd(ThreadLocalRandom.current().nextInt(stripes) * PADDING, remaining);
+        }
+    }
+
+    void adjust(long delta) {
+        if (delta >= 0) {
+            put(delta);
+            return;
+        }
+
+        long withdrawn = 0;
+        for (int stripe = 0; stripe < stripes && withdrawn < -delta; stripe++) {
+            withdrawn += takeUpTo(stripe * PADDING, -delta - withdrawn);
+        }
+        if (withdrawn < -delta) {
+            debt.addAndGet(-delta - withdrawn);
+        }
+    }
+
+    long available() {
+        long sum = 0;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            sum += cells.get(stripe * PADDING);
+        }
+        return sum - debt.get();
+    }
+
+    private long takeUpTo(int cell, long units) {
+        while (true) {
+            long current = cells.get(cell);
+            if (current <= 0) {
+                return 0;
+            }
+
+            long taken = Math.min(current, units);
+            if (cells.compareAndSet(cell, current, current - taken)) {
+                return taken;
+            }
+        }
+    }
+
+    private long repayDebt(long units) {
+        while (true) {
+            long owed = debt.get();
+            if (owed == 0 || units == 0) {
+                return units;
+            }
+
+            long repaid = Math.min(owed, units);
+            if (debt.compareAndSet(owed, owed - repaid)) {
+                return units - repaid;
+            }
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.vendo.product_service.inventory.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.inventory")
+public class InventoryProperties {
+
+    private boolean enabled = false;
+
+    private String topic = "inventory-reservations";
+
+    private int partitions = 6;
+
+    private short replicas = 1;
+
+    // Zero uses one stripe per available processor.
+    private int stripes = 0;
+
+    private Duration holdTimeToLive = Duration.ofMinutes(10);
+
+    private Duration logTimeout = Duration.ofSeconds(5);
+
+    private long flushIntervalMs = 500;
+
+    private long expiryIntervalMs = 1_000;
+
+    // Reservations stop at the lease expiry minus the log timeout, so in-flight writes finish before a successor replays.
+    private Duration leaseTimeToLive = Duration.ofSeconds(15);
+
+    private long leaseRenewIntervalMs = 5_000;
+
+}
@@ -0,0 +1,27 @@
+package com.vendo.product_service.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("hot_product_snapshots")
+public class HotProductSnapshot {
+
+    @Id
+    private String id;
+
+    private List<String> productIds;
+
+    private Instant updatedAt;
+
+}
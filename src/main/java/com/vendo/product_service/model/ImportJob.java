@@ -0,0 +1,53 @@
+package com.vendo.product_service.model;
+
+import com.vendo.product_service.common.type.ImportFormat;
+import com.vendo.product_service.common.type.ImportJobStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.Indexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("product_import_jobs")
+public class ImportJob {
+
+    @Id
+    private String id;
+
+    @Indexed(name = "seller_idx")
+    private String sellerId;
+
+    private ImportFormat format;
+
+    private ImportJobStatus status;
+
+    private long processedRows;
+
+    private long insertedCount;
+
+    private long updatedCount;
+
+    private long failedCount;
+
+    private List<ImportRowError> errors;
+
+    private String message;
+
+    @CreatedDate
+    private Instant createdAt;
+
+    private Instant startedAt;
+
+    private Instant finishedAt;
+
+}
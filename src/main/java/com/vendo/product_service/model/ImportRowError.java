@@ -0,0 +1,4 @@
+package com.vendo.product_service.model;
+
+public record ImportRowError(long row, String sku, String message) {
+}
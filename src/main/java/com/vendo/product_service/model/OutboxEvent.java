@@ -0,0 +1,36 @@
+package com.vendo.product_service.model;
+
+import com.vendo.product_service.event.ProductChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.Instant;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document("product_outbox")
+@CompoundIndex(name = "pending_created_idx", def = "{'parkedAt': 1, 'createdAt': 1, '_id': 1}")
+public class OutboxEvent {
+
+    @Id
+    private String id;
+
+    private String aggregateId;
+
+    private ProductChangedEvent payload;
+
+    private Instant createdAt;
+
+    private int attempts;
+
+    // Set once the relay gives up on the event; parked events stay here for inspection and are never sent again.
+    private Instant parkedAt;
+
+}
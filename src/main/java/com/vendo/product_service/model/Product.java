@@ -0,0 +1,75 @@
+package com.vendo.product_service.model;
+
+import com.vendo.product_service.common.type.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.TextIndexed;
+import org.springframework.data.mongodb.core.mapping.Document;
+import org.springframework.data.mongodb.core.mapping.Field;
+import org.springframework.data.mongodb.core.mapping.FieldType;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Document(collection = "products")
+@CompoundIndexes({
+        @CompoundIndex(name = "seller_status_idx", def = "{'sellerId': 1, 'status': 1}"),
+        @CompoundIndex(name = "seller_sku_idx", def = "{'sellerId': 1, 'sku': 1}", unique = true),
+        @CompoundIndex(name = "category_price_idx", def = "{'categories': 1, 'status': 1, 'price': 1, '_id': 1}"),
+        @CompoundIndex(name = "category_created_idx", def = "{'categories': 1, 'status': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "seller_status_created_idx", def = "{'sellerId': 1, 'status': 1, 'createdAt': -1, '_id': -1}"),
+        @CompoundIndex(name = "status_id_idx", def = "{'status': 1, '_id': 1}")
+})
+public class Product {
+
+    @Id
+    private String id;
+
+    private String sellerId;
+
+    private String sku;
+
+    @TextIndexed(weight = 3)
+    private String title;
+
+    @TextIndexed
+    private String description;
+
+    private String brand;
+
+    private List<String> categories;
+
+    private List<ProductAttribute> attributes;
+
+    @Field(targetType = FieldType.DECIMAL128)
+    private BigDecimal price;
+
+    private String currency;
+
+    private Integer stock;
+
+    private ProductStatus status;
+
+    @Version
+    private Long version;
+
+    @CreatedDate
+    private Instant createdAt;
+
+    @LastModifiedDate
+    private Instant updatedAt;
+
+}
@@ -0,0 +1,4 @@
+package com.vendo.product_service.model;
+
+public record ProductAttribute(String name, String value) {
+}
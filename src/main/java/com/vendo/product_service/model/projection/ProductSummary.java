@@ -0,0 +1,18 @@
+package com.vendo.product_service.model.projection;
+
+import com.vendo.product_service.common.type.ProductStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record ProductSummary(
+        String id,
+        String title,
+        String brand,
+        BigDecimal price,
+        String currency,
+        Integer stock,
+        ProductStatus status,
+        Instant createdAt
+) {
+}
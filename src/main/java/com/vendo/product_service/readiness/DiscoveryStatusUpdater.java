@@ -0,0 +1,50 @@
+package com.vendo.product_service.readiness;
+
+import com.netflix.appinfo.ApplicationInfoManager;
+import com.netflix.appinfo.InstanceInfo.InstanceStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// The instance registers with eureka.instance.initial-status=starting, which discovery clients filter out,
+// and is only marked UP once Spring reports readiness and the startup gate has opened.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "eureka.client", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class DiscoveryStatusUpdater {
+
+    private final ApplicationInfoManager applicationInfoManager;
+
+    private volatile boolean acceptingTraffic;
+
+    private volatile boolean gateOpen;
+
+    public DiscoveryStatusUpdater(ApplicationInfoManager applicationInfoManager, StartupGate startupGate) {
+        this.applicationInfoManager = applicationInfoManager;
+        this.gateOpen = startupGate.isOpen();
+    }
+
+    @EventListener
+    public void onReadinessChanged(AvailabilityChangeEvent<ReadinessState> event) {
+        acceptingTraffic = event.getState() == ReadinessState.ACCEPTING_TRAFFIC;
+        updateStatus();
+    }
+
+    @EventListener(StartupGateOpenedEvent.class)
+    public void onStartupGateOpened() {
+        gateOpen = true;
+        updateStatus();
+    }
+
+    private synchronized void updateStatus() {
+        InstanceStatus status = !gateOpen ? InstanceStatus.STARTING
+                : acceptingTraffic ? InstanceStatus.UP : InstanceStatus.OUT_OF_SERVICE;
+        if (applicationInfoManager.getInfo().getStatus() != status) {
+            log.info("Setting discovery status to {}", status);
+            applicationInfoManager.setInstanceStatus(status);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package com.vendo.product_service.readiness;
+
+import com.vendo.product_service.readiness.config.ReadinessProperties;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.AdminClient;
+import org.apache.kafka.clients.admin.DescribeClusterOptions;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.readiness", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaStartupCheck implements StartupCheck {
+
+    private final KafkaAdmin kafkaAdmin;
+
+    private final ReadinessProperties readinessProperties;
+
+    @Override
+    public String name() {
+        return "kafka";
+    }
+
+    @Override
+    public boolean isReady() {
+        Duration timeout = readinessProperties.getCheckTimeout();
+        AdminClient adminClient = AdminClient.create(kafkaAdmin.getConfigurationProperties());
+        try {
+            return !adminClient.describeCluster(new DescribeClusterOptions().timeoutMs((int) timeout.toMillis()))
+                    .nodes()
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                    .isEmpty();
+        } catch (ExecutionException | TimeoutException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            adminClient.close(Duration.ZERO);
+        }
+    }
+}
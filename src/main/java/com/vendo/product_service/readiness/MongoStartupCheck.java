@@ -0,0 +1,25 @@
+package com.vendo.product_service.readiness;
+
+import com.mongodb.client.MongoClient;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.readiness", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class MongoStartupCheck implements StartupCheck {
+
+    private final MongoClient mongoClient;
+
+    @Override
+    public String name() {
+        return "mongo";
+    }
+
+    // Reads the state kept by the driver's server monitors instead of issuing a command that waits for server selection.
+    @Override
+    public boolean isReady() {
+        return mongoClient.getClusterDescription().hasWritableServer();
+    }
+}
@@ -0,0 +1,10 @@
+package com.vendo.product_service.readiness;
+
+public interface StartupCheck {
+
+    String name();
+
+    // Called repeatedly until it first returns true, so it must be cheap and must not block past the check timeout.
+    boolean isReady();
+
+}
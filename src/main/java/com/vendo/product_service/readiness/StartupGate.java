@@ -0,0 +1,92 @@
+package com.vendo.product_service.readiness;
+
+import com.vendo.product_service.readiness.config.ReadinessProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+@Slf4j
+@Component
+public class StartupGate implements HealthIndicator {
+
+    private final Map<String, StartupCheck> pending = new ConcurrentHashMap<>();
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final LongSupplier nanoTime;
+
+    private final long createdAt;
+
+    private volatile boolean open;
+
+    @Autowired
+    public StartupGate(List<StartupCheck> startupChecks, ReadinessProperties readinessProperties,
+                       ApplicationEventPublisher applicationEventPublisher) {
+        this(startupChecks, readinessProperties, applicationEventPublisher, System::nanoTime);
+    }
+
+    StartupGate(List<StartupCheck> startupChecks, ReadinessProperties readinessProperties,
+                ApplicationEventPublisher applicationEventPublisher, LongSupplier nanoTime) {
+        if (readinessProperties.isEnabled()) {
+            startupChecks.forEach(check -> pending.put(check.name(), check));
+        }
+        this.open = !readinessProperties.isEnabled();
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.nanoTime = nanoTime;
+        this.createdAt = nanoTime.getAsLong();
+    }
+
+    // The gate only ever opens: once serving, a dependency outage is reported by its own health indicator
+    // instead of pulling every replica out of rotation at the same time.
+    @Scheduled(fixedDelayString = "${product.readiness.check-interval-ms:1000}")
+    public void evaluate() {
+        if (open) {
+            return;
+        }
+
+        pending.values().removeIf(this::passes);
+        if (pending.isEmpty()) {
+            open = true;
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(nanoTime.getAsLong() - createdAt);
+            log.info("Startup checks passed after {} ms, accepting traffic", elapsedMillis);
+            applicationEventPublisher.publishEvent(new StartupGateOpenedEvent(elapsedMillis));
+        }
+    }
+
+    public boolean isOpen() {
+        return open;
+    }
+
+    @Override
+    public Health health() {
+        if (open) {
+            return Health.up().build();
+        }
+
+        return Health.outOfService()
+                .withDetail("pending", pending.keySet().stream().sorted().toList())
+                .build();
+    }
+
+    private boolean passes(StartupCheck check) {
+        try {
+            if (check.isReady()) {
+                log.info("Startup check {} passed", check.name());
+                return true;
+            }
+        } catch (RuntimeException e) {
+            log.debug("Startup check {} failed: {}", check.name(), e.getMessage());
+        }
+        return false;
+    }
+}
@@ -0,0 +1,4 @@
+package com.vendo.product_service.readiness;
+
+public record StartupGateOpenedEvent(long elapsedMillis) {
+}
@@ -0,0 +1,22 @@
+package com.vendo.product_service.readiness.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.readiness")
+public class ReadinessProperties {
+
+    private boolean enabled = true;
+
+    private long checkIntervalMs = 1_000;
+
+    private Duration checkTimeout = Duration.ofSeconds(2);
+
+}
@@ -0,0 +1,7 @@
+package com.vendo.product_service.repository;
+
+import com.vendo.product_service.model.HotProductSnapshot;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+public interface HotProductSnapshotRepository extends MongoRepository<HotProductSnapshot, String> {
+}
@@ -0,0 +1,12 @@
+package com.vendo.product_service.repository;
+
+import com.vendo.product_service.model.ImportJob;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.Optional;
+
+public interface ImportJobRepository extends MongoRepository<ImportJob, String>, ImportJobRepositoryCustom {
+
+    Optional<ImportJob> findByIdAndSellerId(String id, String sellerId);
+
+}
@@ -0,0 +1,16 @@
+package com.vendo.product_service.repository;
+
+import com.vendo.product_service.common.type.ImportJobStatus;
+import com.vendo.product_service.model.ImportRowError;
+
+import java.util.List;
+
+public interface ImportJobRepositoryCustom {
+
+    void markRunning(String id);
+
+    void recordBatch(String id, long processedRows, long insertedCount, long updatedCount, List<ImportRowError> errors, int maxErrors);
+
+    void markFinished(String id, ImportJobStatus status, String message);
+
+}
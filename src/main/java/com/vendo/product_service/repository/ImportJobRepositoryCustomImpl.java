@@ -0,0 +1,54 @@
+package com.vendo.product_service.repository;
+
+import com.vendo.product_service.common.type.ImportJobStatus;
+import com.vendo.product_service.model.ImportJob;
+import com.vendo.product_service.model.ImportRowError;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.List;
+
+@RequiredArgsConstructor
+public class ImportJobRepositoryCustomImpl implements ImportJobRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public void markRunning(String id) {
+        Update update = new Update()
+                .set("status", ImportJobStatus.RUNNING)
+                .set("startedAt", Instant.now());
+        mongoTemplate.updateFirst(byId(id), update, ImportJob.class);
+    }
+
+    @Override
+    public void recordBatch(String id, long processedRows, long insertedCount, long updatedCount, List<ImportRowError> errors, int maxErrors) {
+        Update update = new Update()
+                .inc("processedRows", processedRows)
+                .inc("insertedCount", insertedCount)
+                .inc("updatedCount", updatedCount)
+                .inc("failedCount", errors.size());
+
+        if (!errors.isEmpty()) {
+            update.push("errors").slice(maxErrors).each(errors.toArray());
+        }
+        mongoTemplate.updateFirst(byId(id), update, ImportJob.class);
+    }
+
+    @Override
+    public void markFinished(String id, ImportJobStatus status, String message) {
+        Update update = new Update()
+                .set("status", status)
+                .set("message", message)
+                .set("finishedAt", Instant.now());
+        mongoTemplate.updateFirst(byId(id), update, ImportJob.class);
+    }
+
+    private Query byId(String id) {
+        return Query.query(Criteria.where("id").is(id));
+    }
+}
@@ -0,0 +1,13 @@
+package com.vendo.product_service.repository;
+
+import com.vendo.product_service.model.OutboxEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.mongodb.repository.MongoRepository;
+
+import java.util.List;
+
+public interface OutboxEventRepository extends MongoRepository<OutboxEvent, String> {
+
+    List<OutboxEvent> findByParkedAtIsNullOrderByCreatedAtAscIdAsc(Limit limit);
+
+}
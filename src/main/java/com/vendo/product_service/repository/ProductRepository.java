@@ -0,0 +1,33 @@
+package com.vendo.product_service.repository;
+
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRepository extends MongoRepository<Product, String>, ProductRepositoryCustom {
+
+    Optional<Product> findByIdAndStatus(String id, ProductStatus status);
+
+    @Query(value = "{ '_id': ?0, 'status': ?1 }", fields = "{ 'version': 1, 'updatedAt': 1 }")
+    Optional<Product> findVersionByIdAndStatus(String id, ProductStatus status);
+
+    @Query(value = "{ '_id': ?0, 'status': ?1 }", fields = "{ 'stock': 1 }")
+    Optional<Product> findStockByIdAndStatus(String id, ProductStatus status);
+
+    Optional<Product> findByIdAndSellerId(String id, String sellerId);
+
+    @Query(value = "{ 'sellerId': ?0, 'sku': { $in: ?1 } }", fields = "{ 'sellerId': 1, 'sku': 1, 'categories': 1, 'version': 1 }")
+    List<Product> findChangeKeysBySellerIdAndSkuIn(String sellerId, Collection<String> skus);
+
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'sellerId': 1, 'categories': 1, 'version': 1 }")
+    List<Product> findChangeKeysByIdIn(Collection<String> ids);
+
+    @Query(value = "{ '_id': { $in: ?0 } }", fields = "{ 'status': 1, 'categories': 1, 'attributes': 1 }")
+    List<Product> findFacetsByIdIn(Collection<String> ids);
+
+}
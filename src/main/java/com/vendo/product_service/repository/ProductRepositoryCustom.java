@@ -0,0 +1,31 @@
+package com.vendo.product_service.repository;
+
+import com.vendo.product_service.common.importing.BulkUpsertResult;
+import com.vendo.product_service.common.pagination.ProductCursor;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.model.projection.ProductSummary;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public interface ProductRepositoryCustom {
+
+    List<ProductSummary> findCategoryPage(String category, ProductSort sort, ProductCursor after, int limit);
+
+    List<ProductSummary> findSellerPage(String sellerId, ProductStatus status, ProductSort sort, ProductCursor after, int limit);
+
+    List<Product> findActiveByIds(Collection<String> ids);
+
+    Stream<Product> streamActive(String afterId, int cursorBatchSize);
+
+    Stream<Product> streamActiveFacets(int cursorBatchSize);
+
+    BulkUpsertResult bulkUpsertBySku(String sellerId, List<Product> products);
+
+    void decrementStock(Map<String, Long> unitsByProductId);
+
+}
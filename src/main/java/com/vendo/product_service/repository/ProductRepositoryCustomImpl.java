@@ -0,0 +1,186 @@
+package com.vendo.product_service.repository;
+
+import com.mongodb.ReadPreference;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.bulk.BulkWriteUpsert;
+import com.vendo.product_service.common.importing.BulkUpsertResult;
+import com.vendo.product_service.common.pagination.ProductCursor;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.model.projection.ProductSummary;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    private static final String ID_FIELD = "id";
+
+    private static final String[] SUMMARY_FIELDS = {"title", "brand", "price", "currency", "stock", "status", "createdAt"};
+
+    private static final String[] RESPONSE_FIELDS = {"sellerId", "sku", "title", "description", "brand", "categories", "attributes",
+            "price", "currency", "stock", "status", "version", "createdAt", "updatedAt"};
+
+    private static final String[] FACET_FIELDS = {"status", "categories", "attributes"};
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public List<ProductSummary> findCategoryPage(String category, ProductSort sort, ProductCursor after, int limit) {
+        Criteria filter = Criteria.where("categories").is(category).and("status").is(ProductStatus.ACTIVE);
+        return findPage(filter, sort, after, limit);
+    }
+
+    @Override
+    public List<ProductSummary> findSellerPage(String sellerId, ProductStatus status, ProductSort sort, ProductCursor after, int limit) {
+        Criteria filter = Criteria.where("sellerId").is(sellerId).and("status").is(status);
+        return findPage(filter, sort, after, limit);
+    }
+
+    @Override
+    public List<Product> findActiveByIds(Collection<String> ids) {
+        Query query = new Query(Criteria.where(ID_FIELD).in(ids).and("status").is(ProductStatus.ACTIVE));
+        query.fields().include(RESPONSE_FIELDS);
+
+        return mongoTemplate.find(query, Product.class);
+    }
+
+    @Override
+    public Stream<Product> streamActive(String afterId, int cursorBatchSize) {
+        Criteria filter = Criteria.where("status").is(ProductStatus.ACTIVE);
+        if (afterId != null) {
+            filter.and(ID_FIELD).gt(afterId);
+        }
+
+        // Exports can outlive the idle cursor timeout when the client reads slowly; the stream is always closed by the caller.
+        Query query = new Query(filter)
+                .with(Sort.by(Sort.Direction.ASC, ID_FIELD))
+                .cursorBatchSize(cursorBatchSize)
+                .noCursorTimeout();
+
+        return mongoTemplate.stream(query, Product.class);
+    }
+
+    @Override
+    public Stream<Product> streamActiveFacets(int cursorBatchSize) {
+        // Full scans are served by a secondary when one is available, keeping them off the primary.
+        Query query = new Query(Criteria.where("status").is(ProductStatus.ACTIVE))
+                .cursorBatchSize(cursorBatchSize)
+                .noCursorTimeout()
+                .withReadPreference(ReadPreference.secondaryPreferred());
+        query.fields().include(FACET_FIELDS);
+
+        return mongoTemplate.stream(query, Product.class);
+    }
+
+    @Override
+    public BulkUpsertResult bulkUpsertBySku(String sellerId, List<Product> products) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class);
+        Instant now = Instant.now();
+
+        for (Product product : products) {
+            Query bySku = new Query(Criteria.where("sellerId").is(sellerId).and("sku").is(product.getSku()));
+            bulkOperations.upsert(bySku, upsertUpdate(product, now));
+        }
+
+        try {
+            return toBulkUpsertResult(bulkOperations.execute(), List.of());
+        } catch (BulkOperationException e) {
+            return toBulkUpsertResult(e.getResult(), e.getErrors());
+        }
+    }
+
+    // $inc leaves concurrent seller edits to other fields intact; the version bump makes their next save re-read.
+    @Override
+    public void decrementStock(Map<String, Long> unitsByProductId) {
+        BulkOperations bulkOperations = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Product.class);
+        Instant now = Instant.now();
+
+        unitsByProductId.forEach((id, units) -> bulkOperations.updateOne(
+                new Query(Criteria.where(ID_FIELD).is(id)),
+                new Update().inc("stock", -units).inc("version", 1).set("updatedAt", now)));
+        bulkOperations.execute();
+    }
+
+    private Update upsertUpdate(Product product, Instant now) {
+        Update update = new Update()
+                .set("title", product.getTitle())
+                .set("description", product.getDescription())
+                .set("brand", product.getBrand())
+                .set("categories", product.getCategories())
+                .set("attributes", product.getAttributes())
+                .set("price", product.getPrice())
+                .set("currency", product.getCurrency())
+                .set("stock", product.getStock())
+                .set("updatedAt", now)
+                .setOnInsert("createdAt", now)
+                .inc("version", 1);
+
+        // A missing status keeps the current one and falls back to DRAFT for new products.
+        if (product.getStatus() == null) {
+            update.setOnInsert("status", ProductStatus.DRAFT);
+        } else {
+            update.set("status", product.getStatus());
+        }
+        return update;
+    }
+
+    private BulkUpsertResult toBulkUpsertResult(BulkWriteResult result, List<BulkWriteError> errors) {
+        Set<Integer> insertedIndexes = result.getUpserts().stream()
+                .map(BulkWriteUpsert::getIndex)
+                .collect(Collectors.toSet());
+        Map<Integer, String> failures = errors.stream()
+                .collect(Collectors.toMap(BulkWriteError::getIndex, BulkWriteError::getMessage, (first, second) -> first));
+
+        return new BulkUpsertResult(insertedIndexes, result.getMatchedCount(), failures);
+    }
+
+    private List<ProductSummary> findPage(Criteria filter, ProductSort sort, ProductCursor after, int limit) {
+        Query query = new Query(filter)
+                .with(Sort.by(sort.getDirection(), sort.getField(), ID_FIELD))
+                .limit(limit);
+        query.fields().include(SUMMARY_FIELDS);
+
+        if (after != null) {
+            query.addCriteria(keysetCriteria(sort, after));
+        }
+
+        return mongoTemplate.query(Product.class)
+                .as(ProductSummary.class)
+                .matching(query)
+                .all();
+    }
+
+    private Criteria keysetCriteria(ProductSort sort, ProductCursor after) {
+        Object sortKey = after.sortKey();
+        boolean ascending = sort.getDirection().isAscending();
+
+        Criteria beyondSortKey = ascending
+                ? Criteria.where(sort.getField()).gt(sortKey)
+                : Criteria.where(sort.getField()).lt(sortKey);
+        Criteria beyondId = ascending
+                ? Criteria.where(ID_FIELD).gt(after.id())
+                : Criteria.where(ID_FIELD).lt(after.id());
+
+        return new Criteria().orOperator(
+                beyondSortKey,
+                new Criteria().andOperator(Criteria.where(sort.getField()).is(sortKey), beyondId)
+        );
+    }
+}
@@ -0,0 +1,417 @@
+package com.vendo.product_service.search;
+
+import com.vendo.product_service.common.dto.FacetCount;
+import com.vendo.product_service.common.dto.PriceBucketCount;
+import com.vendo.product_service.common.dto.ProductSearchFacets;
+import com.vendo.product_service.common.dto.ProductSearchHit;
+import com.vendo.product_service.common.dto.ProductSearchResponse;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.search.config.SearchProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.LongPoint;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.StoredField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.facet.FacetResult;
+import org.apache.lucene.facet.FacetsCollector;
+import org.apache.lucene.facet.FacetsCollectorManager;
+import org.apache.lucene.facet.FacetsConfig;
+import org.apache.lucene.facet.LabelAndValue;
+import org.apache.lucene.facet.range.LongRange;
+import org.apache.lucene.facet.range.LongRangeFacetCounts;
+import org.apache.lucene.facet.sortedset.DefaultSortedSetDocValuesReaderState;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetCounts;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesFacetField;
+import org.apache.lucene.facet.sortedset.SortedSetDocValuesReaderState;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.queryparser.simple.SimpleQueryParser;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.MultiCollectorManager;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TopScoreDocCollectorManager;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductSearchIndex {
+
+    static final String ID = "id";
+
+    static final String TITLE = "title";
+
+    static final String DESCRIPTION = "description";
+
+    static final String BRAND = "brand";
+
+    static final String BRAND_FILTER = "brand_exact";
+
+    static final String CATEGORY = "category";
+
+    static final String PRICE = "price";
+
+    static final String PRICE_STORED = "price_stored";
+
+    static final String CURRENCY = "currency";
+
+    private static final String COMMITTED_AT = "committedAt";
+
+    private static final String OFFSET_PREFIX = "offset.";
+
+    private static final Map<String, Float> QUERY_WEIGHTS = Map.of(TITLE, 3f, BRAND, 2f, DESCRIPTION, 1f);
+
+    private final SearchProperties searchProperties;
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+
+    private final FacetsConfig facetsConfig = new FacetsConfig();
+
+    private final List<BigDecimal> priceBounds;
+
+    private final LongRange[] priceRanges;
+
+    private final Directory directory;
+
+    private final IndexWriter indexWriter;
+
+    private final SearcherManager searcherManager;
+
+    private final Map<Integer, Long> restoredOffsets;
+
+    private final Map<Integer, Long> consumedOffsets = new ConcurrentHashMap<>();
+
+    private volatile boolean rebuildRequired;
+
+    private volatile FacetState facetState;
+
+    public ProductSearchIndex(SearchProperties searchProperties) {
+        this.searchProperties = searchProperties;
+        this.priceBounds = searchProperties.getPriceBuckets().stream().sorted().toList();
+        this.priceRanges = priceRanges(priceBounds);
+        facetsConfig.setMultiValued(CATEGORY, true);
+
+        try {
+            Files.createDirectories(searchProperties.getIndexDirectory());
+            this.directory = FSDirectory.open(searchProperties.getIndexDirectory());
+            Map<String, String> snapshot = DirectoryReader.indexExists(directory)
+                    ? SegmentInfos.readLatestCommit(directory).getUserData()
+                    : Map.of();
+
+            this.indexWriter = new IndexWriter(directory, new IndexWriterConfig(analyzer)
+                    .setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+
+            if (isFresh(snapshot)) {
+                this.restoredOffsets = offsetsOf(snapshot);
+                log.info("Opened product search snapshot from {} with {} documents", snapshot.get(COMMITTED_AT), indexWriter.getDocStats().numDocs);
+            } else {
+                this.restoredOffsets = Map.of();
+                this.rebuildRequired = true;
+                indexWriter.deleteAll();
+                log.info("Product search snapshot is missing or stale, the index will be rebuilt");
+            }
+            this.searcherManager = new SearcherManager(indexWriter, null);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open product search index.", e);
+        }
+    }
+
+    public void upsert(Collection<Product> products) {
+        try {
+            for (Product product : products) {
+                Term idTerm = new Term(ID, product.getId());
+                if (product.getStatus() == ProductStatus.ACTIVE) {
+                    indexWriter.updateDocument(idTerm, facetsConfig.build(toDocument(product)));
+                } else {
+                    indexWriter.deleteDocuments(idTerm);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to index products.", e);
+        }
+    }
+
+    public void delete(Collection<String> ids) {
+        try {
+            for (String id : ids) {
+                indexWriter.deleteDocuments(new Term(ID, id));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete products from the search index.", e);
+        }
+    }
+
+    public void recordOffset(int partition, long offset) {
+        consumedOffsets.merge(partition, offset, Math::max);
+    }
+
+    public Map<Integer, Long> restoredOffsets() {
+        return restoredOffsets;
+    }
+
+    public boolean isRebuildRequired() {
+        return rebuildRequired;
+    }
+
+    public void rebuildCompleted() {
+        rebuildRequired = false;
+        commit();
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${product.search.refresh-interval-ms:1000}")
+    public void refresh() {
+        try {
+            searcherManager.maybeRefresh();
+        } catch (IOException e) {
+            log.warn("Failed to refresh product search index", e);
+        }
+    }
+
+    // The offsets stored with a commit let a restarted instance replay only the changes it has not indexed yet.
+    @Scheduled(fixedDelayString = "${product.search.commit-interval-ms:60000}")
+    public void commit() {
+        if (rebuildRequired) {
+            return;
+        }
+
+        Map<String, String> commitData = new HashMap<>();
+        restoredOffsets.forEach((partition, offset) -> commitData.put(OFFSET_PREFIX + partition, String.valueOf(offset)));
+        consumedOffsets.forEach((partition, offset) -> commitData.put(OFFSET_PREFIX + partition, String.valueOf(offset)));
+        commitData.put(COMMITTED_AT, Instant.now().toString());
+
+        try {
+            indexWriter.setLiveCommitData(commitData.entrySet());
+            indexWriter.commit();
+        } catch (IOException e) {
+            log.warn("Failed to commit product search snapshot", e);
+        }
+    }
+
+    public ProductSearchResponse search(ProductSearchQuery query) {
+        try {
+            IndexSearcher searcher = searcherManager.acquire();
+            try {
+                return search(searcher, query);
+            } finally {
+                searcherManager.release(searcher);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to search products.", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        commit();
+        searcherManager.close();
+        indexWriter.close();
+        directory.close();
+    }
+
+    private ProductSearchResponse search(IndexSearcher searcher, ProductSearchQuery query) throws IOException {
+        if (searcher.getIndexReader().numDocs() == 0) {
+            return new ProductSearchResponse(0, List.of(), new ProductSearchFacets(List.of(), List.of(), List.of()));
+        }
+
+        Object[] results = searcher.search(toLuceneQuery(query), new MultiCollectorManager(
+                new TopScoreDocCollectorManager(query.offset() + query.limit(), Integer.MAX_VALUE),
+                new FacetsCollectorManager()));
+        TopDocs topDocs = (TopDocs) results[0];
+        FacetsCollector facetsCollector = (FacetsCollector) results[1];
+
+        List<ProductSearchHit> hits = new ArrayList<>();
+        StoredFields storedFields = searcher.storedFields();
+        ScoreDoc[] scoreDocs = topDocs.scoreDocs;
+        for (int i = query.offset(); i < scoreDocs.length; i++) {
+            hits.add(toHit(storedFields.document(scoreDocs[i].doc), scoreDocs[i].score));
+        }
+
+        SortedSetDocValuesReaderState state = facetState(searcher.getIndexReader());
+        SortedSetDocValuesFacetCounts termCounts = new SortedSetDocValuesFacetCounts(state, facetsCollector);
+        ProductSearchFacets facets = new ProductSearchFacets(
+                termFacet(termCounts, state, CATEGORY),
+                termFacet(termCounts, state, BRAND),
+                priceFacet(new LongRangeFacetCounts(PRICE, facetsCollector, priceRanges)));
+
+        return new ProductSearchResponse(topDocs.totalHits.value, hits, facets);
+    }
+
+    private org.apache.lucene.search.Query toLuceneQuery(ProductSearchQuery query) {
+        BooleanQuery.Builder builder = new BooleanQuery.Builder();
+        if (StringUtils.isBlank(query.text())) {
+            builder.add(new MatchAllDocsQuery(), BooleanClause.Occur.MUST);
+        } else {
+            builder.add(new SimpleQueryParser(analyzer, QUERY_WEIGHTS).parse(query.text()), BooleanClause.Occur.MUST);
+        }
+
+        if (StringUtils.isNotBlank(query.category())) {
+            builder.add(new TermQuery(new Term(CATEGORY, query.category())), BooleanClause.Occur.FILTER);
+        }
+        if (StringUtils.isNotBlank(query.brand())) {
+            builder.add(new TermQuery(new Term(BRAND_FILTER, query.brand())), BooleanClause.Occur.FILTER);
+        }
+        if (query.minPrice() != null || query.maxPrice() != null) {
+            long min = query.minPrice() == null ? Long.MIN_VALUE : toCents(query.minPrice());
+            long max = query.maxPrice() == null ? Long.MAX_VALUE : toCents(query.maxPrice());
+            builder.add(LongPoint.newRangeQuery(PRICE, min, max), BooleanClause.Occur.FILTER);
+        }
+        return builder.build();
+    }
+
+    private Document toDocument(Product product) {
+        Document document = new Document();
+        document.add(new StringField(ID, product.getId(), Field.Store.YES));
+        addText(document, TITLE, product.getTitle(), Field.Store.YES);
+        addText(document, DESCRIPTION, product.getDescription(), Field.Store.NO);
+
+        if (StringUtils.isNotBlank(product.getBrand())) {
+            addText(document, BRAND, product.getBrand(), Field.Store.YES);
+            document.add(new StringField(BRAND_FILTER, product.getBrand(), Field.Store.NO));
+            document.add(new SortedSetDocValuesFacetField(BRAND, product.getBrand()));
+        }
+        if (product.getCategories() != null) {
+            product.getCategories().stream()
+                    .filter(StringUtils::isNotBlank)
+                    .distinct()
+                    .forEach(category -> {
+                        document.add(new StringField(CATEGORY, category, Field.Store.NO));
+                        document.add(new SortedSetDocValuesFacetField(CATEGORY, category));
+                    });
+        }
+        if (product.getPrice() != null) {
+            long cents = toCents(product.getPrice());
+            document.add(new LongPoint(PRICE, cents));
+            document.add(new NumericDocValuesField(PRICE, cents));
+            document.add(new StoredField(PRICE_STORED, product.getPrice().toPlainString()));
+        }
+        if (product.getCurrency() != null) {
+            document.add(new StoredField(CURRENCY, product.getCurrency()));
+        }
+        return document;
+    }
+
+    private void addText(Document document, String field, String value, Field.Store store) {
+        if (value != null) {
+            document.add(new TextField(field, value, store));
+        }
+    }
+
+    private ProductSearchHit toHit(Document document, float score) {
+        String price = document.get(PRICE_STORED);
+        return ProductSearchHit.builder()
+                .id(document.get(ID))
+                .title(document.get(TITLE))
+                .brand(document.get(BRAND))
+                .price(price == null ? null : new BigDecimal(price))
+                .currency(document.get(CURRENCY))
+                .score(score)
+                .build();
+    }
+
+    private List<FacetCount> termFacet(SortedSetDocValuesFacetCounts counts, SortedSetDocValuesReaderState state, String dimension)
+            throws IOException {
+        if (state.getOrdRange(dimension) == null) {
+            return List.of();
+        }
+
+        FacetResult result = counts.getTopChildren(searchProperties.getMaxFacetValues(), dimension);
+        if (result == null) {
+            return List.of();
+        }
+
+        List<FacetCount> facetCounts = new ArrayList<>(result.labelValues.length);
+        for (LabelAndValue labelValue : result.labelValues) {
+            facetCounts.add(new FacetCount(labelValue.label, labelValue.value.longValue()));
+        }
+        return facetCounts;
+    }
+
+    private List<PriceBucketCount> priceFacet(LongRangeFacetCounts counts) throws IOException {
+        FacetResult result = counts.getAllChildren(PRICE);
+        List<PriceBucketCount> buckets = new ArrayList<>(result.labelValues.length);
+        for (int i = 0; i < result.labelValues.length; i++) {
+            BigDecimal to = i + 1 < priceBounds.size() ? priceBounds.get(i + 1) : null;
+            buckets.add(new PriceBucketCount(priceBounds.get(i), to, result.labelValues[i].value.longValue()));
+        }
+        return buckets;
+    }
+
+    // Ordinal maps are expensive to build, so they are rebuilt only when a refresh opens a new reader.
+    private SortedSetDocValuesReaderState facetState(IndexReader reader) throws IOException {
+        FacetState current = facetState;
+        if (current == null || current.reader() != reader) {
+            current = new FacetState(reader, new DefaultSortedSetDocValuesReaderState(reader, facetsConfig));
+            facetState = current;
+        }
+        return current.state();
+    }
+
+    private boolean isFresh(Map<String, String> snapshot) {
+        String committedAt = snapshot.get(COMMITTED_AT);
+        return committedAt != null
+                && Instant.parse(committedAt).isAfter(Instant.now().minus(searchProperties.getMaxSnapshotAge()));
+    }
+
+    private static Map<Integer, Long> offsetsOf(Map<String, String> snapshot) {
+        Map<Integer, Long> offsets = new HashMap<>();
+        snapshot.forEach((key, value) -> {
+            if (key.startsWith(OFFSET_PREFIX)) {
+                offsets.put(Integer.parseInt(key.substring(OFFSET_PREFIX.length())), Long.parseLong(value));
+            }
+        });
+        return Map.copyOf(offsets);
+    }
+
+    private static LongRange[] priceRanges(List<BigDecimal> bounds) {
+        LongRange[] ranges = new LongRange[bounds.size()];
+        for (int i = 0; i < bounds.size(); i++) {
+            long max = i + 1 < bounds.size() ? toCents(bounds.get(i + 1)) : Long.MAX_VALUE;
+            ranges[i] = new LongRange(String.valueOf(i), toCents(bounds.get(i)), true, max, i + 1 == bounds.size());
+        }
+        return ranges;
+    }
+
+    private static long toCents(BigDecimal price) {
+        return price.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    private record FacetState(IndexReader reader, SortedSetDocValuesReaderState state) {
+    }
+}
@@ -0,0 +1,148 @@
+package com.vendo.product_service.search;
+
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ProductRepository;
+import com.vendo.product_service.search.config.SearchProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductSearchIndexer implements ConsumerSeekAware {
+
+    private final ProductSearchIndex productSearchIndex;
+
+    private final ProductRepository productRepository;
+
+    private final SearchProperties searchProperties;
+
+    private final Set<String> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Events only carry ids, so the current document is re-read; replaying a change is therefore harmless.
+    @KafkaListener(
+            topics = "${product.events.topic:product-events}",
+            groupId = "${spring.application.name}-search-${random.uuid}",
+            batch = "true",
+            properties = "auto.offset.reset=latest"
+    )
+    public void onChanges(List<ConsumerRecord<String, ProductChangedEvent>> records) {
+        Set<String> ids = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .map(ProductChangedEvent::productId)
+                .collect(Collectors.toSet());
+
+        // Recorded before the read, so the rebuild sees every id whose newer state its scan may have overwritten.
+        if (productSearchIndex.isRebuildRequired()) {
+            changedDuringRebuild.addAll(ids);
+        }
+        if (!ids.isEmpty()) {
+            reindex(ids);
+        }
+
+        records.forEach(record -> productSearchIndex.recordOffset(record.partition(), record.offset()));
+    }
+
+    // Offsets older than the topic retention are reset to latest by the consumer, so max-snapshot-age must stay below it.
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        Map<Integer, Long> offsets = productSearchIndex.restoredOffsets();
+        assignments.keySet().forEach(partition -> {
+            Long offset = offsets.get(partition.partition());
+            if (offset != null) {
+                callback.seek(partition.topic(), partition.partition(), offset + 1);
+            }
+        });
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIfRequired() {
+        if (!productSearchIndex.isRebuildRequired() || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long indexed = scanActive();
+            reindexChangedDuringRebuild();
+            productSearchIndex.rebuildCompleted();
+            log.info("Rebuilt product search index with {} products", indexed);
+        } catch (RuntimeException e) {
+            log.warn("Failed to rebuild product search index, retrying in {} ms", searchProperties.getRebuildRetryIntervalMs(), e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    // The startup gate stays closed until a rebuild succeeds, so a failed one must be retried.
+    @Scheduled(
+            fixedDelayString = "${product.search.rebuild-retry-interval-ms:30000}",
+            initialDelayString = "${product.search.rebuild-retry-interval-ms:30000}"
+    )
+    public void retryRebuild() {
+        rebuildIfRequired();
+    }
+
+    private long scanActive() {
+        long indexed = 0;
+        int batchSize = searchProperties.getRebuildBatchSize();
+        try (Stream<Product> products = productRepository.streamActive(null, batchSize)) {
+            List<Product> batch = new ArrayList<>(batchSize);
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                batch.add(iterator.next());
+                if (batch.size() == batchSize || !iterator.hasNext()) {
+                    productSearchIndex.upsert(batch);
+                    indexed += batch.size();
+                    batch.clear();
+                }
+            }
+        }
+        return indexed;
+    }
+
+    // Changes keep being recorded until the rebuild completes, so this drains until a pass finds none.
+    private void reindexChangedDuringRebuild() {
+        while (!changedDuringRebuild.isEmpty()) {
+            Set<String> ids = new HashSet<>(changedDuringRebuild);
+            changedDuringRebuild.removeAll(ids);
+            reindex(ids);
+        }
+    }
+
+    private void reindex(Set<String> ids) {
+        List<Product> products = productRepository.findAllById(ids);
+        Set<String> missing = new HashSet<>(ids);
+        products.forEach(product -> missing.remove(product.getId()));
+
+        productSearchIndex.upsert(products);
+        productSearchIndex.delete(missing);
+    }
+}
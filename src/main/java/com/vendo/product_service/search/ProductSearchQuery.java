@@ -0,0 +1,7 @@
+package com.vendo.product_service.search;
+
+import java.math.BigDecimal;
+
+public record ProductSearchQuery(String text, String category, String brand, BigDecimal minPrice, BigDecimal maxPrice,
+                                 int offset, int limit) {
+}
@@ -0,0 +1,24 @@
+package com.vendo.product_service.search;
+
+import com.vendo.product_service.readiness.StartupCheck;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SearchIndexStartupCheck implements StartupCheck {
+
+    private final ProductSearchIndex productSearchIndex;
+
+    @Override
+    public String name() {
+        return "search-index";
+    }
+
+    @Override
+    public boolean isReady() {
+        return !productSearchIndex.isRebuildRequired();
+    }
+}
@@ -0,0 +1,43 @@
+package com.vendo.product_service.search.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.search")
+public class SearchProperties {
+
+    private boolean enabled = true;
+
+    private Path indexDirectory = Path.of(System.getProperty("java.io.tmpdir"), "product-search");
+
+    private long refreshIntervalMs = 1_000;
+
+    private long commitIntervalMs = 60_000;
+
+    private Duration maxSnapshotAge = Duration.ofHours(24);
+
+    private int rebuildBatchSize = 1_000;
+
+    private long rebuildRetryIntervalMs = 30_000;
+
+    private int maxResultWindow = 1_000;
+
+    private int maxPageSize = 50;
+
+    private int maxFacetValues = 20;
+
+    private List<BigDecimal> priceBuckets = List.of(
+            BigDecimal.ZERO, BigDecimal.valueOf(25), BigDecimal.valueOf(50), BigDecimal.valueOf(100),
+            BigDecimal.valueOf(250), BigDecimal.valueOf(500), BigDecimal.valueOf(1_000));
+
+}
@@ -0,0 +1,8 @@
+package com.vendo.product_service.security.common.cache;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+import java.util.Date;
+
+public record CachedAuthentication(UsernamePasswordAuthenticationToken authentication, Date expiration) {
+}
@@ -0,0 +1,93 @@
+package com.vendo.product_service.security.common.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.vendo.product_service.security.common.config.JwtProperties;
+import com.vendo.product_service.security.common.event.SigningKeyRotatedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+@Component
+public class TokenAuthenticationCache {
+
+    public static final String CACHE_NAME = "jwt.authentication";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    private final boolean enabled;
+
+    private final Cache<String, CachedAuthentication> cache;
+
+    public TokenAuthenticationCache(JwtProperties jwtProperties, MeterRegistry meterRegistry) {
+        JwtProperties.Cache properties = jwtProperties.getCache();
+
+        this.enabled = properties.isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfter(new TokenExpiry(properties.getTimeToLive().toNanos()))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public UsernamePasswordAuthenticationToken get(String token, Function<String, CachedAuthentication> authenticator) {
+        if (!enabled) {
+            return authenticator.apply(token).authentication();
+        }
+
+        return cache.get(hash(token), key -> authenticator.apply(token)).authentication();
+    }
+
+    @EventListener(SigningKeyRotatedEvent.class)
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    public long estimatedSize() {
+        return cache.estimatedSize();
+    }
+
+    private String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(DIGEST_ALGORITHM + " is not supported.", e);
+        }
+    }
+
+    private record TokenExpiry(long maximumTtlNanos) implements Expiry<String, CachedAuthentication> {
+
+        @Override
+        public long expireAfterCreate(String key, CachedAuthentication value, long currentTime) {
+            if (value.expiration() == null) {
+                return maximumTtlNanos;
+            }
+
+            long untilExpirationNanos = TimeUnit.MILLISECONDS.toNanos(value.expiration().getTime() - System.currentTimeMillis());
+            return Math.max(0, Math.min(untilExpirationNanos, maximumTtlNanos));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, CachedAuthentication value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -5,6 +5,9 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.List;
+
 @Setter
 @Getter
 @Component
@@ -13,4 +16,43 @@ public class JwtProperties {
 
     private String secretKey;
 
+    // Fails startup when signing keys could not rotate without a redeployment, see SigningKeyRotationGuard.
+    private boolean requireKeyRotation = false;
+
+    private Cache cache = new Cache();
+
+    private Jwks jwks = new Jwks();
+
+    @Setter
+    @Getter
+    public static class Cache {
+
+        private boolean enabled = true;
+
+        private long maximumSize = 10_000;
+
+        private Duration timeToLive = Duration.ofMinutes(10);
+
+    }
+
+    @Setter
+    @Getter
+    public static class Jwks {
+
+        private boolean enabled = false;
+
+        // A Spring resource location, e.g. file:/etc/vendo/jwks.json or http://localhost:8081/.well-known/jwks.json.
+        private String location;
+
+        private List<String> algorithms = List.of("RS256", "ES256");
+
+        private Duration timeout = Duration.ofSeconds(2);
+
+        // Keys dropped from the document keep verifying for this long, so tokens signed just before a rotation stay valid.
+        private Duration gracePeriod = Duration.ofMinutes(15);
+
+        // An unknown kid triggers at most one background refresh per interval.
+        private Duration minRefreshInterval = Duration.ofSeconds(30);
+
+    }
 }
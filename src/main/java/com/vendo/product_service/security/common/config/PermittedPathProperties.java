@@ -0,0 +1,19 @@
+package com.vendo.product_service.security.common.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "security.paths")
+public class PermittedPathProperties {
+
+    private List<String> permitted = new ArrayList<>();
+
+}
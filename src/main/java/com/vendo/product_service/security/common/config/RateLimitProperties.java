@@ -0,0 +1,49 @@
+package com.vendo.product_service.security.common.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "security.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    private long maximumBuckets = 100_000;
+
+    private Duration idleTimeout = Duration.ofMinutes(5);
+
+    private Limit anonymous = new Limit(40, 20);
+
+    private Limit authenticated = new Limit(100, 50);
+
+    private Map<String, Limit> roles = new HashMap<>();
+
+    // Peers in these ranges may report the client address in X-Forwarded-For; the defaults match Tomcat's internal proxies.
+    private List<String> trustedProxies = new ArrayList<>(List.of(
+            "10.0.0.0/8", "172.16.0.0/12", "192.168.0.0/16", "169.254.0.0/16", "127.0.0.0/8", "::1/128", "fc00::/7"));
+
+    @Setter
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Limit {
+
+        private int capacity;
+
+        private double refillPerSecond;
+
+    }
+}
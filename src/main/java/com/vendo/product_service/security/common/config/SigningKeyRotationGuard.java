@@ -0,0 +1,33 @@
+package com.vendo.product_service.security.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Without refresh, as in the AOT production build, JwtHelper never sees a new HMAC secret, so verification keys can
+ * only rotate through JWKS. Tokens are HMAC-signed today, so a missing JWKS only warns unless
+ * {@code security.jwt.require-key-rotation} opts in to failing startup.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "spring.cloud.refresh", name = "enabled", havingValue = "false")
+public class SigningKeyRotationGuard {
+
+    private static final String MESSAGE = "spring.cloud.refresh.enabled is false and JWKS is not configured: the HMAC "
+            + "secret is fixed until the next deployment. Set security.jwt.jwks.enabled and security.jwt.jwks.location "
+            + "so signing keys can rotate.";
+
+    public SigningKeyRotationGuard(JwtProperties jwtProperties) {
+        JwtProperties.Jwks jwks = jwtProperties.getJwks();
+        if (jwks.isEnabled() && StringUtils.isNotBlank(jwks.getLocation())) {
+            return;
+        }
+
+        if (jwtProperties.isRequireKeyRotation()) {
+            throw new IllegalStateException(MESSAGE);
+        }
+        log.warn(MESSAGE);
+    }
+}
@@ -0,0 +1,4 @@
+package com.vendo.product_service.security.common.event;
+
+public record SigningKeyRotatedEvent() {
+}
@@ -0,0 +1,88 @@
+package com.vendo.product_service.security.common.helper;
+
+import com.vendo.domain.user.common.type.UserStatus;
+import com.vendo.product_service.security.common.cache.CachedAuthentication;
+import com.vendo.product_service.security.common.cache.TokenAuthenticationCache;
+import com.vendo.product_service.security.common.metrics.AuthObservations;
+import com.vendo.product_service.security.common.metrics.AuthPhase;
+import com.vendo.security.common.exception.AccessDeniedException;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+import static com.vendo.security.common.constants.AuthConstants.BEARER_PREFIX;
+
+// Shared by the servlet and reactive authentication filters, so both stacks accept exactly the same tokens.
+@Component
+@RequiredArgsConstructor
+public class JwtAuthenticator {
+
+    private final JwtHelper jwtHelper;
+
+    private final TokenAuthenticationCache tokenAuthenticationCache;
+
+    private final AuthObservations authObservations;
+
+    public String extractToken(String authorization) {
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX) && isCompactJws(authorization, BEARER_PREFIX.length())) {
+            return authorization.substring(BEARER_PREFIX.length());
+        }
+
+        return null;
+    }
+
+    public UsernamePasswordAuthenticationToken authenticate(String jwtToken) {
+        return tokenAuthenticationCache.get(jwtToken, this::verify);
+    }
+
+    // A signed JWT is three non-empty base64url segments; anything else would only make the parser throw.
+    private boolean isCompactJws(String value, int start) {
+        int separators = 0;
+        int segmentLength = 0;
+
+        for (int i = start; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                if (segmentLength == 0 || ++separators > 2) {
+                    return false;
+                }
+                segmentLength = 0;
+            } else if (isBase64Url(c)) {
+                segmentLength++;
+            } else {
+                return false;
+            }
+        }
+
+        return separators == 2 && segmentLength > 0;
+    }
+
+    private boolean isBase64Url(char c) {
+        return (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9') || c == '-' || c == '_';
+    }
+
+    private CachedAuthentication verify(String jwtToken) {
+        Claims claims = authObservations.observe(AuthPhase.TOKEN_VERIFY, () -> jwtHelper.extractAllClaims(jwtToken));
+
+        authObservations.observe(AuthPhase.STATUS_CHECK, () -> validateUserAccessibility(claims));
+        return new CachedAuthentication(buildAuthentication(claims), claims.getExpiration());
+    }
+
+    private void validateUserAccessibility(Claims claims) {
+        UserStatus status = jwtHelper.extractUserStatus(claims);
+
+        if (status != UserStatus.ACTIVE) {
+            throw new AccessDeniedException("User is unactive.");
+        }
+    }
+
+    private UsernamePasswordAuthenticationToken buildAuthentication(Claims claims) {
+        List<SimpleGrantedAuthority> authorities = authObservations.observe(AuthPhase.AUTHORITIES_EXTRACT, () -> jwtHelper.extractAuthorities(claims));
+
+        return new UsernamePasswordAuthenticationToken(jwtHelper.extractSubject(claims), null, authorities);
+    }
+}
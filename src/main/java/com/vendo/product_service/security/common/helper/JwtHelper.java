@@ -2,15 +2,24 @@ package com.vendo.product_service.security.common.helper;
 
 import com.vendo.domain.user.common.type.UserStatus;
 import com.vendo.product_service.security.common.config.JwtProperties;
+import com.vendo.product_service.security.common.event.SigningKeyRotatedEvent;
+import com.vendo.product_service.security.common.jwks.JwksKeyStore;
 import com.vendo.security.common.exception.InvalidTokenException;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwsHeader;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.LocatorAdapter;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.lang.Nullable;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
@@ -18,23 +27,41 @@ import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.security.Key;
 import java.util.List;
+import java.util.Objects;
 
 import static com.vendo.security.common.type.TokenClaim.ROLES_CLAIM;
 import static com.vendo.security.common.type.TokenClaim.STATUS_CLAIM;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JwtHelper {
 
     private final JwtProperties jwtProperties;
 
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final JwksKeyStore jwksKeyStore;
+
+    private volatile SigningKey signingKey;
+
+    public JwtHelper(JwtProperties jwtProperties, ApplicationEventPublisher eventPublisher) {
+        this(jwtProperties, eventPublisher, null);
+    }
+
+    @Autowired
+    public JwtHelper(JwtProperties jwtProperties, ApplicationEventPublisher eventPublisher, @Nullable JwksKeyStore jwksKeyStore) {
+        this.jwtProperties = jwtProperties;
+        this.eventPublisher = eventPublisher;
+        this.jwksKeyStore = jwksKeyStore;
+        this.signingKey = SigningKey.of(jwtProperties.getSecretKey(), jwksKeyStore);
+    }
+
     public Claims extractAllClaims(String token) {
         return parseSignedClaims(token).getPayload();
     }
 
     public Key getSignInKey() {
-        return Keys.hmacShaKeyFor(jwtProperties.getSecretKey().getBytes(StandardCharsets.UTF_8));
+        return signingKey.key();
     }
 
     public String extractSubject(Claims claims) {
@@ -77,10 +104,50 @@ public class JwtHelper {
         throw new InvalidTokenException("Invalid token.");
     }
 
+    @EventListener(RefreshScopeRefreshedEvent.class)
+    public synchronized void refreshSigningKey() {
+        String secretKey = jwtProperties.getSecretKey();
+
+        if (Objects.equals(secretKey, signingKey.secretKey())) {
+            return;
+        }
+
+        signingKey = SigningKey.of(secretKey, jwksKeyStore);
+        log.info("JWT signing key rotated.");
+        eventPublisher.publishEvent(new SigningKeyRotatedEvent());
+    }
+
     private Jws<Claims> parseSignedClaims(String token) throws JwtException {
-        return Jwts.parser()
-                .verifyWith((SecretKey) getSignInKey())
-                .build()
-                .parseSignedClaims(token);
+        return signingKey.parser().parseSignedClaims(token);
+    }
+
+    private record SigningKey(String secretKey, SecretKey key, JwtParser parser) {
+
+        static SigningKey of(String secretKey, JwksKeyStore jwksKeyStore) {
+            SecretKey key = StringUtils.isEmpty(secretKey) ? null : Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+            if (jwksKeyStore == null) {
+                return new SigningKey(secretKey, key, Jwts.parser().verifyWith(key).build());
+            }
+
+            return new SigningKey(secretKey, key, Jwts.parser().keyLocator(new SigningKeyLocator(key, jwksKeyStore)).build());
+        }
+    }
+
+    // Tokens carrying a kid are verified against the JWKS; tokens without one keep using the shared secret, if configured.
+    private static class SigningKeyLocator extends LocatorAdapter<Key> {
+
+        private final SecretKey secretKey;
+
+        private final JwksKeyStore jwksKeyStore;
+
+        SigningKeyLocator(SecretKey secretKey, JwksKeyStore jwksKeyStore) {
+            this.secretKey = secretKey;
+            this.jwksKeyStore = jwksKeyStore;
+        }
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            return header.getKeyId() == null ? secretKey : jwksKeyStore.locate(header);
+        }
     }
 }
@@ -0,0 +1,98 @@
+package com.vendo.product_service.security.common.helper;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.JsonStringEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.common.exception.ExceptionResponse;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+// Produces the same body AuthExceptionHandler would, without an exception or MVC exception resolution.
+@Component
+public class RejectionResponseWriter {
+
+    private static final String PATH_PLACEHOLDER = "__rejected_path__";
+
+    private final Map<Rejection, Template> templates = new EnumMap<>(Rejection.class);
+
+    public RejectionResponseWriter(ObjectMapper objectMapper) throws JsonProcessingException {
+        for (Rejection rejection : Rejection.values()) {
+            templates.put(rejection, Template.of(rejection, objectMapper));
+        }
+    }
+
+    public void write(HttpServletResponse response, Rejection rejection, String path) throws IOException {
+        Template template = templates.get(rejection);
+        byte[] encodedPath = template.suffix() == null ? null : JsonStringEncoder.getInstance().quoteAsUTF8(path);
+        int contentLength = template.prefix().length + (encodedPath == null ? 0 : encodedPath.length + template.suffix().length);
+
+        response.setStatus(template.status());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(contentLength);
+
+        ServletOutputStream outputStream = response.getOutputStream();
+        outputStream.write(template.prefix());
+        if (encodedPath != null) {
+            outputStream.write(encodedPath);
+            outputStream.write(template.suffix());
+        }
+    }
+
+    public byte[] render(Rejection rejection, String path) {
+        Template template = templates.get(rejection);
+        if (template.suffix() == null) {
+            return template.prefix().clone();
+        }
+
+        byte[] encodedPath = JsonStringEncoder.getInstance().quoteAsUTF8(path);
+        byte[] body = Arrays.copyOf(template.prefix(), template.prefix().length + encodedPath.length + template.suffix().length);
+        System.arraycopy(encodedPath, 0, body, template.prefix().length, encodedPath.length);
+        System.arraycopy(template.suffix(), 0, body, template.prefix().length + encodedPath.length, template.suffix().length);
+        return body;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Rejection {
+
+        INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "Invalid token."),
+        EXPIRED_TOKEN(HttpStatus.UNAUTHORIZED, "Token has expired.");
+
+        private final HttpStatus status;
+
+        private final String message;
+
+    }
+
+    // The body is serialized once with a placeholder path and split around it; only the path is encoded per request.
+    private record Template(int status, byte[] prefix, byte[] suffix) {
+
+        static Template of(Rejection rejection, ObjectMapper objectMapper) throws JsonProcessingException {
+            String body = objectMapper.writeValueAsString(ExceptionResponse.builder()
+                    .message(rejection.getMessage())
+                    .code(rejection.getStatus().value())
+                    .path(PATH_PLACEHOLDER)
+                    .build());
+
+            int placeholder = body.indexOf(PATH_PLACEHOLDER);
+            if (placeholder < 0) {
+                return new Template(rejection.getStatus().value(), body.getBytes(StandardCharsets.UTF_8), null);
+            }
+
+            return new Template(rejection.getStatus().value(),
+                    body.substring(0, placeholder).getBytes(StandardCharsets.UTF_8),
+                    body.substring(placeholder + PATH_PLACEHOLDER.length()).getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
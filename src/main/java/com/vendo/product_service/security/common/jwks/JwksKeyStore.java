@@ -0,0 +1,209 @@
+package com.vendo.product_service.security.common.jwks;
+
+import com.vendo.product_service.security.common.config.JwtProperties;
+import com.vendo.product_service.readiness.StartupCheck;
+import com.vendo.product_service.security.common.event.SigningKeyRotatedEvent;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.security.Jwk;
+import io.jsonwebtoken.security.JwkSet;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.PublicJwk;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.Key;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Request threads only read the published key map; fetching the document always happens on a scheduler thread,
+// including the first load, so an unreachable JWKS endpoint cannot hold up context startup.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "security.jwt.jwks", name = "enabled", havingValue = "true")
+public class JwksKeyStore implements StartupCheck {
+
+    private static final String SIGNATURE_USE = "sig";
+
+    private final JwtProperties.Jwks jwksProperties;
+
+    private final ResourceLoader resourceLoader;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Executor refreshExecutor;
+
+    private final Clock clock;
+
+    private final Set<String> algorithms;
+
+    private final AtomicLong lastRefreshRequest = new AtomicLong();
+
+    private volatile Map<String, VerificationKey> keys = Map.of();
+
+    private volatile boolean attempted;
+
+    @Autowired
+    public JwksKeyStore(JwtProperties jwtProperties, ResourceLoader resourceLoader,
+                        ApplicationEventPublisher eventPublisher, TaskScheduler taskScheduler) {
+        this(jwtProperties, resourceLoader, eventPublisher, task -> taskScheduler.schedule(task, Instant.now()), Clock.systemUTC());
+    }
+
+    JwksKeyStore(JwtProperties jwtProperties, ResourceLoader resourceLoader,
+                 ApplicationEventPublisher eventPublisher, Executor refreshExecutor, Clock clock) {
+        this.jwksProperties = jwtProperties.getJwks();
+        this.resourceLoader = resourceLoader;
+        this.eventPublisher = eventPublisher;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.algorithms = Set.copyOf(jwksProperties.getAlgorithms());
+
+        refreshExecutor.execute(this::refresh);
+    }
+
+    @Override
+    public String name() {
+        return "jwks";
+    }
+
+    // A failed first load still opens the gate: HMAC tokens verify without JWKS and later refreshes keep retrying.
+    @Override
+    public boolean isReady() {
+        return attempted;
+    }
+
+    // Returns null for an unknown kid or a disallowed algorithm, which the parser rejects as an unverifiable token.
+    public Key locate(JwsHeader header) {
+        String keyId = header.getKeyId();
+        String algorithm = header.getAlgorithm();
+        if (keyId == null || !algorithms.contains(algorithm)) {
+            return null;
+        }
+
+        VerificationKey verificationKey = keys.get(keyId);
+        if (verificationKey == null) {
+            requestRefresh();
+            return null;
+        }
+
+        return verificationKey.algorithm() == null || verificationKey.algorithm().equals(algorithm)
+                ? verificationKey.key()
+                : null;
+    }
+
+    public Set<String> keyIds() {
+        return keys.keySet();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${security.jwt.jwks.refresh-interval-ms:300000}",
+            initialDelayString = "${security.jwt.jwks.refresh-interval-ms:300000}"
+    )
+    public synchronized void refresh() {
+        Map<String, VerificationKey> published;
+        try {
+            published = load();
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to load JWKS from {}, keeping {} known keys.", jwksProperties.getLocation(), keys.size(), e);
+            published = null;
+        }
+
+        Instant now = clock.instant();
+        Map<String, VerificationKey> next = published == null ? new HashMap<>() : new HashMap<>(published);
+        boolean revoked = false;
+
+        for (Map.Entry<String, VerificationKey> entry : keys.entrySet()) {
+            VerificationKey current = entry.getValue();
+            VerificationKey replacement = next.get(entry.getKey());
+
+            if (replacement != null) {
+                revoked |= !replacement.key().equals(current.key());
+                continue;
+            }
+
+            Instant retiredAt = current.retiredAt() != null || published == null ? current.retiredAt() : now;
+            if (retiredAt == null || retiredAt.plus(jwksProperties.getGracePeriod()).isAfter(now)) {
+                next.put(entry.getKey(), current.retiredAt(retiredAt));
+            } else {
+                revoked = true;
+            }
+        }
+
+        keys = Map.copyOf(next);
+        attempted = true;
+
+        // Cached authentications may have been verified with a key that is no longer trusted.
+        if (revoked) {
+            log.info("JWKS verification keys revoked, {} keys remain.", next.size());
+            eventPublisher.publishEvent(new SigningKeyRotatedEvent());
+        }
+    }
+
+    private void requestRefresh() {
+        long now = clock.millis();
+        long previous = lastRefreshRequest.get();
+        if (now - previous < jwksProperties.getMinRefreshInterval().toMillis()
+                || !lastRefreshRequest.compareAndSet(previous, now)) {
+            return;
+        }
+
+        refreshExecutor.execute(this::refresh);
+    }
+
+    private Map<String, VerificationKey> load() throws IOException {
+        JwkSet jwkSet;
+        try (InputStream inputStream = open(resourceLoader.getResource(jwksProperties.getLocation()))) {
+            jwkSet = Jwks.setParser().build().parse(inputStream);
+        }
+
+        Map<String, VerificationKey> loaded = new HashMap<>();
+        for (Jwk<?> jwk : jwkSet.getKeys()) {
+            if (!(jwk instanceof PublicJwk<?> publicJwk) || jwk.getId() == null) {
+                log.warn("Skipping JWK without a kid or public key: {}", jwk.getId());
+                continue;
+            }
+            if (publicJwk.getPublicKeyUse() != null && !SIGNATURE_USE.equals(publicJwk.getPublicKeyUse())) {
+                continue;
+            }
+
+            loaded.put(jwk.getId(), new VerificationKey(publicJwk.toKey(), jwk.getAlgorithm(), null));
+        }
+
+        return loaded;
+    }
+
+    private InputStream open(Resource resource) throws IOException {
+        if (!resource.isFile() && resource.getURL().getProtocol().startsWith("http")) {
+            URL url = resource.getURL();
+            URLConnection connection = url.openConnection();
+            int timeout = Math.toIntExact(jwksProperties.getTimeout().toMillis());
+            connection.setConnectTimeout(timeout);
+            connection.setReadTimeout(timeout);
+            return connection.getInputStream();
+        }
+
+        return resource.getInputStream();
+    }
+
+    private record VerificationKey(Key key, String algorithm, Instant retiredAt) {
+
+        VerificationKey retiredAt(Instant retiredAt) {
+            return new VerificationKey(key, algorithm, retiredAt);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.vendo.product_service.security.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+@Component
+public class AuthObservations {
+
+    public static final String PHASE_OBSERVATION = "product.auth.phase";
+
+    public static final String REJECTIONS_METER = "product.auth.rejections";
+
+    private static final String PHASE_KEY = "phase";
+
+    private static final String REASON_KEY = "reason";
+
+    private final ObservationRegistry observationRegistry;
+
+    private final Map<AuthRejectionReason, Counter> rejections = new EnumMap<>(AuthRejectionReason.class);
+
+    public AuthObservations(ObservationRegistry observationRegistry, MeterRegistry meterRegistry) {
+        this.observationRegistry = observationRegistry;
+
+        for (AuthRejectionReason reason : AuthRejectionReason.values()) {
+            rejections.put(reason, Counter.builder(REJECTIONS_METER)
+                    .description("Requests rejected by the authentication filters")
+                    .tag(REASON_KEY, reason.getTag())
+                    .register(meterRegistry));
+        }
+    }
+
+    // Each phase becomes both a timer and a span; only the phase name is tagged, never token or subject data.
+    public <T> T observe(AuthPhase phase, Supplier<T> action) {
+        return observation(phase).observe(action);
+    }
+
+    public void observe(AuthPhase phase, Runnable action) {
+        observation(phase).observe(action);
+    }
+
+    public void recordRejection(Throwable e) {
+        recordRejection(AuthRejectionReason.of(e));
+    }
+
+    public void recordRejection(AuthRejectionReason reason) {
+        rejections.get(reason).increment();
+    }
+
+    private Observation observation(AuthPhase phase) {
+        return Observation.createNotStarted(PHASE_OBSERVATION, observationRegistry)
+                .contextualName(phase.getTag())
+                .lowCardinalityKeyValue(PHASE_KEY, phase.getTag());
+    }
+}
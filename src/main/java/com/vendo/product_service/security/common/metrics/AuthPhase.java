@@ -0,0 +1,17 @@
+package com.vendo.product_service.security.common.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum AuthPhase {
+
+    // jjwt decodes and checks the signature in a single call, so parsing and verification share one phase.
+    TOKEN_VERIFY("token.verify"),
+    STATUS_CHECK("status.check"),
+    AUTHORITIES_EXTRACT("authorities.extract");
+
+    private final String tag;
+
+}
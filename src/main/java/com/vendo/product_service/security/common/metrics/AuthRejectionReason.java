@@ -0,0 +1,43 @@
+package com.vendo.product_service.security.common.metrics;
+
+import com.vendo.product_service.security.common.exception.RateLimitExceededException;
+import com.vendo.security.common.exception.AccessDeniedException;
+import com.vendo.security.common.exception.InvalidTokenException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// One reason per exception type handled by AuthExceptionHandler, which keeps the tag cardinality fixed.
+@Getter
+@RequiredArgsConstructor
+public enum AuthRejectionReason {
+
+    ACCESS_DENIED("access_denied"),
+    INVALID_TOKEN("invalid_token"),
+    EXPIRED_TOKEN("expired_token"),
+    JWT_ERROR("jwt_error"),
+    RATE_LIMITED("rate_limited"),
+    OTHER("other");
+
+    private final String tag;
+
+    public static AuthRejectionReason of(Throwable e) {
+        if (e instanceof AccessDeniedException) {
+            return ACCESS_DENIED;
+        }
+        if (e instanceof InvalidTokenException) {
+            return INVALID_TOKEN;
+        }
+        if (e instanceof ExpiredJwtException) {
+            return EXPIRED_TOKEN;
+        }
+        if (e instanceof JwtException) {
+            return JWT_ERROR;
+        }
+        if (e instanceof RateLimitExceededException) {
+            return RATE_LIMITED;
+        }
+        return OTHER;
+    }
+}
@@ -0,0 +1,70 @@
+package com.vendo.product_service.security.common.ratelimit;
+
+import com.vendo.product_service.security.common.config.RateLimitProperties;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the address anonymous requests are limited by. X-Forwarded-For is only honoured when the direct peer is a
+ * trusted proxy, and is read from the right so that a client cannot pick its own address by prepending entries.
+ */
+@Component
+public class ClientAddressResolver {
+
+    public static final String FORWARDED_FOR_HEADER = "X-Forwarded-For";
+
+    // Anything else could be a host name, which IpAddressMatcher would resolve through DNS.
+    private static final Pattern IP_LITERAL = Pattern.compile("\\d{1,3}(\\.\\d{1,3}){3}|[0-9a-fA-F]*:[0-9a-fA-F:.]*");
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientAddressResolver(RateLimitProperties rateLimitProperties) {
+        this.trustedProxies = rateLimitProperties.getTrustedProxies().stream()
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(String remoteAddress, List<String> forwardedForHeaders) {
+        if (forwardedForHeaders == null || forwardedForHeaders.isEmpty() || !isTrusted(remoteAddress)) {
+            return remoteAddress;
+        }
+
+        List<String> hops = new ArrayList<>();
+        for (String header : forwardedForHeaders) {
+            for (String hop : header.split(",")) {
+                hops.add(hop.trim());
+            }
+        }
+
+        String client = remoteAddress;
+        for (int i = hops.size() - 1; i >= 0; i--) {
+            String hop = hops.get(i);
+            if (!IP_LITERAL.matcher(hop).matches()) {
+                return client;
+            }
+
+            client = hop;
+            if (!isTrusted(hop)) {
+                return client;
+            }
+        }
+        return client;
+    }
+
+    private boolean isTrusted(String address) {
+        if (address == null || !IP_LITERAL.matcher(address).matches()) {
+            return false;
+        }
+
+        for (IpAddressMatcher trustedProxy : trustedProxies) {
+            if (trustedProxy.matches(address)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
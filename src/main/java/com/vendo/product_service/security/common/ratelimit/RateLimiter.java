@@ -0,0 +1,76 @@
+package com.vendo.product_service.security.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.vendo.product_service.security.common.config.RateLimitProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+@Component
+public class RateLimiter {
+
+    private static final String SUBJECT_KEY_PREFIX = "sub:";
+
+    private static final String ADDRESS_KEY_PREFIX = "ip:";
+
+    private final RateLimitProperties rateLimitProperties;
+
+    private final Map<String, RateLimitProperties.Limit> roleLimits;
+
+    private final Ticker ticker;
+
+    // Idle buckets are full again by the time they expire, so evicting them never loosens a limit.
+    private final Cache<String, TokenBucket> buckets;
+
+    @Autowired
+    public RateLimiter(RateLimitProperties rateLimitProperties) {
+        this(rateLimitProperties, Ticker.systemTicker());
+    }
+
+    RateLimiter(RateLimitProperties rateLimitProperties, Ticker ticker) {
+        this.rateLimitProperties = rateLimitProperties;
+        this.roleLimits = Map.copyOf(rateLimitProperties.getRoles());
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(rateLimitProperties.getMaximumBuckets())
+                .expireAfterAccess(rateLimitProperties.getIdleTimeout())
+                .ticker(ticker)
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return rateLimitProperties.isEnabled();
+    }
+
+    // Returns 0 when the request may proceed, otherwise the nanoseconds until the client may retry.
+    public long tryAcquire(Authentication authentication, String remoteAddress) {
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return tryAcquire(ADDRESS_KEY_PREFIX + remoteAddress, rateLimitProperties.getAnonymous());
+        }
+
+        return tryAcquire(SUBJECT_KEY_PREFIX + authentication.getName(), limitOf(authentication));
+    }
+
+    private long tryAcquire(String key, RateLimitProperties.Limit limit) {
+        long now = ticker.read();
+        return buckets.get(key, ignored -> new TokenBucket(limit, now)).tryAcquire(now);
+    }
+
+    // A subject with several roles gets the most generous of their limits.
+    private RateLimitProperties.Limit limitOf(Authentication authentication) {
+        RateLimitProperties.Limit limit = rateLimitProperties.getAuthenticated();
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            RateLimitProperties.Limit roleLimit = roleLimits.get(authority.getAuthority());
+            if (roleLimit != null && roleLimit.getRefillPerSecond() > limit.getRefillPerSecond()) {
+                limit = roleLimit;
+            }
+        }
+        return limit;
+    }
+}
@@ -0,0 +1,37 @@
+package com.vendo.product_service.security.common.ratelimit;
+
+import com.vendo.product_service.security.common.config.RateLimitProperties;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Token bucket in its GCRA form: the whole state is one timestamp, so acquiring is a single CAS without locks.
+final class TokenBucket {
+
+    private final long emissionIntervalNanos;
+
+    private final long burstNanos;
+
+    private final AtomicLong theoreticalArrivalNanos;
+
+    TokenBucket(RateLimitProperties.Limit limit, long nowNanos) {
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / limit.getRefillPerSecond()));
+        this.burstNanos = emissionIntervalNanos * Math.max(1, limit.getCapacity());
+        this.theoreticalArrivalNanos = new AtomicLong(nowNanos);
+    }
+
+    // Returns 0 when a token was taken, otherwise how long until the next one is available.
+    long tryAcquire(long nowNanos) {
+        while (true) {
+            long theoreticalArrival = theoreticalArrivalNanos.get();
+            long next = Math.max(theoreticalArrival, nowNanos) + emissionIntervalNanos;
+            long waitNanos = next - burstNanos - nowNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalNanos.compareAndSet(theoreticalArrival, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.vendo.product_service.security.filter;
+
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Ant-style patterns compiled into a segment trie that is walked without allocating.
+ * Patterns the trie cannot express fall back to {@link AntPathMatcher}.
+ */
+public final class CompiledPathMatcher {
+
+    private static final AntPathMatcher ANT_PATH_MATCHER = new AntPathMatcher();
+
+    private static final String SEPARATOR = "/";
+
+    private static final String MATCH_REST = "**";
+
+    private final Node root;
+
+    private final String[] fallbackPatterns;
+
+    private CompiledPathMatcher(Node root, String[] fallbackPatterns) {
+        this.root = root;
+        this.fallbackPatterns = fallbackPatterns;
+    }
+
+    public static CompiledPathMatcher compile(String... patterns) {
+        Node root = new Node();
+        List<String> fallbackPatterns = new ArrayList<>();
+
+        for (String pattern : patterns) {
+            if (!insert(root, pattern)) {
+                fallbackPatterns.add(pattern);
+            }
+        }
+
+        return new CompiledPathMatcher(root, fallbackPatterns.toArray(String[]::new));
+    }
+
+    public boolean matches(String path) {
+        if (path != null && path.startsWith(SEPARATOR) && matches(root, path, 0)) {
+            return true;
+        }
+
+        for (String pattern : fallbackPatterns) {
+            if (path != null && ANT_PATH_MATCHER.match(pattern, path)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean matches(Node node, String path, int position) {
+        if (node.matchesRest) {
+            return true;
+        }
+
+        int length = path.length();
+        if (position == length) {
+            return node.terminal;
+        }
+
+        int start = position + 1;
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = length;
+        }
+
+        int segmentLength = end - start;
+        if (segmentLength == 0) {
+            return end < length
+                    ? matches(node, path, end)
+                    : node.wildcard != null && node.wildcard.terminal;
+        }
+
+        for (int i = 0; i < node.literals.length; i++) {
+            String literal = node.literals[i];
+            if (literal.length() == segmentLength
+                    && path.regionMatches(start, literal, 0, segmentLength)
+                    && matches(node.children[i], path, end)) {
+                return true;
+            }
+        }
+
+        return node.wildcard != null && matches(node.wildcard, path, end);
+    }
+
+    private static boolean insert(Node root, String pattern) {
+        if (!pattern.startsWith(SEPARATOR) || (pattern.length() > 1 && pattern.endsWith(SEPARATOR))) {
+            return false;
+        }
+
+        String[] segments = pattern.substring(1).split(SEPARATOR, -1);
+        for (int i = 0; i < segments.length; i++) {
+            boolean last = i == segments.length - 1;
+            if (!isCompilable(segments[i]) || (segments[i].equals(MATCH_REST) && !last)) {
+                return false;
+            }
+        }
+
+        Node node = root;
+        for (String segment : segments) {
+            if (segment.equals(MATCH_REST)) {
+                node.matchesRest = true;
+                return true;
+            }
+
+            node = isWildcard(segment) ? node.wildcard() : node.literal(segment);
+        }
+
+        node.terminal = true;
+        return true;
+    }
+
+    private static boolean isCompilable(String segment) {
+        if (segment.isEmpty()) {
+            return false;
+        }
+
+        if (segment.equals(MATCH_REST) || isWildcard(segment)) {
+            return true;
+        }
+
+        return segment.chars().noneMatch(c -> c == '*' || c == '?' || c == '{' || c == '}');
+    }
+
+    private static boolean isWildcard(String segment) {
+        if (segment.equals("*")) {
+            return true;
+        }
+
+        return segment.length() > 2
+                && segment.charAt(0) == '{'
+                && segment.indexOf('}') == segment.length() - 1
+                && segment.indexOf(':') < 0
+                && segment.indexOf('{', 1) < 0;
+    }
+
+    private static final class Node {
+
+        private String[] literals = new String[0];
+
+        private Node[] children = new Node[0];
+
+        private Node wildcard;
+
+        private boolean terminal;
+
+        private boolean matchesRest;
+
+        private Node literal(String segment) {
+            for (int i = 0; i < literals.length; i++) {
+                if (literals[i].equals(segment)) {
+                    return children[i];
+                }
+            }
+
+            Node child = new Node();
+            literals = Arrays.copyOf(literals, literals.length + 1);
+            children = Arrays.copyOf(children, children.length + 1);
+            literals[literals.length - 1] = segment;
+            children[children.length - 1] = child;
+            return child;
+        }
+
+        private Node wildcard() {
+            if (wildcard == null) {
+                wildcard = new Node();
+            }
+
+            return wildcard;
+        }
+    }
+}
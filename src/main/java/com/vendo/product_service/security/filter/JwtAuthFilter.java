@@ -1,10 +1,11 @@
 package com.vendo.product_service.security.filter;
 
-import com.vendo.domain.user.common.type.UserStatus;
-import com.vendo.product_service.security.common.helper.JwtHelper;
-import com.vendo.security.common.exception.AccessDeniedException;
-import com.vendo.security.common.exception.InvalidTokenException;
-import io.jsonwebtoken.Claims;
+import com.vendo.product_service.security.common.helper.JwtAuthenticator;
+import com.vendo.product_service.security.common.helper.RejectionResponseWriter;
+import com.vendo.product_service.security.common.helper.RejectionResponseWriter.Rejection;
+import com.vendo.product_service.security.common.metrics.AuthObservations;
+import com.vendo.product_service.security.common.metrics.AuthRejectionReason;
+import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,8 +13,8 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
@@ -21,20 +22,23 @@ import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
 import java.io.IOException;
-import java.util.List;
 
 import static com.vendo.security.common.constants.AuthConstants.AUTHORIZATION_HEADER;
-import static com.vendo.security.common.constants.AuthConstants.BEARER_PREFIX;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class JwtAuthFilter extends OncePerRequestFilter {
 
-    private final JwtHelper jwtHelper;
+    private final JwtAuthenticator jwtAuthenticator;
 
     private final ProductAntPathResolver productAntPathResolver;
 
+    private final AuthObservations authObservations;
+
+    private final RejectionResponseWriter rejectionResponseWriter;
+
     @Qualifier("handlerExceptionResolver")
     private final HandlerExceptionResolver handlerExceptionResolver;
 
@@ -46,13 +50,22 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             return;
         }
 
+        // Only a string shape check; rejections are counted instead of timed, so bot traffic creates no observations.
+        String jwtToken = jwtAuthenticator.extractToken(request.getHeader(AUTHORIZATION_HEADER));
+        if (jwtToken == null) {
+            reject(request, response, AuthRejectionReason.INVALID_TOKEN, Rejection.INVALID_TOKEN);
+            return;
+        }
+
         try {
-            String jwtToken = getTokenFromRequest(request);
-            Claims claims = jwtHelper.extractAllClaims(jwtToken);
+            UsernamePasswordAuthenticationToken authToken = jwtAuthenticator.authenticate(jwtToken);
 
-            validateUserAccessibility(claims);
-            addAuthenticationToContext(claims);
+            addAuthenticationToContext(authToken);
+        } catch (ExpiredJwtException e) {
+            reject(request, response, AuthRejectionReason.EXPIRED_TOKEN, Rejection.EXPIRED_TOKEN);
+            return;
         } catch (Exception e) {
+            authObservations.recordRejection(e);
             handlerExceptionResolver.resolveException(request, response, null, e);
             return;
         }
@@ -66,30 +79,17 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         return productAntPathResolver.isPermittedPath(requestURI);
     }
 
-    private String getTokenFromRequest(HttpServletRequest request) {
-        String authorization = request.getHeader(AUTHORIZATION_HEADER);
-
-        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
-            return authorization.substring(BEARER_PREFIX.length());
-        }
-
-        throw new InvalidTokenException("Invalid token.");
-    }
-
-    private void validateUserAccessibility(Claims claims) {
-        UserStatus status = jwtHelper.extractUserStatus(claims);
-
-        if (status != UserStatus.ACTIVE) {
-            throw new AccessDeniedException("User is unactive.");
-        }
+    // Bot traffic is mostly missing, mistyped or garbage tokens; those are answered without throwing anything.
+    private void reject(HttpServletRequest request, HttpServletResponse response, AuthRejectionReason reason,
+                        Rejection rejection) throws IOException {
+        authObservations.recordRejection(reason);
+        rejectionResponseWriter.write(response, rejection, request.getRequestURI());
     }
 
-    private void addAuthenticationToContext(Claims claims) {
-        List<SimpleGrantedAuthority> authorities = jwtHelper.extractAuthorities(claims);
-
-        UsernamePasswordAuthenticationToken authToken =
-                new UsernamePasswordAuthenticationToken(jwtHelper.extractSubject(claims), null, authorities);
+    private void addAuthenticationToContext(UsernamePasswordAuthenticationToken authToken) {
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(authToken);
 
-        SecurityContextHolder.getContext().setAuthentication(authToken);
+        SecurityContextHolder.setContext(securityContext);
     }
-}
\ No newline at end of file
+}
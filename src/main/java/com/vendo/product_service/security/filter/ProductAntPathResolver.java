@@ -1,23 +1,41 @@
 package com.vendo.product_service.security.filter;
 
+import com.vendo.product_service.security.common.config.PermittedPathProperties;
 import com.vendo.security.AntPathResolver;
 import org.springframework.stereotype.Component;
-import org.springframework.util.AntPathMatcher;
 
 import java.util.Arrays;
+import java.util.stream.Stream;
 
 @Component
 public class ProductAntPathResolver implements AntPathResolver {
 
-    private static final AntPathMatcher antPathMatcher = new AntPathMatcher();
-
     public static final String[] PERMITTED_PATHS = new String[] {
             "/swagger-ui/**",
             "/v3/api-docs/**",
+            "/products/**",
+            "/search/**",
+            "/actuator/health/liveness",
+            "/actuator/health/readiness",
     };
 
+    private final String[] permittedPaths;
+
+    private final CompiledPathMatcher permittedPathMatcher;
+
+    public ProductAntPathResolver(PermittedPathProperties permittedPathProperties) {
+        this.permittedPaths = Stream.concat(Arrays.stream(PERMITTED_PATHS), permittedPathProperties.getPermitted().stream())
+                .distinct()
+                .toArray(String[]::new);
+        this.permittedPathMatcher = CompiledPathMatcher.compile(permittedPaths);
+    }
+
+    public String[] getPermittedPaths() {
+        return permittedPaths.clone();
+    }
+
     @Override
     public boolean isPermittedPath(String path) {
-        return Arrays.stream(PERMITTED_PATHS).anyMatch(pr -> antPathMatcher.match(pr, path));
+        return permittedPathMatcher.matches(path);
     }
 }
@@ -0,0 +1,59 @@
+package com.vendo.product_service.security.filter;
+
+import com.vendo.product_service.security.common.exception.RateLimitExceededException;
+import com.vendo.product_service.security.common.metrics.AuthObservations;
+import com.vendo.product_service.security.common.ratelimit.ClientAddressResolver;
+import com.vendo.product_service.security.common.ratelimit.RateLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private final RateLimiter rateLimiter;
+
+    private final ClientAddressResolver clientAddressResolver;
+
+    private final AuthObservations authObservations;
+
+    @Qualifier("handlerExceptionResolver")
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    // Runs after JwtAuthFilter, so authenticated requests are limited per subject and the rest per client address.
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        String clientAddress = clientAddressResolver.resolve(request.getRemoteAddr(),
+                Collections.list(request.getHeaders(ClientAddressResolver.FORWARDED_FOR_HEADER)));
+        long retryAfterNanos = rateLimiter.tryAcquire(SecurityContextHolder.getContext().getAuthentication(), clientAddress);
+
+        if (retryAfterNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+            RateLimitExceededException exception = new RateLimitExceededException("Too many requests.", retryAfterSeconds);
+            authObservations.recordRejection(exception);
+            handlerExceptionResolver.resolveException(request, response, null, exception);
+            return;
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled();
+    }
+}
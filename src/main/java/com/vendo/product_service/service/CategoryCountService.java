@@ -0,0 +1,27 @@
+package com.vendo.product_service.service;
+
+import com.vendo.product_service.common.dto.CategoryCountsResponse;
+import com.vendo.product_service.counts.CategoryCountSnapshot;
+import com.vendo.product_service.counts.CategoryCountStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.counts", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CategoryCountService {
+
+    private final CategoryCountStore categoryCountStore;
+
+    public Map<String, Long> findCategoryCounts() {
+        return categoryCountStore.snapshot().categories();
+    }
+
+    public CategoryCountsResponse findCategoryCounts(String category) {
+        CategoryCountSnapshot snapshot = categoryCountStore.snapshot();
+        return new CategoryCountsResponse(category, snapshot.productCount(category), snapshot.attributeCounts(category));
+    }
+}
@@ -0,0 +1,32 @@
+package com.vendo.product_service.service;
+
+import com.vendo.product_service.common.dto.ReservationRequest;
+import com.vendo.product_service.common.dto.ReservationResponse;
+import com.vendo.product_service.common.mapper.ReservationMapper;
+import com.vendo.product_service.inventory.InventoryReservationEngine;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.inventory", name = "enabled", havingValue = "true")
+public class InventoryReservationService {
+
+    private final InventoryReservationEngine inventoryReservationEngine;
+
+    private final ReservationMapper reservationMapper;
+
+    public ReservationResponse reserve(String userId, ReservationRequest reservationRequest) {
+        return reservationMapper.toReservationResponse(inventoryReservationEngine.reserve(
+                userId, reservationRequest.getProductId(), reservationRequest.getQuantity()));
+    }
+
+    public void confirm(String userId, String reservationId) {
+        inventoryReservationEngine.confirm(userId, reservationId);
+    }
+
+    public void release(String userId, String reservationId) {
+        inventoryReservationEngine.release(userId, reservationId);
+    }
+}
@@ -0,0 +1,81 @@
+package com.vendo.product_service.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.exception.ExportRejectedException;
+import com.vendo.product_service.common.exception.InvalidCursorException;
+import com.vendo.product_service.common.exporting.ExportProperties;
+import com.vendo.product_service.common.mapper.ProductMapper;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ProductRepository;
+import org.bson.types.ObjectId;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+@Service
+public class ProductExportService {
+
+    private final ProductRepository productRepository;
+
+    private final ProductMapper productMapper;
+
+    private final ExportProperties exportProperties;
+
+    private final ObjectMapper objectMapper;
+
+    private final ObjectWriter productWriter;
+
+    private final Semaphore exportSlots;
+
+    public ProductExportService(ProductRepository productRepository, ProductMapper productMapper,
+                                ExportProperties exportProperties, ObjectMapper objectMapper) {
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.exportProperties = exportProperties;
+        this.objectMapper = objectMapper;
+        this.productWriter = objectMapper.writerFor(ProductResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.exportSlots = new Semaphore(exportProperties.getMaxConcurrentExports());
+    }
+
+    public void reserve(String afterId) {
+        if (afterId != null && !ObjectId.isValid(afterId)) {
+            throw new InvalidCursorException("Invalid export resume token.");
+        }
+        if (!exportSlots.tryAcquire()) {
+            throw new ExportRejectedException("Too many exports in progress, try again later.");
+        }
+    }
+
+    // Called once per successful reserve, when the export request completes for whatever reason.
+    public void release() {
+        exportSlots.release();
+    }
+
+    public void exportActive(String afterId, boolean gzip, OutputStream outputStream) throws IOException {
+        int bufferSize = (int) exportProperties.getBufferSize().toBytes();
+
+        try (Stream<Product> products = productRepository.streamActive(afterId, exportProperties.getCursorBatchSize())) {
+            OutputStream target = gzip ? new GZIPOutputStream(outputStream, bufferSize) : outputStream;
+            BufferedOutputStream buffered = new BufferedOutputStream(target, bufferSize);
+
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(buffered)) {
+                Iterator<Product> iterator = products.iterator();
+                while (iterator.hasNext()) {
+                    productWriter.writeValue(generator, productMapper.toProductResponse(iterator.next()));
+                    generator.writeRaw('\n');
+                }
+            }
+        }
+    }
+}
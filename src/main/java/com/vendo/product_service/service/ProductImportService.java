@@ -0,0 +1,341 @@
+package com.vendo.product_service.service;
+
+import com.vendo.product_service.common.dto.ImportJobResponse;
+import com.vendo.product_service.common.dto.ProductRequest;
+import com.vendo.product_service.common.exception.ImportJobNotFoundException;
+import com.vendo.product_service.common.exception.ImportRejectedException;
+import com.vendo.product_service.common.importing.BulkUpsertResult;
+import com.vendo.product_service.common.importing.ImportProperties;
+import com.vendo.product_service.common.importing.ImportRow;
+import com.vendo.product_service.common.importing.ProductRowReader;
+import com.vendo.product_service.common.importing.ProductRowReaderFactory;
+import com.vendo.product_service.common.mapper.ImportJobMapper;
+import com.vendo.product_service.common.mapper.ProductMapper;
+import com.vendo.product_service.common.type.ImportFormat;
+import com.vendo.product_service.common.type.ImportJobStatus;
+import com.vendo.product_service.common.type.ProductChangeType;
+import com.vendo.product_service.event.ProductChangeBatchEvent;
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.model.ImportJob;
+import com.vendo.product_service.model.ImportRowError;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ImportJobRepository;
+import com.vendo.product_service.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private final ImportJobRepository importJobRepository;
+
+    private final ProductRepository productRepository;
+
+    private final ProductMapper productMapper;
+
+    private final ImportJobMapper importJobMapper;
+
+    private final ProductRowReaderFactory productRowReaderFactory;
+
+    private final Validator validator;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ImportProperties importProperties;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final ThreadPoolTaskExecutor jobExecutor;
+
+    private final ThreadPoolTaskExecutor writeExecutor;
+
+    public ProductImportService(ImportJobRepository importJobRepository, ProductRepository productRepository,
+                                ProductMapper productMapper, ImportJobMapper importJobMapper,
+                                ProductRowReaderFactory productRowReaderFactory, Validator validator,
+                                ApplicationEventPublisher applicationEventPublisher, ImportProperties importProperties,
+                                MongoTransactionManager transactionManager) {
+        this.importJobRepository = importJobRepository;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.importJobMapper = importJobMapper;
+        this.productRowReaderFactory = productRowReaderFactory;
+        this.validator = validator;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.importProperties = importProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        this.jobExecutor = executor("product-import-", importProperties.getMaxConcurrentJobs(), importProperties.getQueueCapacity());
+        this.writeExecutor = executor("product-import-write-",
+                importProperties.getMaxConcurrentJobs() * importProperties.getWriteParallelism(), Integer.MAX_VALUE);
+    }
+
+    public ImportJobResponse startImport(String sellerId, ImportFormat format, InputStream body) throws IOException {
+        Path file = Files.createTempFile(importProperties.getSpoolDirectory(), "product-import-", ".tmp");
+        try {
+            Files.copy(body, file, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw e;
+        }
+
+        ImportJob job = importJobRepository.save(ImportJob.builder()
+                .sellerId(sellerId)
+                .format(format)
+                .status(ImportJobStatus.QUEUED)
+                .errors(List.of())
+                .build());
+
+        try {
+            jobExecutor.execute(() -> process(job, file));
+        } catch (TaskRejectedException e) {
+            deleteQuietly(file);
+            importJobRepository.deleteById(job.getId());
+            throw new ImportRejectedException("Too many imports in progress, try again later.");
+        }
+
+        return importJobMapper.toImportJobResponse(job);
+    }
+
+    public ImportJobResponse findJob(String sellerId, String id) {
+        return importJobRepository.findByIdAndSellerId(id, sellerId)
+                .map(importJobMapper::toImportJobResponse)
+                .orElseThrow(() -> new ImportJobNotFoundException("Import job not found."));
+    }
+
+    void process(ImportJob job, Path file) {
+        importJobRepository.markRunning(job.getId());
+
+        int writeParallelism = importProperties.getWriteParallelism();
+        Semaphore inFlight = new Semaphore(writeParallelism);
+        ImportJobStatus status = ImportJobStatus.COMPLETED;
+        String message = null;
+
+        try (ProductRowReader reader = productRowReaderFactory.open(job.getFormat(), Files.newInputStream(file))) {
+            ImportBatch batch = new ImportBatch();
+            while (reader.hasNext()) {
+                batch.add(reader.next());
+                if (batch.size() >= importProperties.getBatchSize()) {
+                    submit(job, batch, inFlight);
+                    batch = new ImportBatch();
+                }
+            }
+
+            if (batch.size() > 0) {
+                submit(job, batch, inFlight);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Import job {} aborted.", job.getId(), e);
+            status = ImportJobStatus.FAILED;
+            message = "Import aborted: " + e.getMessage();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            status = ImportJobStatus.FAILED;
+            message = "Import interrupted.";
+        } finally {
+            inFlight.acquireUninterruptibly(writeParallelism);
+            deleteQuietly(file);
+        }
+
+        importJobRepository.markFinished(job.getId(), status, message);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdown();
+        writeExecutor.shutdown();
+    }
+
+    // Blocks the reader while all write slots are busy, so parsing never runs ahead of Mongo.
+    private void submit(ImportJob job, ImportBatch batch, Semaphore inFlight) throws InterruptedException {
+        inFlight.acquire();
+        try {
+            writeExecutor.execute(() -> {
+                try {
+                    write(job, batch);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    // Rows Mongo rejects abort the whole transaction, so they are reported and the remaining rows are written again.
+    private void write(ImportJob job, ImportBatch batch) {
+        List<ImportRowError> errors = new ArrayList<>(batch.errors);
+        List<ImportRow> rows = batch.rows;
+        BulkUpsertResult result = null;
+        try {
+            while (!rows.isEmpty()) {
+                List<ImportRow> attempt = rows;
+                result = transactionTemplate.execute(status -> writeRows(job.getSellerId(), attempt, status));
+                if (result.failures().isEmpty()) {
+                    break;
+                }
+
+                Map<Integer, String> failures = result.failures();
+                failures.forEach((index, failure) -> errors.add(toError(attempt.get(index), failure)));
+                rows = IntStream.range(0, attempt.size())
+                        .filter(index -> !failures.containsKey(index))
+                        .mapToObj(attempt::get)
+                        .toList();
+                result = null;
+            }
+        } catch (RuntimeException e) {
+            log.warn("Failed to write batch of import job {}.", job.getId(), e);
+            rows.forEach(row -> errors.add(toError(row, "Write failed: " + e.getMessage())));
+        }
+
+        importJobRepository.recordBatch(job.getId(), batch.rowCount, result == null ? 0 : result.insertedCount(),
+                result == null ? 0 : result.updatedCount(), errors, importProperties.getMaxErrors());
+    }
+
+    // The change events go through the outbox writer on this thread, so they commit or roll back with the products.
+    private BulkUpsertResult writeRows(String sellerId, List<ImportRow> rows, TransactionStatus status) {
+        Set<String> skus = rows.stream().map(row -> row.request().getSku()).collect(Collectors.toSet());
+        Map<String, List<String>> previousCategories = productRepository.findChangeKeysBySellerIdAndSkuIn(sellerId, skus).stream()
+                .collect(Collectors.toMap(Product::getSku, this::categoriesOf));
+
+        List<Product> products = rows.stream()
+                .map(row -> toProduct(sellerId, row.request()))
+                .toList();
+        BulkUpsertResult result = productRepository.bulkUpsertBySku(sellerId, products);
+        if (!result.failures().isEmpty()) {
+            status.setRollbackOnly();
+            return result;
+        }
+
+        publishChanges(sellerId, rows, result, previousCategories);
+        return result;
+    }
+
+    private Product toProduct(String sellerId, ProductRequest productRequest) {
+        Product product = productMapper.toProduct(productRequest);
+        product.setSellerId(sellerId);
+        product.setStatus(productRequest.getStatus());
+        return product;
+    }
+
+    private void publishChanges(String sellerId, List<ImportRow> rows, BulkUpsertResult result,
+                                Map<String, List<String>> previousCategories) {
+        Map<String, Integer> writtenSkus = new HashMap<>();
+        for (int i = 0; i < rows.size(); i++) {
+            writtenSkus.put(rows.get(i).request().getSku(), i);
+        }
+
+        // Previous categories are included so that listing pages the product moved out of are evicted as well.
+        Instant now = Instant.now();
+        List<ProductChangedEvent> changes = productRepository.findChangeKeysBySellerIdAndSkuIn(sellerId, writtenSkus.keySet()).stream()
+                .map(product -> {
+                    Set<String> categories = new LinkedHashSet<>(previousCategories.getOrDefault(product.getSku(), List.of()));
+                    categories.addAll(categoriesOf(product));
+                    return new ProductChangedEvent(
+                            result.insertedIndexes().contains(writtenSkus.get(product.getSku())) ? ProductChangeType.CREATED : ProductChangeType.UPDATED,
+                            product.getId(),
+                            sellerId,
+                            Set.copyOf(categories),
+                            product.getVersion(),
+                            now);
+                })
+                .toList();
+        applicationEventPublisher.publishEvent(new ProductChangeBatchEvent(changes));
+    }
+
+    private List<String> categoriesOf(Product product) {
+        return product.getCategories() == null ? List.of() : List.copyOf(product.getCategories());
+    }
+
+    private ImportRowError toError(ImportRow row, String message) {
+        return new ImportRowError(row.row(), row.request() == null ? null : row.request().getSku(), message);
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete import spool file {}.", file, e);
+        }
+    }
+
+    private static ThreadPoolTaskExecutor executor(String threadNamePrefix, int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    private class ImportBatch {
+
+        private final List<ImportRow> rows = new ArrayList<>();
+
+        private final List<ImportRowError> errors = new ArrayList<>();
+
+        private final Map<String, Long> skus = new HashMap<>();
+
+        private long rowCount;
+
+        void add(ImportRow row) {
+            rowCount++;
+            String error = row.error() != null ? row.error() : validate(row.request());
+            if (error != null) {
+                errors.add(toError(row, error));
+                return;
+            }
+
+            // Unordered upserts of the same sku would race each other, so duplicates within a batch are rejected.
+            Long firstRow = skus.putIfAbsent(row.request().getSku(), row.row());
+            if (firstRow != null) {
+                errors.add(toError(row, "sku: duplicates row " + firstRow));
+                return;
+            }
+            rows.add(row);
+        }
+
+        long size() {
+            return rowCount;
+        }
+
+        private String validate(ProductRequest productRequest) {
+            Set<ConstraintViolation<ProductRequest>> violations = validator.validate(productRequest);
+            if (violations.isEmpty()) {
+                return null;
+            }
+
+            return violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.vendo.product_service.service;
+
+import com.vendo.product_service.common.dto.ProductSearchResponse;
+import com.vendo.product_service.common.exception.InvalidSearchQueryException;
+import com.vendo.product_service.search.ProductSearchIndex;
+import com.vendo.product_service.search.ProductSearchQuery;
+import com.vendo.product_service.search.config.SearchProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class ProductSearchService {
+
+    // Prices are indexed as whole cents in a long, so a bound beyond this cannot be converted.
+    private static final BigDecimal MAX_PRICE_BOUND = BigDecimal.valueOf(Long.MAX_VALUE / 100);
+
+    private final ProductSearchIndex productSearchIndex;
+
+    private final SearchProperties searchProperties;
+
+    public ProductSearchResponse search(String text, String category, String brand, BigDecimal minPrice, BigDecimal maxPrice,
+                                        int offset, int limit) {
+        requireConvertible("minPrice", minPrice);
+        requireConvertible("maxPrice", maxPrice);
+        int pageSize = Math.max(1, Math.min(limit, searchProperties.getMaxPageSize()));
+        int from = Math.max(0, Math.min(offset, searchProperties.getMaxResultWindow() - pageSize));
+
+        return productSearchIndex.search(new ProductSearchQuery(text, category, brand, minPrice, maxPrice, from, pageSize));
+    }
+
+    private static void requireConvertible(String name, BigDecimal price) {
+        if (price != null && price.abs().compareTo(MAX_PRICE_BOUND) > 0) {
+            throw new InvalidSearchQueryException(name + " must be between -" + MAX_PRICE_BOUND + " and " + MAX_PRICE_BOUND + ".");
+        }
+    }
+}
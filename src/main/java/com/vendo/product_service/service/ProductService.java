@@ -0,0 +1,203 @@
+package com.vendo.product_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.product_service.cache.CategoryPageKey;
+import com.vendo.product_service.cache.ProductReadCache;
+import com.vendo.product_service.common.dto.CursorPageResponse;
+import com.vendo.product_service.common.dto.ProductBatchItem;
+import com.vendo.product_service.common.dto.ProductBatchResponse;
+import com.vendo.product_service.common.dto.ProductRequest;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.exception.ProductNotFoundException;
+import com.vendo.product_service.common.http.ResourceVersion;
+import com.vendo.product_service.common.http.VersionedPage;
+import com.vendo.product_service.common.mapper.ProductMapper;
+import com.vendo.product_service.common.pagination.PaginationProperties;
+import com.vendo.product_service.common.pagination.ProductCursor;
+import com.vendo.product_service.common.pagination.ProductCursorCodec;
+import com.vendo.product_service.common.type.ProductChangeType;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.model.projection.ProductSummary;
+import com.vendo.product_service.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class ProductService {
+
+    private static final String FILTER_DIGEST = "SHA-256";
+
+    private static final int FILTER_KEY_LENGTH = 12;
+
+    private static final Base64.Encoder FILTER_KEY_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final ProductRepository productRepository;
+
+    private final ProductMapper productMapper;
+
+    private final ProductCursorCodec productCursorCodec;
+
+    private final PaginationProperties paginationProperties;
+
+    private final ProductReadCache productReadCache;
+
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final ObjectMapper objectMapper;
+
+    public ProductResponse findActiveById(String id) {
+        return productReadCache.getProduct(id, this::loadActiveProduct);
+    }
+
+    // Answers conditional requests from the read cache or a two-field projection, without loading the document.
+    public ResourceVersion findActiveVersion(String id) {
+        return productReadCache.peekProduct(id)
+                .map(product -> ResourceVersion.of(product.getVersion(), product.getUpdatedAt()))
+                .or(() -> productRepository.findVersionByIdAndStatus(id, ProductStatus.ACTIVE)
+                        .map(product -> ResourceVersion.of(product.getVersion(), product.getUpdatedAt())))
+                .orElseThrow(() -> new ProductNotFoundException("Product not found."));
+    }
+
+    public ProductBatchResponse findActiveByIds(List<String> ids) {
+        Map<String, ProductResponse> products = productReadCache.getProducts(new LinkedHashSet<>(ids), this::loadActiveProducts);
+
+        List<ProductBatchItem> items = ids.stream()
+                .map(id -> new ProductBatchItem(id, products.containsKey(id), products.get(id)))
+                .toList();
+        return new ProductBatchResponse(items);
+    }
+
+    public VersionedPage<ProductSummary> findActiveByCategory(String category, ProductSort sort, String cursor, int limit) {
+        return productReadCache.getCategoryPage(new CategoryPageKey(category, sort, cursor, pageSize(limit)), this::loadCategoryPage);
+    }
+
+    public ProductResponse findSellerProduct(String sellerId, String id) {
+        return productMapper.toProductResponse(getSellerProduct(sellerId, id));
+    }
+
+    public CursorPageResponse<ProductSummary> findSellerProducts(String sellerId, ProductStatus status, ProductSort sort, String cursor, int limit) {
+        String filterKey = filterKey("seller", sellerId, status.name());
+        int pageSize = pageSize(limit);
+        ProductCursor after = decodeCursor(cursor, sort, filterKey);
+
+        List<ProductSummary> products = productRepository.findSellerPage(sellerId, status, sort, after, pageSize + 1);
+        return toPage(products, sort, filterKey, pageSize);
+    }
+
+    @Transactional
+    public ProductResponse create(String sellerId, ProductRequest productRequest) {
+        Product product = productMapper.toProduct(productRequest);
+        product.setSellerId(sellerId);
+
+        Product saved = productRepository.save(product);
+        publishChange(ProductChangeType.CREATED, saved, List.of());
+        return productMapper.toProductResponse(saved);
+    }
+
+    @Transactional
+    public ProductResponse update(String sellerId, String id, ProductRequest productRequest) {
+        Product product = getSellerProduct(sellerId, id);
+        List<String> previousCategories = categoriesOf(product);
+        productMapper.updateProduct(productRequest, product);
+
+        Product saved = productRepository.save(product);
+        publishChange(ProductChangeType.UPDATED, saved, previousCategories);
+        return productMapper.toProductResponse(saved);
+    }
+
+    @Transactional
+    public void archive(String sellerId, String id) {
+        Product product = getSellerProduct(sellerId, id);
+        product.setStatus(ProductStatus.ARCHIVED);
+
+        publishChange(ProductChangeType.ARCHIVED, productRepository.save(product), List.of());
+    }
+
+    private ProductResponse loadActiveProduct(String id) {
+        return productRepository.findByIdAndStatus(id, ProductStatus.ACTIVE)
+                .map(productMapper::toProductResponse)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found."));
+    }
+
+    private Map<String, ProductResponse> loadActiveProducts(Set<String> ids) {
+        return productRepository.findActiveByIds(ids).stream()
+                .map(productMapper::toProductResponse)
+                .collect(Collectors.toMap(ProductResponse::getId, Function.identity()));
+    }
+
+    private VersionedPage<ProductSummary> loadCategoryPage(CategoryPageKey pageKey) {
+        String filterKey = filterKey("category", pageKey.category());
+        ProductCursor after = decodeCursor(pageKey.cursor(), pageKey.sort(), filterKey);
+
+        List<ProductSummary> products = productRepository.findCategoryPage(pageKey.category(), pageKey.sort(), after, pageKey.limit() + 1);
+        CursorPageResponse<ProductSummary> page = toPage(products, pageKey.sort(), filterKey, pageKey.limit());
+        return new VersionedPage<>(page, ResourceVersion.ofContent(objectMapper.writer(), page));
+    }
+
+    private void publishChange(ProductChangeType type, Product product, Collection<String> previousCategories) {
+        Set<String> categories = new LinkedHashSet<>(previousCategories);
+        categories.addAll(categoriesOf(product));
+
+        applicationEventPublisher.publishEvent(new ProductChangedEvent(
+                type, product.getId(), product.getSellerId(), Set.copyOf(categories), product.getVersion(), Instant.now()));
+    }
+
+    private List<String> categoriesOf(Product product) {
+        return product.getCategories() == null ? List.of() : List.copyOf(product.getCategories());
+    }
+
+    private Product getSellerProduct(String sellerId, String id) {
+        return productRepository.findByIdAndSellerId(id, sellerId)
+                .orElseThrow(() -> new ProductNotFoundException("Product not found."));
+    }
+
+    private ProductCursor decodeCursor(String cursor, ProductSort sort, String filterKey) {
+        return StringUtils.isEmpty(cursor) ? null : productCursorCodec.decode(cursor, sort, filterKey);
+    }
+
+    private CursorPageResponse<ProductSummary> toPage(List<ProductSummary> products, ProductSort sort, String filterKey, int pageSize) {
+        if (products.size() <= pageSize) {
+            return new CursorPageResponse<>(products, null);
+        }
+
+        List<ProductSummary> page = products.subList(0, pageSize);
+        ProductCursor next = ProductCursor.after(page.get(pageSize - 1), sort, filterKey);
+        return new CursorPageResponse<>(page, productCursorCodec.encode(next));
+    }
+
+    private int pageSize(int limit) {
+        return Math.max(1, Math.min(limit, paginationProperties.getMaxPageSize()));
+    }
+
+    // A digest rather than the raw values keeps cursors short; colliding filters would let a cursor cross listings.
+    private String filterKey(String... filters) {
+        try {
+            byte[] digest = MessageDigest.getInstance(FILTER_DIGEST)
+                    .digest(String.join("\u0000", filters).getBytes(StandardCharsets.UTF_8));
+            return FILTER_KEY_ENCODER.encodeToString(Arrays.copyOf(digest, FILTER_KEY_LENGTH));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(FILTER_DIGEST + " is not supported.", e);
+        }
+    }
+}
@@ -0,0 +1,251 @@
+package com.vendo.product_service.warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.domain.user.common.type.UserStatus;
+import com.vendo.product_service.common.dto.ProductBatchItem;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.mapper.ProductMapper;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.readiness.StartupCheck;
+import com.vendo.product_service.repository.ProductRepository;
+import com.vendo.product_service.security.common.helper.JwtAuthenticator;
+import com.vendo.product_service.security.common.helper.JwtHelper;
+import com.vendo.product_service.service.ProductService;
+import com.vendo.product_service.warmup.config.WarmupProperties;
+import io.jsonwebtoken.Jwts;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static com.vendo.security.common.constants.AuthConstants.BEARER_PREFIX;
+import static com.vendo.security.common.type.TokenClaim.ROLES_CLAIM;
+import static com.vendo.security.common.type.TokenClaim.STATUS_CLAIM;
+
+// Runs before the startup gate opens: preloads the products that were hot on the previous run into the read cache,
+// then replays the read path in-process until the JIT stops compiling or the time budget runs out.
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "product.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class CacheWarmer implements StartupCheck {
+
+    private static final String WARMUP_SUBJECT = "warmup";
+
+    private static final Duration WARMUP_TOKEN_LIFETIME = Duration.ofMinutes(1);
+
+    private final HotProductTracker hotProductTracker;
+
+    private final ProductService productService;
+
+    private final ProductRepository productRepository;
+
+    private final ProductMapper productMapper;
+
+    private final ObjectMapper objectMapper;
+
+    private final JwtHelper jwtHelper;
+
+    private final JwtAuthenticator jwtAuthenticator;
+
+    private final WarmupProperties warmupProperties;
+
+    private final CompilationMXBean compilationMXBean = ManagementFactory.getCompilationMXBean();
+
+    private volatile WarmupStage stage = WarmupStage.PENDING;
+
+    private volatile int hotProducts;
+
+    private volatile int preloadedProducts;
+
+    private volatile int jitRounds;
+
+    private volatile long jitCompilationMillis;
+
+    private volatile long startedAt;
+
+    private volatile long finishedAt;
+
+    public CacheWarmer(HotProductTracker hotProductTracker, ProductService productService, ProductRepository productRepository,
+                       ProductMapper productMapper, ObjectMapper objectMapper, JwtHelper jwtHelper,
+                       JwtAuthenticator jwtAuthenticator, WarmupProperties warmupProperties) {
+        this.hotProductTracker = hotProductTracker;
+        this.productService = productService;
+        this.productRepository = productRepository;
+        this.productMapper = productMapper;
+        this.objectMapper = objectMapper;
+        this.jwtHelper = jwtHelper;
+        this.jwtAuthenticator = jwtAuthenticator;
+        this.warmupProperties = warmupProperties;
+    }
+
+    @Override
+    public String name() {
+        return "warmup";
+    }
+
+    @Override
+    public boolean isReady() {
+        return stage.isFinished();
+    }
+
+    public WarmupProgress progress() {
+        long now = stage.isFinished() ? finishedAt : System.nanoTime();
+        Duration elapsed = stage == WarmupStage.PENDING ? Duration.ZERO : Duration.ofNanos(now - startedAt);
+        return new WarmupProgress(stage, hotProducts, preloadedProducts, jitRounds, jitCompilationMillis,
+                elapsed, warmupProperties.getTimeBudget());
+    }
+
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        startedAt = System.nanoTime();
+        long deadline = startedAt + warmupProperties.getTimeBudget().toNanos();
+        WarmupStage outcome = WarmupStage.FAILED;
+
+        try {
+            stage = WarmupStage.PRELOAD;
+            List<ProductResponse> preloaded = preload(deadline);
+
+            stage = WarmupStage.JIT;
+            boolean settled = System.nanoTime() < deadline && compileHotPaths(preloaded, deadline);
+            outcome = settled ? WarmupStage.COMPLETED : WarmupStage.BUDGET_EXCEEDED;
+        } catch (RuntimeException e) {
+            log.warn("Warm-up failed during {}, opening the startup gate without it.", stage, e);
+        } finally {
+            finishedAt = System.nanoTime();
+            stage = outcome;
+        }
+        log.info("Warm-up {} after {} ms: preloaded {} of {} hot products, {} JIT rounds",
+                stage, TimeUnit.NANOSECONDS.toMillis(finishedAt - startedAt), preloadedProducts, hotProducts, jitRounds);
+    }
+
+    private List<ProductResponse> preload(long deadline) {
+        List<ProductResponse> preloaded = new ArrayList<>();
+        List<String> ids;
+        try {
+            ids = hotProductTracker.loadSnapshot();
+        } catch (DataAccessException e) {
+            log.warn("Skipping product preload, the hot product snapshot could not be read: {}", e.getMessage());
+            return preloaded;
+        }
+
+        hotProducts = ids.size();
+        int batchSize = warmupProperties.getPreloadBatchSize();
+        for (int from = 0; from < ids.size() && System.nanoTime() < deadline; from += batchSize) {
+            try {
+                // Goes through the read cache, so every product found stays cached for the first real requests.
+                productService.findActiveByIds(ids.subList(from, Math.min(from + batchSize, ids.size()))).getItems().stream()
+                        .filter(ProductBatchItem::isFound)
+                        .map(ProductBatchItem::getProduct)
+                        .forEach(preloaded::add);
+            } catch (DataAccessException e) {
+                log.warn("Stopping product preload: {}", e.getMessage());
+                break;
+            }
+            preloadedProducts = preloaded.size();
+        }
+        return preloaded;
+    }
+
+    private boolean compileHotPaths(List<ProductResponse> products, long deadline) {
+        WarmupProperties.Jit jit = warmupProperties.getJit();
+        long settledCompilationMillis = jit.getSettledCompilationTime().toMillis();
+        boolean compilationMonitored = compilationMXBean != null && compilationMXBean.isCompilationTimeMonitoringSupported();
+        long compilationStart = compilationMonitored ? compilationMXBean.getTotalCompilationTime() : 0;
+        long previousCompilation = compilationStart;
+        int settledRounds = 0;
+        List<Product> entities = new ArrayList<>();
+
+        for (int round = 0; round < jit.getMaxRounds(); round++) {
+            for (int i = 0; i < jit.getRoundIterations(); i++) {
+                if (System.nanoTime() >= deadline) {
+                    return false;
+                }
+                exerciseReadPath(products, entities, round * jit.getRoundIterations() + i);
+            }
+            jitRounds = round + 1;
+
+            if (compilationMonitored) {
+                long compilation = compilationMXBean.getTotalCompilationTime();
+                jitCompilationMillis = compilation - compilationStart;
+                settledRounds = compilation - previousCompilation <= settledCompilationMillis ? settledRounds + 1 : 0;
+                previousCompilation = compilation;
+                if (settledRounds >= jit.getSettledRounds()) {
+                    return true;
+                }
+            }
+        }
+        return !compilationMonitored;
+    }
+
+    // Mirrors what a request does: authenticate the bearer token, read from Mongo and map, then serialize the response.
+    // Past the read cap the products already read are mapped again, so the mapper stays hot without loading Mongo.
+    private void exerciseReadPath(List<ProductResponse> products, List<Product> entities, int iteration) {
+        authenticate();
+        if (products.isEmpty()) {
+            return;
+        }
+
+        ProductResponse product = products.get(iteration % products.size());
+        try {
+            if (iteration < warmupProperties.getJit().getMaxMongoReads()) {
+                if (iteration % 2 == 0) {
+                    productRepository.findByIdAndStatus(product.getId(), ProductStatus.ACTIVE)
+                            .ifPresent(entity -> remember(entities, entity, products.size()));
+                } else {
+                    productRepository.findVersionByIdAndStatus(product.getId(), ProductStatus.ACTIVE);
+                }
+            }
+            if (!entities.isEmpty()) {
+                productMapper.toProductResponse(entities.get(iteration % entities.size()));
+            }
+            objectMapper.writeValueAsBytes(product);
+        } catch (DataAccessException | JsonProcessingException e) {
+            log.debug("Warm-up read failed: {}", e.getMessage());
+        }
+    }
+
+    private void remember(List<Product> entities, Product entity, int limit) {
+        if (entities.size() < limit) {
+            entities.add(entity);
+        }
+    }
+
+    // Each token is unique so that it misses the authentication cache and is verified like a first request.
+    // Only possible with an HMAC secret; tokens verified against a JWKS cannot be minted here.
+    private void authenticate() {
+        if (!(jwtHelper.getSignInKey() instanceof SecretKey secretKey)) {
+            return;
+        }
+
+        Date now = new Date();
+        String jwt = Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(WARMUP_SUBJECT)
+                .claims(Map.of(
+                        STATUS_CLAIM.getClaim(), UserStatus.ACTIVE.name(),
+                        ROLES_CLAIM.getClaim(), List.of("ROLE_USER")
+                ))
+                .issuedAt(now)
+                .expiration(new Date(now.getTime() + WARMUP_TOKEN_LIFETIME.toMillis()))
+                .signWith(secretKey)
+                .compact();
+        jwtAuthenticator.authenticate(jwtAuthenticator.extractToken(BEARER_PREFIX + jwt));
+    }
+}
@@ -0,0 +1,108 @@
+package com.vendo.product_service.warmup;
+
+import com.vendo.product_service.model.HotProductSnapshot;
+import com.vendo.product_service.repository.HotProductSnapshotRepository;
+import com.vendo.product_service.warmup.config.WarmupProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Component
+public class HotProductTracker {
+
+    static final String SNAPSHOT_ID = "product-reads";
+
+    private final Map<String, LongAdder> reads = new ConcurrentHashMap<>();
+
+    private final HotProductSnapshotRepository hotProductSnapshotRepository;
+
+    private final WarmupProperties warmupProperties;
+
+    private final Clock clock;
+
+    @Autowired
+    public HotProductTracker(HotProductSnapshotRepository hotProductSnapshotRepository, WarmupProperties warmupProperties) {
+        this(hotProductSnapshotRepository, warmupProperties, Clock.systemUTC());
+    }
+
+    HotProductTracker(HotProductSnapshotRepository hotProductSnapshotRepository, WarmupProperties warmupProperties, Clock clock) {
+        this.hotProductSnapshotRepository = hotProductSnapshotRepository;
+        this.warmupProperties = warmupProperties;
+        this.clock = clock;
+    }
+
+    // Once the map is full only already tracked ids are counted; ids that are read often show up well before that.
+    public void record(String id) {
+        if (!warmupProperties.isEnabled()) {
+            return;
+        }
+
+        LongAdder counter = reads.get(id);
+        if (counter == null) {
+            if (reads.size() >= warmupProperties.getTrackedProducts()) {
+                return;
+            }
+            counter = reads.computeIfAbsent(id, ignored -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    public void recordAll(List<String> ids) {
+        ids.forEach(this::record);
+    }
+
+    public List<String> topProducts(int limit) {
+        return reads.entrySet().stream()
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public List<String> loadSnapshot() {
+        return hotProductSnapshotRepository.findById(SNAPSHOT_ID)
+                .map(HotProductSnapshot::getProductIds)
+                .orElse(List.of());
+    }
+
+    // Replicas overwrite each other's snapshot; any recent one is representative enough to warm a new pod.
+    @Scheduled(fixedDelayString = "${product.warmup.snapshot-interval-ms:300000}",
+            initialDelayString = "${product.warmup.snapshot-interval-ms:300000}")
+    public void saveSnapshot() {
+        List<String> topProducts = topProducts(warmupProperties.getTopProducts());
+        if (topProducts.isEmpty()) {
+            return;
+        }
+
+        try {
+            hotProductSnapshotRepository.save(new HotProductSnapshot(SNAPSHOT_ID, topProducts, Instant.now(clock)));
+        } catch (DataAccessException e) {
+            log.warn("Failed to save the hot product snapshot: {}", e.getMessage());
+            return;
+        }
+
+        decay();
+    }
+
+    // Halving keeps the ranking biased towards recent traffic and lets ids that are no longer read drop out.
+    private void decay() {
+        reads.values().removeIf(counter -> {
+            long halved = counter.sumThenReset() / 2;
+            counter.add(halved);
+            return halved == 0;
+        });
+    }
+}
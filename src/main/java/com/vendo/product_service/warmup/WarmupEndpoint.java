@@ -0,0 +1,21 @@
+package com.vendo.product_service.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "warmup")
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "product.warmup", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class WarmupEndpoint {
+
+    private final CacheWarmer cacheWarmer;
+
+    @ReadOperation
+    public WarmupProgress progress() {
+        return cacheWarmer.progress();
+    }
+}
@@ -0,0 +1,14 @@
+package com.vendo.product_service.warmup;
+
+import java.time.Duration;
+
+public record WarmupProgress(
+        WarmupStage stage,
+        int hotProducts,
+        int preloadedProducts,
+        int jitRounds,
+        long jitCompilationMillis,
+        Duration elapsed,
+        Duration timeBudget
+) {
+}
@@ -0,0 +1,16 @@
+package com.vendo.product_service.warmup;
+
+public enum WarmupStage {
+
+    PENDING,
+    PRELOAD,
+    JIT,
+    COMPLETED,
+    BUDGET_EXCEEDED,
+    // Warm-up is best effort; a failure must not keep the startup gate closed.
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == BUDGET_EXCEEDED || this == FAILED;
+    }
+}
@@ -0,0 +1,46 @@
+package com.vendo.product_service.warmup.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Setter
+@Getter
+@Component
+@ConfigurationProperties(prefix = "product.warmup")
+public class WarmupProperties {
+
+    private boolean enabled = true;
+
+    private Duration timeBudget = Duration.ofSeconds(60);
+
+    private int topProducts = 500;
+
+    private int preloadBatchSize = 100;
+
+    private int trackedProducts = 10_000;
+
+    private long snapshotIntervalMs = 300_000;
+
+    private Jit jit = new Jit();
+
+    @Setter
+    @Getter
+    public static class Jit {
+
+        private int roundIterations = 200;
+
+        private int maxRounds = 500;
+
+        private Duration settledCompilationTime = Duration.ofMillis(20);
+
+        private int settledRounds = 3;
+
+        // Caps the Mongo reads per start; later rounds reuse the products already read.
+        private int maxMongoReads = 1000;
+
+    }
+}
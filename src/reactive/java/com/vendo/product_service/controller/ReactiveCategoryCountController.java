@@ -0,0 +1,36 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.common.dto.CategoryCountsResponse;
+import com.vendo.product_service.service.CategoryCountService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/products/categories")
+@ConditionalOnProperty(prefix = "product.counts", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveCategoryCountController {
+
+    private final CategoryCountService categoryCountService;
+
+    // Counts are served from an in-memory snapshot, so they are answered on the event loop.
+    @GetMapping("/counts")
+    public Mono<ResponseEntity<Map<String, Long>>> findCategoryCounts() {
+        return Mono.fromSupplier(() -> ResponseEntity.ok(categoryCountService.findCategoryCounts()));
+    }
+
+    @GetMapping("/{category}/counts")
+    public Mono<ResponseEntity<CategoryCountsResponse>> findCategoryCounts(@PathVariable String category) {
+        return Mono.fromSupplier(() -> ResponseEntity.ok(categoryCountService.findCategoryCounts(category)));
+    }
+}
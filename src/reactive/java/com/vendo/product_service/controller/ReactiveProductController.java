@@ -0,0 +1,81 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.common.dto.CursorPageResponse;
+import com.vendo.product_service.common.dto.ProductBatchItem;
+import com.vendo.product_service.common.dto.ProductBatchRequest;
+import com.vendo.product_service.common.dto.ProductBatchResponse;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.http.HttpCacheProperties;
+import com.vendo.product_service.common.http.ResourceVersion;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.model.projection.ProductSummary;
+import com.vendo.product_service.service.ReactiveProductService;
+import com.vendo.product_service.warmup.HotProductTracker;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/products")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductController {
+
+    private final ReactiveProductService reactiveProductService;
+
+    private final HttpCacheProperties httpCacheProperties;
+
+    private final HotProductTracker hotProductTracker;
+
+    // Reads are tracked only once the product is known to exist, so random ids cannot crowd out hot products.
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<ProductResponse>> findById(@PathVariable String id, @RequestHeader HttpHeaders requestHeaders) {
+        CacheControl cacheControl = httpCacheProperties.getProduct().toCacheControl();
+        Mono<ResponseEntity<ProductResponse>> product = reactiveProductService.findActiveById(id)
+                .map(found -> ResourceVersion.of(found.getVersion(), found.getUpdatedAt())
+                        .applyTo(ResponseEntity.ok().cacheControl(cacheControl))
+                        .body(found));
+
+        Mono<ResponseEntity<ProductResponse>> response = !ResourceVersion.isConditional(requestHeaders)
+                ? product
+                : reactiveProductService.findActiveVersion(id)
+                        .flatMap(version -> version.matches(requestHeaders)
+                                ? Mono.just(version.applyTo(ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(cacheControl)).<ProductResponse>build())
+                                : product);
+        return response.doOnNext(found -> hotProductTracker.record(id));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<CursorPageResponse<ProductSummary>>> findByCategory(@RequestParam String category,
+                                                                                   @RequestParam(defaultValue = "PRICE_ASC") ProductSort sort,
+                                                                                   @RequestParam(required = false) String cursor,
+                                                                                   @RequestParam(defaultValue = "20") int limit) {
+        return reactiveProductService.findActiveByCategory(category, sort, cursor, limit)
+                .map(page -> page.version()
+                        .applyTo(ResponseEntity.ok().cacheControl(httpCacheProperties.getListing().toCacheControl()))
+                        .body(page.page()));
+    }
+
+    @PostMapping("/batch")
+    public Mono<ResponseEntity<ProductBatchResponse>> findBatch(@Valid @RequestBody ProductBatchRequest productBatchRequest) {
+        return reactiveProductService.findActiveByIds(productBatchRequest.getIds())
+                .doOnNext(response -> hotProductTracker.recordAll(response.getItems().stream()
+                        .filter(ProductBatchItem::isFound)
+                        .map(ProductBatchItem::getId)
+                        .toList()))
+                .map(ResponseEntity::ok);
+    }
+}
@@ -0,0 +1,40 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.common.dto.ProductSearchResponse;
+import com.vendo.product_service.service.ProductSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.math.BigDecimal;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/search/products")
+@ConditionalOnProperty(prefix = "product.search", name = "enabled", havingValue = "true", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductSearchController {
+
+    private final ProductSearchService productSearchService;
+
+    // The index is read from disk, so searches stay off the event loop.
+    @GetMapping
+    public Mono<ResponseEntity<ProductSearchResponse>> search(@RequestParam(required = false) String q,
+                                                              @RequestParam(required = false) String category,
+                                                              @RequestParam(required = false) String brand,
+                                                              @RequestParam(required = false) BigDecimal minPrice,
+                                                              @RequestParam(required = false) BigDecimal maxPrice,
+                                                              @RequestParam(defaultValue = "0") int offset,
+                                                              @RequestParam(defaultValue = "20") int limit) {
+        return Mono.fromCallable(() -> productSearchService.search(q, category, brand, minPrice, maxPrice, offset, limit))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(ResponseEntity::ok);
+    }
+}
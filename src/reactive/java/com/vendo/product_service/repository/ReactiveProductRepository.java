@@ -0,0 +1,16 @@
+package com.vendo.product_service.repository;
+
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import org.springframework.data.mongodb.repository.Query;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveProductRepository extends ReactiveMongoRepository<Product, String> {
+
+    Mono<Product> findByIdAndStatus(String id, ProductStatus status);
+
+    @Query(value = "{ '_id': ?0, 'status': ?1 }", fields = "{ 'version': 1, 'updatedAt': 1 }")
+    Mono<Product> findVersionByIdAndStatus(String id, ProductStatus status);
+
+}
@@ -0,0 +1,58 @@
+package com.vendo.product_service.security.common.config;
+
+import com.vendo.product_service.security.common.helper.JwtAuthenticator;
+import com.vendo.product_service.security.common.helper.ReactiveRejectionWriter;
+import com.vendo.product_service.security.common.metrics.AuthObservations;
+import com.vendo.product_service.security.common.ratelimit.ClientAddressResolver;
+import com.vendo.product_service.security.common.ratelimit.RateLimiter;
+import com.vendo.product_service.security.filter.ProductAntPathResolver;
+import com.vendo.product_service.security.filter.ReactiveJwtAuthFilter;
+import com.vendo.product_service.security.filter.ReactiveRateLimitFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.config.annotation.method.configuration.EnableReactiveMethodSecurity;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+
+@Configuration
+@EnableWebFluxSecurity
+@EnableReactiveMethodSecurity
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSecurityConfig {
+
+    private final JwtAuthenticator jwtAuthenticator;
+
+    private final ProductAntPathResolver productAntPathResolver;
+
+    private final RateLimiter rateLimiter;
+
+    private final ClientAddressResolver clientAddressResolver;
+
+    private final AuthObservations authObservations;
+
+    private final ReactiveRejectionWriter reactiveRejectionWriter;
+
+    @Bean
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        ReactiveJwtAuthFilter jwtAuthFilter = new ReactiveJwtAuthFilter(jwtAuthenticator, productAntPathResolver, authObservations, reactiveRejectionWriter);
+        ReactiveRateLimitFilter rateLimitFilter = new ReactiveRateLimitFilter(rateLimiter, clientAddressResolver, authObservations, reactiveRejectionWriter);
+
+        return http.csrf(ServerHttpSecurity.CsrfSpec::disable)
+                .httpBasic(ServerHttpSecurity.HttpBasicSpec::disable)
+                .formLogin(ServerHttpSecurity.FormLoginSpec::disable)
+                .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                .authorizeExchange(exchange -> exchange
+                        .pathMatchers(productAntPathResolver.getPermittedPaths()).permitAll()
+                        .anyExchange().authenticated()
+                )
+                .addFilterAt(jwtAuthFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .addFilterAfter(rateLimitFilter, SecurityWebFiltersOrder.AUTHENTICATION)
+                .build();
+    }
+}
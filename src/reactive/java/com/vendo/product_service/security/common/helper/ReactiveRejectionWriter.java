@@ -0,0 +1,46 @@
+package com.vendo.product_service.security.common.helper;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.common.exception.ExceptionResponse;
+import com.vendo.product_service.security.common.helper.RejectionResponseWriter.Rejection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+// Reactive counterpart of AuthExceptionHandler; security web filters run outside WebFlux exception handling.
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveRejectionWriter {
+
+    private final RejectionResponseWriter rejectionResponseWriter;
+
+    private final ObjectMapper objectMapper;
+
+    public Mono<Void> write(ServerWebExchange exchange, Rejection rejection) {
+        return write(exchange, rejection.getStatus(), rejectionResponseWriter.render(rejection, exchange.getRequest().getPath().value()));
+    }
+
+    public Mono<Void> write(ServerWebExchange exchange, HttpStatus status, String message) {
+        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(ExceptionResponse.builder()
+                        .message(message)
+                        .code(status.value())
+                        .path(exchange.getRequest().getPath().value())
+                        .build()))
+                .flatMap(body -> write(exchange, status, body));
+    }
+
+    private Mono<Void> write(ServerWebExchange exchange, HttpStatus status, byte[] body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(body.length);
+
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(body)));
+    }
+}
@@ -0,0 +1,74 @@
+package com.vendo.product_service.security.filter;
+
+import com.vendo.product_service.security.common.helper.JwtAuthenticator;
+import com.vendo.product_service.security.common.helper.ReactiveRejectionWriter;
+import com.vendo.product_service.security.common.helper.RejectionResponseWriter.Rejection;
+import com.vendo.product_service.security.common.metrics.AuthObservations;
+import com.vendo.product_service.security.common.metrics.AuthRejectionReason;
+import com.vendo.security.common.exception.AccessDeniedException;
+import com.vendo.security.common.exception.InvalidTokenException;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import static com.vendo.security.common.constants.AuthConstants.AUTHORIZATION_HEADER;
+
+// Not a bean: WebFilter beans are added to every exchange, while this one belongs in the security chain only.
+@RequiredArgsConstructor
+public class ReactiveJwtAuthFilter implements WebFilter {
+
+    private final JwtAuthenticator jwtAuthenticator;
+
+    private final ProductAntPathResolver productAntPathResolver;
+
+    private final AuthObservations authObservations;
+
+    private final ReactiveRejectionWriter reactiveRejectionWriter;
+
+    // Verification is CPU-bound and its result cached, so it runs on the event loop instead of hopping schedulers.
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (productAntPathResolver.isPermittedPath(request.getPath().value())) {
+            return chain.filter(exchange);
+        }
+
+        // Only a string shape check; rejections are counted instead of timed, so bot traffic creates no observations.
+        String jwtToken = jwtAuthenticator.extractToken(request.getHeaders().getFirst(AUTHORIZATION_HEADER));
+        if (jwtToken == null) {
+            return reject(exchange, AuthRejectionReason.INVALID_TOKEN, Rejection.INVALID_TOKEN);
+        }
+
+        UsernamePasswordAuthenticationToken authToken;
+        try {
+            authToken = jwtAuthenticator.authenticate(jwtToken);
+        } catch (ExpiredJwtException e) {
+            return reject(exchange, AuthRejectionReason.EXPIRED_TOKEN, Rejection.EXPIRED_TOKEN);
+        } catch (AccessDeniedException e) {
+            authObservations.recordRejection(e);
+            return reactiveRejectionWriter.write(exchange, HttpStatus.FORBIDDEN, e.getMessage());
+        } catch (InvalidTokenException e) {
+            authObservations.recordRejection(e);
+            return reactiveRejectionWriter.write(exchange, HttpStatus.UNAUTHORIZED, e.getMessage());
+        } catch (JwtException e) {
+            authObservations.recordRejection(e);
+            return reactiveRejectionWriter.write(exchange, Rejection.INVALID_TOKEN);
+        }
+
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authToken));
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, AuthRejectionReason reason, Rejection rejection) {
+        authObservations.recordRejection(reason);
+        return reactiveRejectionWriter.write(exchange, rejection);
+    }
+}
@@ -0,0 +1,63 @@
+package com.vendo.product_service.security.filter;
+
+import com.vendo.product_service.security.common.exception.RateLimitExceededException;
+import com.vendo.product_service.security.common.helper.ReactiveRejectionWriter;
+import com.vendo.product_service.security.common.metrics.AuthObservations;
+import com.vendo.product_service.security.common.ratelimit.ClientAddressResolver;
+import com.vendo.product_service.security.common.ratelimit.RateLimiter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+import java.util.concurrent.TimeUnit;
+
+@RequiredArgsConstructor
+public class ReactiveRateLimitFilter implements WebFilter {
+
+    private final RateLimiter rateLimiter;
+
+    private final ClientAddressResolver clientAddressResolver;
+
+    private final AuthObservations authObservations;
+
+    private final ReactiveRejectionWriter reactiveRejectionWriter;
+
+    // Runs after ReactiveJwtAuthFilter, so authenticated requests are limited per subject and the rest per client address.
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!rateLimiter.isEnabled()) {
+            return chain.filter(exchange);
+        }
+
+        String remoteAddress = clientAddressResolver.resolve(remoteAddress(exchange),
+                exchange.getRequest().getHeaders().get(ClientAddressResolver.FORWARDED_FOR_HEADER));
+        return ReactiveSecurityContextHolder.getContext()
+                .map(securityContext -> rateLimiter.tryAcquire(securityContext.getAuthentication(), remoteAddress))
+                .switchIfEmpty(Mono.fromSupplier(() -> rateLimiter.tryAcquire(null, remoteAddress)))
+                .flatMap(retryAfterNanos -> retryAfterNanos > 0 ? reject(exchange, retryAfterNanos) : chain.filter(exchange));
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange, long retryAfterNanos) {
+        long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        RateLimitExceededException exception = new RateLimitExceededException("Too many requests.", retryAfterSeconds);
+        authObservations.recordRejection(exception);
+
+        exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        return reactiveRejectionWriter.write(exchange, HttpStatus.TOO_MANY_REQUESTS, exception.getMessage());
+    }
+
+    private String remoteAddress(ServerWebExchange exchange) {
+        InetSocketAddress address = exchange.getRequest().getRemoteAddress();
+        if (address == null) {
+            return "unknown";
+        }
+
+        return address.getAddress() == null ? address.getHostString() : address.getAddress().getHostAddress();
+    }
+}
@@ -0,0 +1,68 @@
+package com.vendo.product_service.service;
+
+import com.vendo.product_service.cache.ProductReadCache;
+import com.vendo.product_service.common.dto.ProductBatchResponse;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.exception.ProductNotFoundException;
+import com.vendo.product_service.common.http.ResourceVersion;
+import com.vendo.product_service.common.http.VersionedPage;
+import com.vendo.product_service.common.mapper.ProductMapper;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.projection.ProductSummary;
+import com.vendo.product_service.repository.ReactiveProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveProductService {
+
+    private final ReactiveProductRepository reactiveProductRepository;
+
+    private final ProductMapper productMapper;
+
+    private final ProductReadCache productReadCache;
+
+    private final ProductService productService;
+
+    // Shares the in-process read cache with the servlet stack; misses go to the reactive driver instead of the blocking loader.
+    public Mono<ProductResponse> findActiveById(String id) {
+        return Mono.justOrEmpty(productReadCache.peekProduct(id))
+                .switchIfEmpty(Mono.defer(() -> loadActiveProduct(id)))
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException("Product not found.")));
+    }
+
+    public Mono<ResourceVersion> findActiveVersion(String id) {
+        return Mono.justOrEmpty(productReadCache.peekProduct(id))
+                .map(product -> ResourceVersion.of(product.getVersion(), product.getUpdatedAt()))
+                .switchIfEmpty(Mono.defer(() -> reactiveProductRepository.findVersionByIdAndStatus(id, ProductStatus.ACTIVE)
+                        .map(product -> ResourceVersion.of(product.getVersion(), product.getUpdatedAt()))))
+                .switchIfEmpty(Mono.error(() -> new ProductNotFoundException("Product not found.")));
+    }
+
+    // Listings and batches share the servlet caches, whose loaders use the blocking repository, so they run on the
+    // bounded elastic pool rather than an event-loop thread.
+    public Mono<VersionedPage<ProductSummary>> findActiveByCategory(String category, ProductSort sort, String cursor, int limit) {
+        return Mono.fromCallable(() -> productService.findActiveByCategory(category, sort, cursor, limit))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    public Mono<ProductBatchResponse> findActiveByIds(List<String> ids) {
+        return Mono.fromCallable(() -> productService.findActiveByIds(ids))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    private Mono<ProductResponse> loadActiveProduct(String id) {
+        long epoch = productReadCache.evictionEpoch(id);
+        return reactiveProductRepository.findByIdAndStatus(id, ProductStatus.ACTIVE)
+                .map(productMapper::toProductResponse)
+                .doOnNext(product -> productReadCache.putProduct(product, epoch));
+    }
+}
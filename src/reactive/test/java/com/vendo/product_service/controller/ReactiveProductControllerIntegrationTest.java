@@ -0,0 +1,143 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.common.exception.ExceptionResponse;
+import com.vendo.product_service.cache.ProductReadCache;
+import com.vendo.product_service.common.dto.ProductBatchRequest;
+import com.vendo.product_service.common.dto.ProductBatchResponse;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.OutboxEventRepository;
+import com.vendo.product_service.repository.ProductRepository;
+import com.vendo.product_service.repository.ReactiveProductRepository;
+import com.vendo.product_service.warmup.HotProductTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@SpringBootTest
+@ActiveProfiles({"test", "reactive"})
+@AutoConfigureWebTestClient
+class ReactiveProductControllerIntegrationTest {
+
+    private static final String PRODUCT_ID = "product-1";
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private ProductReadCache productReadCache;
+
+    @MockitoBean
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private ReactiveProductRepository reactiveProductRepository;
+
+    @MockitoBean
+    private OutboxEventRepository outboxEventRepository;
+
+    @MockitoBean
+    private MongoTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private HotProductTracker hotProductTracker;
+
+    @BeforeEach
+    void setUp() {
+        productReadCache.invalidateAll();
+    }
+
+    @Test
+    void findById_shouldReturnProduct_whenAnonymousAndProductActive() {
+        Product product = Product.builder().id(PRODUCT_ID).title("Headphones").status(ProductStatus.ACTIVE).build();
+        when(reactiveProductRepository.findByIdAndStatus(PRODUCT_ID, ProductStatus.ACTIVE)).thenReturn(Mono.just(product));
+
+        ProductResponse productResponse = webTestClient.get().uri("/products/" + PRODUCT_ID)
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ProductResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(productResponse.getTitle()).isEqualTo("Headphones");
+        verify(hotProductTracker).record(PRODUCT_ID);
+    }
+
+    @Test
+    void findById_shouldReturnNotFound_whenProductMissing() {
+        when(reactiveProductRepository.findByIdAndStatus(PRODUCT_ID, ProductStatus.ACTIVE)).thenReturn(Mono.empty());
+
+        ExceptionResponse exceptionResponse = webTestClient.get().uri("/products/" + PRODUCT_ID)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody(ExceptionResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(exceptionResponse.getPath()).isEqualTo("/products/" + PRODUCT_ID);
+        verify(hotProductTracker, never()).record(any());
+    }
+
+    @Test
+    void findByCategory_shouldReturnNotModified_whenPageUnchanged() {
+        when(productRepository.findCategoryPage(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        String eTag = webTestClient.get().uri("/products?category=audio")
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(String.class).getResponseHeaders().getETag();
+
+        webTestClient.get().uri("/products?category=audio")
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void findBatch_shouldReturnProductsInInputOrderWithMisses_whenAnonymous() {
+        Product product = Product.builder().id(PRODUCT_ID).title("Headphones").status(ProductStatus.ACTIVE).build();
+        when(productRepository.findActiveByIds(anyCollection())).thenReturn(List.of(product));
+
+        ProductBatchResponse productBatchResponse = webTestClient.post().uri("/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ProductBatchRequest(List.of("missing", PRODUCT_ID)))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(ProductBatchResponse.class)
+                .returnResult().getResponseBody();
+
+        assertThat(productBatchResponse.getItems()).hasSize(2);
+        assertThat(productBatchResponse.getItems().get(0).isFound()).isFalse();
+        assertThat(productBatchResponse.getItems().get(1).getProduct().getTitle()).isEqualTo("Headphones");
+        verify(hotProductTracker).recordAll(List.of(PRODUCT_ID));
+    }
+
+    @Test
+    void findBatch_shouldReturnBadRequest_whenTooManyIds() {
+        webTestClient.post().uri("/products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new ProductBatchRequest(Collections.nCopies(ProductBatchRequest.MAX_IDS + 1, PRODUCT_ID)))
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+}
@@ -0,0 +1,170 @@
+package com.vendo.product_service.controller;
+
+import com.vendo.product_service.ProductServiceApplication;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ProductRepository;
+import com.vendo.product_service.repository.ReactiveProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.support.GenericApplicationContext;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.util.function.Tuple2;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * Compares the servlet and reactive stacks on GET /products/{id} against mocked repositories that answer after a
+ * fixed delay standing in for Mongo. The read cache is disabled, as in load-test/compare-threading.sh, so every
+ * request reaches the repository. Client and server share this JVM, so the figures are only meaningful relative to
+ * each other. Not part of the regular suite; run it with
+ * {@code mvn -Preactive test -Dtest=ReadStackComparison -Dsurefire.failIfNoSpecifiedTests=false}.
+ */
+class ReadStackComparison {
+
+    private static final int HELD_CONNECTIONS = 2_000;
+
+    private static final int CONCURRENCY = 200;
+
+    private static final Duration MONGO_LATENCY = Duration.ofMillis(20);
+
+    private static final Duration HOLD_LATENCY = Duration.ofSeconds(5);
+
+    private static final Duration THROUGHPUT_RUN = Duration.ofSeconds(15);
+
+    private static final String PRODUCT_ID = "product-1";
+
+    private final AtomicLong latencyMillis = new AtomicLong(MONGO_LATENCY.toMillis());
+
+    private final HttpClient httpClient = HttpClient.create(ConnectionProvider.builder("comparison")
+            .maxConnections(HELD_CONNECTIONS)
+            .pendingAcquireMaxCount(-1)
+            .build());
+
+    @Test
+    void compare() throws Exception {
+        List<String> rows = new ArrayList<>();
+        rows.add(measure("servlet", "test"));
+        rows.add(measure("reactive", "test,reactive"));
+
+        System.out.printf("%n| Stack | Throughput (req/s) | p99 (ms) | Errors | Live threads at %d connections | Heap per connection (KB) | RSS per connection (KB) |%n",
+                HELD_CONNECTIONS);
+        System.out.println("|---|---|---|---|---|---|---|");
+        rows.forEach(System.out::println);
+    }
+
+    private String measure(String stack, String profiles) throws Exception {
+        try (ConfigurableApplicationContext context = start(stack, profiles)) {
+            String uri = "http://localhost:" + context.getEnvironment().getProperty("local.server.port") + "/products/" + PRODUCT_ID;
+            throughput(uri, Duration.ofSeconds(5));
+            long[] run = throughput(uri, THROUGHPUT_RUN);
+
+            latencyMillis.set(HOLD_LATENCY.toMillis());
+            long heapBefore = usedHeap();
+            long rssBefore = residentSetKilobytes();
+
+            Mono<Void> held = Flux.range(0, HELD_CONNECTIONS)
+                    .flatMap(i -> get(uri), HELD_CONNECTIONS)
+                    .then()
+                    .cache();
+            held.subscribe();
+            TimeUnit.MILLISECONDS.sleep(HOLD_LATENCY.toMillis() / 2);
+            long threads = ManagementFactory.getThreadMXBean().getThreadCount();
+            long heap = usedHeap() - heapBefore;
+            long rss = residentSetKilobytes() - rssBefore;
+            held.block(Duration.ofMinutes(5));
+            latencyMillis.set(MONGO_LATENCY.toMillis());
+
+            return String.format("| %s | %d | %d | %d | %d | %.1f | %.1f |", stack, run[0], run[1], run[2], threads,
+                    heap / 1024.0 / HELD_CONNECTIONS, (double) rss / HELD_CONNECTIONS);
+        }
+    }
+
+    // Returns requests per second, the p99 latency in milliseconds and the number of failed requests.
+    private long[] throughput(String uri, Duration duration) {
+        AtomicLong errors = new AtomicLong();
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<Long> latencies = Flux.range(0, Integer.MAX_VALUE)
+                .takeWhile(i -> System.nanoTime() < deadline)
+                .flatMap(i -> get(uri).elapsed(), CONCURRENCY)
+                .doOnNext(timed -> {
+                    if (timed.getT2() != 200) {
+                        errors.incrementAndGet();
+                    }
+                })
+                .filter(timed -> timed.getT2() == 200)
+                .map(Tuple2::getT1)
+                .sort()
+                .collectList()
+                .block();
+
+        long p99 = latencies.isEmpty() ? 0 : latencies.get((int) (latencies.size() * 0.99));
+        return new long[]{latencies.size() / duration.toSeconds(), p99, errors.get()};
+    }
+
+    private Mono<Integer> get(String uri) {
+        return httpClient.get()
+                .uri(uri)
+                .responseSingle((response, body) -> body.then(Mono.just(response.status().code())))
+                .onErrorReturn(-1);
+    }
+
+    private ConfigurableApplicationContext start(String stack, String profiles) {
+        Product product = Product.builder().id(PRODUCT_ID).title("Headphones").status(ProductStatus.ACTIVE).version(1L).build();
+        ProductRepository productRepository = mock(ProductRepository.class, withSettings().stubOnly());
+        when(productRepository.findByIdAndStatus(anyString(), eq(ProductStatus.ACTIVE))).thenAnswer(invocation -> {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis.get());
+            return Optional.of(product);
+        });
+        ReactiveProductRepository reactiveProductRepository = mock(ReactiveProductRepository.class, withSettings().stubOnly());
+        when(reactiveProductRepository.findByIdAndStatus(anyString(), eq(ProductStatus.ACTIVE)))
+                .thenAnswer(invocation -> Mono.just(product).delayElement(Duration.ofMillis(latencyMillis.get())));
+
+        return new SpringApplicationBuilder(ProductServiceApplication.class)
+                .initializers(context -> {
+                    GenericApplicationContext registry = (GenericApplicationContext) context;
+                    registry.registerBean("comparisonProductRepository", ProductRepository.class,
+                            () -> productRepository, definition -> definition.setPrimary(true));
+                    registry.registerBean("comparisonReactiveProductRepository", ReactiveProductRepository.class,
+                            () -> reactiveProductRepository, definition -> definition.setPrimary(true));
+                })
+                .run("--spring.profiles.active=" + profiles,
+                        "--spring.main.web-application-type=" + stack,
+                        "--server.port=0",
+                        "--product.cache.enabled=false",
+                        "--management.tracing.enabled=false",
+                        "--logging.level.root=WARN");
+    }
+
+    private static long usedHeap() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long residentSetKilobytes() throws IOException {
+        return Files.readAllLines(Path.of("/proc/self/status")).stream()
+                .filter(line -> line.startsWith("VmRSS:"))
+                .map(line -> Long.parseLong(line.replaceAll("\\D", "")))
+                .findFirst()
+                .orElse(0L);
+    }
+}
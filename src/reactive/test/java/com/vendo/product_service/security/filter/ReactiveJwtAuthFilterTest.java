@@ -0,0 +1,138 @@
+package com.vendo.product_service.security.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.domain.user.common.type.UserStatus;
+import com.vendo.product_service.security.common.cache.TokenAuthenticationCache;
+import com.vendo.product_service.security.common.config.JwtProperties;
+import com.vendo.product_service.security.common.config.PermittedPathProperties;
+import com.vendo.product_service.security.common.helper.JwtAuthenticator;
+import com.vendo.product_service.security.common.helper.JwtHelper;
+import com.vendo.product_service.security.common.helper.ReactiveRejectionWriter;
+import com.vendo.product_service.security.common.helper.RejectionResponseWriter;
+import com.vendo.product_service.security.common.metrics.AuthObservations;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.vendo.security.common.constants.AuthConstants.AUTHORIZATION_HEADER;
+import static com.vendo.security.common.constants.AuthConstants.BEARER_PREFIX;
+import static com.vendo.security.common.type.TokenClaim.ROLES_CLAIM;
+import static com.vendo.security.common.type.TokenClaim.STATUS_CLAIM;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveJwtAuthFilterTest {
+
+    private static final String SECRET_KEY = "secretKeysecretKeysecretKeysecretKeysecretKey";
+
+    private static final String PROTECTED_PATH = "/seller/products";
+
+    private final AtomicReference<Authentication> authentication = new AtomicReference<>();
+
+    private final WebFilterChain chain = exchange -> ReactiveSecurityContextHolder.getContext()
+            .map(SecurityContext::getAuthentication)
+            .doOnNext(authentication::set)
+            .then();
+
+    private JwtHelper jwtHelper;
+
+    private ReactiveJwtAuthFilter reactiveJwtAuthFilter;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(SECRET_KEY);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        jwtHelper = new JwtHelper(jwtProperties, event -> {});
+        AuthObservations authObservations = new AuthObservations(ObservationRegistry.NOOP, meterRegistry);
+        JwtAuthenticator jwtAuthenticator = new JwtAuthenticator(jwtHelper, new TokenAuthenticationCache(jwtProperties, meterRegistry), authObservations);
+        ReactiveRejectionWriter reactiveRejectionWriter = new ReactiveRejectionWriter(new RejectionResponseWriter(objectMapper), objectMapper);
+
+        reactiveJwtAuthFilter = new ReactiveJwtAuthFilter(jwtAuthenticator, new ProductAntPathResolver(new PermittedPathProperties()),
+                authObservations, reactiveRejectionWriter);
+    }
+
+    @Test
+    void filter_whenTokenValid_putsAuthenticationIntoReactorContext() {
+        MockServerWebExchange exchange = exchange(token(UserStatus.ACTIVE, TimeUnit.MINUTES.toMillis(5)));
+
+        reactiveJwtAuthFilter.filter(exchange, chain).block();
+
+        assertThat(authentication.get().getName()).isEqualTo("user");
+        assertThat(authentication.get().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_USER");
+    }
+
+    @Test
+    void filter_whenTokenMissing_rejectsWithoutCallingChain() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get(PROTECTED_PATH));
+
+        reactiveJwtAuthFilter.filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("Invalid token.", PROTECTED_PATH);
+        assertThat(authentication.get()).isNull();
+    }
+
+    @Test
+    void filter_whenTokenExpired_rejectsAsExpired() {
+        MockServerWebExchange exchange = exchange(token(UserStatus.ACTIVE, -TimeUnit.MINUTES.toMillis(1)));
+
+        reactiveJwtAuthFilter.filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.UNAUTHORIZED);
+        assertThat(exchange.getResponse().getBodyAsString().block()).contains("Token has expired.");
+    }
+
+    @Test
+    void filter_whenUserInactive_rejectsAsForbidden() {
+        MockServerWebExchange exchange = exchange(token(UserStatus.BLOCKED, TimeUnit.MINUTES.toMillis(5)));
+
+        reactiveJwtAuthFilter.filter(exchange, chain).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(authentication.get()).isNull();
+    }
+
+    @Test
+    void filter_whenPathPermitted_skipsAuthentication() {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/products/p1"));
+
+        reactiveJwtAuthFilter.filter(exchange, ignored -> Mono.empty()).block();
+
+        assertThat(exchange.getResponse().getStatusCode()).isNull();
+    }
+
+    private MockServerWebExchange exchange(String token) {
+        return MockServerWebExchange.from(MockServerHttpRequest.get(PROTECTED_PATH)
+                .header(AUTHORIZATION_HEADER, BEARER_PREFIX + token));
+    }
+
+    private String token(UserStatus status, long expirationOffset) {
+        return Jwts.builder()
+                .subject("user")
+                .claims(Map.of(
+                        STATUS_CLAIM.getClaim(), status,
+                        ROLES_CLAIM.getClaim(), List.of("ROLE_USER")
+                ))
+                .expiration(new Date(System.currentTimeMillis() + expirationOffset))
+                .signWith(jwtHelper.getSignInKey())
+                .compact();
+    }
+}
@@ -0,0 +1,235 @@
+package com.vendo.product_service.cache;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.vendo.product_service.cache.config.ProductCacheProperties;
+import com.vendo.product_service.cache.shared.LocalSharedProductCache;
+import com.vendo.product_service.cache.shared.NoOpSharedProductCache;
+import com.vendo.product_service.cache.shared.SharedProductCache;
+import com.vendo.product_service.common.dto.CursorPageResponse;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.http.ResourceVersion;
+import com.vendo.product_service.common.http.VersionedPage;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.model.projection.ProductSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductReadCacheTest {
+
+    private static final String PRODUCT_ID = "product-1";
+
+    private static final String CATEGORY = "electronics";
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = nanos::get;
+
+    private SharedProductCache sharedProductCache;
+
+    private ProductReadCache productReadCache;
+
+    @BeforeEach
+    void setUp() {
+        sharedProductCache = new LocalSharedProductCache();
+        productReadCache = newInstance();
+    }
+
+    @Test
+    void getProduct_whenCachedLocally_doesNotCallLoader() {
+        productReadCache.getProduct(PRODUCT_ID, productLoader());
+        productReadCache.getProduct(PRODUCT_ID, productLoader());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getProduct_whenLoadedByAnotherInstance_readsSharedCache() {
+        productReadCache.getProduct(PRODUCT_ID, productLoader());
+
+        ProductResponse productResponse = newInstance().getProduct(PRODUCT_ID, productLoader());
+
+        assertThat(productResponse.getId()).isEqualTo(PRODUCT_ID);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void getProduct_whenRequestedConcurrently_loadsOnce() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            Future<ProductResponse> first = executor.submit(() -> productReadCache.getProduct(PRODUCT_ID, id -> {
+                loading.countDown();
+                await(release);
+                return productLoader().apply(id);
+            }));
+            assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+            List<Future<ProductResponse>> others = List.of(
+                    executor.submit(() -> productReadCache.getProduct(PRODUCT_ID, productLoader())),
+                    executor.submit(() -> productReadCache.getProduct(PRODUCT_ID, productLoader())));
+            TimeUnit.MILLISECONDS.sleep(100);
+            release.countDown();
+
+            assertThat(first.get(1, TimeUnit.SECONDS).getId()).isEqualTo(PRODUCT_ID);
+            for (Future<ProductResponse> other : others) {
+                assertThat(other.get(1, TimeUnit.SECONDS).getId()).isEqualTo(PRODUCT_ID);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getProducts_whenSomeCached_loadsOnlyMissingIds() {
+        productReadCache.getProduct(PRODUCT_ID, productLoader());
+        AtomicInteger bulkLoads = new AtomicInteger();
+
+        Map<String, ProductResponse> products = productReadCache.getProducts(List.of(PRODUCT_ID, "product-2", "missing"), ids -> {
+            bulkLoads.incrementAndGet();
+            assertThat(ids).containsExactlyInAnyOrder("product-2", "missing");
+            return ids.stream()
+                    .filter(id -> !id.equals("missing"))
+                    .collect(Collectors.toMap(Function.identity(), id -> productLoader().apply(id)));
+        });
+
+        assertThat(products).containsOnlyKeys(PRODUCT_ID, "product-2");
+        assertThat(bulkLoads).hasValue(1);
+    }
+
+    @Test
+    void getProduct_whenExpiredAndDatabaseUnavailable_returnsStaleProduct() {
+        sharedProductCache = new NoOpSharedProductCache();
+        productReadCache = newInstance();
+        productReadCache.getProduct(PRODUCT_ID, productLoader());
+        nanos.addAndGet(Duration.ofMinutes(6).toNanos());
+
+        ProductResponse productResponse = productReadCache.getProduct(PRODUCT_ID, id -> {
+            throw new DataAccessResourceFailureException("mongo unavailable");
+        });
+
+        assertThat(productResponse.getId()).isEqualTo(PRODUCT_ID);
+    }
+
+    @Test
+    void getProduct_whenEvictedAndDatabaseUnavailable_doesNotServeStaleProduct() {
+        productReadCache.getProduct(PRODUCT_ID, productLoader());
+        productReadCache.evict(PRODUCT_ID, Set.of());
+
+        assertThatThrownBy(() -> productReadCache.getProduct(PRODUCT_ID, id -> {
+            throw new DataAccessResourceFailureException("mongo unavailable");
+        })).isInstanceOf(DataAccessResourceFailureException.class);
+    }
+
+    @Test
+    void getProduct_whenEvictedWhileLoading_cachesNeitherLocallyNorShared() {
+        productReadCache.getProduct(PRODUCT_ID, id -> {
+            ProductResponse loaded = productLoader().apply(id);
+            productReadCache.evict(PRODUCT_ID, Set.of());
+            return loaded;
+        });
+
+        assertThat(productReadCache.peekProduct(PRODUCT_ID)).isEmpty();
+        newInstance().getProduct(PRODUCT_ID, productLoader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getProducts_whenEvictedWhileLoading_doesNotWriteSharedCache() {
+        productReadCache.getProducts(List.of(PRODUCT_ID), ids -> {
+            Map<String, ProductResponse> loaded = ids.stream().collect(Collectors.toMap(Function.identity(), id -> productLoader().apply(id)));
+            productReadCache.evict(PRODUCT_ID, Set.of());
+            return loaded;
+        });
+
+        newInstance().getProduct(PRODUCT_ID, productLoader());
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getProduct_whenOtherProductEvictedWhileLoading_stillCachesLocally() {
+        productReadCache.getProduct(PRODUCT_ID, id -> {
+            ProductResponse loaded = productLoader().apply(id);
+            productReadCache.evict("product-2", Set.of("books"));
+            return loaded;
+        });
+
+        productReadCache.getProduct(PRODUCT_ID, productLoader());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evict_whenProductChanged_reloadsProductAndCategoryPages() {
+        CategoryPageKey pageKey = new CategoryPageKey(CATEGORY, ProductSort.PRICE_ASC, null, 20);
+        productReadCache.getProduct(PRODUCT_ID, productLoader());
+        productReadCache.getCategoryPage(pageKey, pageLoader());
+
+        productReadCache.evict(PRODUCT_ID, Set.of(CATEGORY));
+        productReadCache.getProduct(PRODUCT_ID, productLoader());
+        productReadCache.getCategoryPage(pageKey, pageLoader());
+
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    void evict_whenOtherCategoryChanged_keepsCategoryPage() {
+        CategoryPageKey pageKey = new CategoryPageKey(CATEGORY, ProductSort.PRICE_ASC, null, 20);
+        productReadCache.getCategoryPage(pageKey, pageLoader());
+
+        productReadCache.evict("product-2", Set.of("books"));
+        productReadCache.getCategoryPage(pageKey, pageLoader());
+
+        assertThat(loads).hasValue(1);
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ProductReadCache newInstance() {
+        return new ProductReadCache(new ProductCacheProperties(), sharedProductCache, new SimpleMeterRegistry(), ticker);
+    }
+
+    private Function<String, ProductResponse> productLoader() {
+        return id -> {
+            loads.incrementAndGet();
+            return ProductResponse.builder().id(id).title("Headphones").build();
+        };
+    }
+
+    private Function<CategoryPageKey, VersionedPage<ProductSummary>> pageLoader() {
+        return key -> {
+            loads.incrementAndGet();
+            return new VersionedPage<>(new CursorPageResponse<>(List.of(), null), ResourceVersion.of(1L, null));
+        };
+    }
+}
@@ -0,0 +1,115 @@
+package com.vendo.product_service.cache;
+
+import com.vendo.product_service.common.exception.ProductLoadTimeoutException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private static final String KEY = "product-1";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    private final CountDownLatch loading = new CountDownLatch(1);
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private SingleFlight<String, String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        singleFlight = new SingleFlight<>("test", Duration.ofMillis(200), DataAccessResourceFailureException.class::isInstance, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void execute_whenLoadInFlight_sharesResultWithFollower() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        Future<String> leader = startSlowLoad(loads);
+
+        Future<String> follower = executor.submit(() -> singleFlight.execute(KEY, () -> "unexpected", null));
+        TimeUnit.MILLISECONDS.sleep(50);
+        release.countDown();
+
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("fresh");
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("fresh");
+        assertThat(loads).hasValue(1);
+        assertThat(count("coalesced")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_whenFollowerTimesOutWithStaleValue_returnsStale() throws Exception {
+        startSlowLoad(new AtomicInteger());
+
+        String value = singleFlight.execute(KEY, () -> "unexpected", "stale");
+
+        assertThat(value).isEqualTo("stale");
+        assertThat(count("stale")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_whenFollowerTimesOutWithoutStaleValue_throwsProductLoadTimeoutException() throws Exception {
+        startSlowLoad(new AtomicInteger());
+
+        assertThatThrownBy(() -> singleFlight.execute(KEY, () -> "unexpected", null))
+                .isInstanceOf(ProductLoadTimeoutException.class);
+        assertThat(count("timeout")).isEqualTo(1);
+    }
+
+    @Test
+    void execute_whenLoaderFailsWithRecoverableError_returnsStale() {
+        String value = singleFlight.execute(KEY, () -> {
+            throw new DataAccessResourceFailureException("mongo unavailable");
+        }, "stale");
+
+        assertThat(value).isEqualTo("stale");
+    }
+
+    @Test
+    void execute_whenLoaderFailsWithOtherError_rethrows() {
+        assertThatThrownBy(() -> singleFlight.execute(KEY, () -> {
+            throw new IllegalStateException("not found");
+        }, "stale")).isInstanceOf(IllegalStateException.class);
+    }
+
+    private Future<String> startSlowLoad(AtomicInteger loads) throws InterruptedException {
+        Future<String> leader = executor.submit(() -> singleFlight.execute(KEY, () -> {
+            loads.incrementAndGet();
+            loading.countDown();
+            try {
+                release.await(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "fresh";
+        }, null));
+        assertThat(loading.await(1, TimeUnit.SECONDS)).isTrue();
+        return leader;
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("product.cache.loads").tag("cache", "test").tag("outcome", outcome).counter().count();
+    }
+}
@@ -0,0 +1,31 @@
+package com.vendo.product_service.common.builder;
+
+import com.vendo.product_service.common.dto.ProductAttributeDto;
+import com.vendo.product_service.common.dto.ProductRequest;
+import com.vendo.product_service.common.type.ProductStatus;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+@Component
+public class ProductRequestBuilder {
+
+    public static final String PRODUCT_SKU = "SKU-001";
+
+    public static final String PRODUCT_CATEGORY = "electronics";
+
+    public ProductRequest.ProductRequestBuilder buildValidProductRequest() {
+        return ProductRequest.builder()
+                .sku(PRODUCT_SKU)
+                .title("Wireless headphones")
+                .description("Over-ear wireless headphones.")
+                .brand("Vendo")
+                .categories(List.of(PRODUCT_CATEGORY))
+                .attributes(List.of(new ProductAttributeDto("color", "black")))
+                .price(new BigDecimal("99.90"))
+                .currency("USD")
+                .stock(10)
+                .status(ProductStatus.ACTIVE);
+    }
+}
@@ -0,0 +1,46 @@
+package com.vendo.product_service.common.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AsyncConfigTest {
+
+    private final TaskDecorator taskDecorator = new AsyncConfig().securityContextTaskDecorator();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void securityContextTaskDecorator_whenTaskRunsOnAnotherThread_propagatesAuthentication() throws Exception {
+        UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken("user", null, List.of());
+        SecurityContext securityContext = SecurityContextHolder.createEmptyContext();
+        securityContext.setAuthentication(authToken);
+        SecurityContextHolder.setContext(securityContext);
+
+        AtomicReference<Authentication> propagated = new AtomicReference<>();
+        AtomicReference<Authentication> afterTask = new AtomicReference<>();
+        Runnable decorated = taskDecorator.decorate(() -> propagated.set(SecurityContextHolder.getContext().getAuthentication()));
+
+        Thread thread = new Thread(() -> {
+            decorated.run();
+            afterTask.set(SecurityContextHolder.getContext().getAuthentication());
+        });
+        thread.start();
+        thread.join();
+
+        assertThat(propagated.get()).isSameAs(authToken);
+        assertThat(afterTask.get()).isNull();
+    }
+}
@@ -0,0 +1,77 @@
+package com.vendo.product_service.common.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.product_service.common.type.ImportFormat;
+import com.vendo.product_service.common.type.ProductStatus;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductRowReaderFactoryTest {
+
+    private final ProductRowReaderFactory productRowReaderFactory = new ProductRowReaderFactory(new ObjectMapper());
+
+    @Test
+    void open_whenCsv_parsesMultiValuedColumns() throws IOException {
+        String csv = """
+                sku,title,brand,categories,attributes,price,currency,stock,status
+                SKU-1,Headphones,Acme,electronics|audio,color:black|wireless:yes,99.90,USD,5,ACTIVE
+                """;
+
+        List<ImportRow> rows = readAll(ImportFormat.CSV, csv);
+
+        assertThat(rows).hasSize(1);
+        ImportRow row = rows.get(0);
+        assertThat(row.row()).isEqualTo(2);
+        assertThat(row.request().getCategories()).containsExactly("electronics", "audio");
+        assertThat(row.request().getAttributes()).extracting("name").containsExactly("color", "wireless");
+        assertThat(row.request().getPrice()).isEqualByComparingTo(new BigDecimal("99.90"));
+        assertThat(row.request().getStatus()).isEqualTo(ProductStatus.ACTIVE);
+    }
+
+    @Test
+    void open_whenCsvValueInvalid_returnsRowErrorAndContinues() throws IOException {
+        String csv = """
+                sku,title,price,stock
+                SKU-1,Headphones,abc,5
+                SKU-2,Speaker,10.00,1
+                """;
+
+        List<ImportRow> rows = readAll(ImportFormat.CSV, csv);
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).error()).isEqualTo("price: invalid value abc");
+        assertThat(rows.get(1).request().getSku()).isEqualTo("SKU-2");
+    }
+
+    @Test
+    void open_whenNdjsonLineMalformed_returnsRowErrorAndContinues() throws IOException {
+        String ndjson = """
+                {"sku":"SKU-1","title":"Headphones"}
+                {"sku":
+                
+                {"sku":"SKU-2","title":"Speaker"}
+                """;
+
+        List<ImportRow> rows = readAll(ImportFormat.NDJSON, ndjson);
+
+        assertThat(rows).extracting(ImportRow::row).containsExactly(1L, 2L, 4L);
+        assertThat(rows.get(1).error()).startsWith("Malformed JSON");
+        assertThat(rows.get(2).request().getSku()).isEqualTo("SKU-2");
+    }
+
+    private List<ImportRow> readAll(ImportFormat format, String content) throws IOException {
+        List<ImportRow> rows = new ArrayList<>();
+        try (ProductRowReader reader = productRowReaderFactory.open(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)))) {
+            reader.forEachRemaining(rows::add);
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,70 @@
+package com.vendo.product_service.common.pagination;
+
+import com.vendo.product_service.common.exception.InvalidCursorException;
+import com.vendo.product_service.common.type.ProductSort;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProductCursorCodecTest {
+
+    private static final String FILTER_KEY = "filter";
+
+    private static final String PRODUCT_ID = "64f1c2e5a1b2c3d4e5f60718";
+
+    private final ProductCursorCodec productCursorCodec = new ProductCursorCodec(paginationProperties("cursorSecret"));
+
+    @Test
+    void decode_whenCursorEncodedByCodec_returnsSameCursor() {
+        ProductCursor cursor = new ProductCursor(ProductSort.NEWEST, FILTER_KEY, "1700000000000", PRODUCT_ID);
+
+        ProductCursor decoded = productCursorCodec.decode(productCursorCodec.encode(cursor), ProductSort.NEWEST, FILTER_KEY);
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.sortKey()).isEqualTo(Instant.ofEpochMilli(1_700_000_000_000L));
+    }
+
+    @Test
+    void decode_whenPayloadTampered_throwsInvalidCursorException() {
+        String token = productCursorCodec.encode(new ProductCursor(ProductSort.PRICE_ASC, FILTER_KEY, "10.00", PRODUCT_ID));
+        String forged = productCursorCodec.encode(new ProductCursor(ProductSort.PRICE_ASC, FILTER_KEY, "0.00", PRODUCT_ID));
+        String tampered = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertThatThrownBy(() -> productCursorCodec.decode(tampered, ProductSort.PRICE_ASC, FILTER_KEY))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void decode_whenSignedWithAnotherSecret_throwsInvalidCursorException() {
+        ProductCursorCodec otherCodec = new ProductCursorCodec(paginationProperties("otherSecret"));
+        String token = otherCodec.encode(new ProductCursor(ProductSort.PRICE_ASC, FILTER_KEY, "10.00", PRODUCT_ID));
+
+        assertThatThrownBy(() -> productCursorCodec.decode(token, ProductSort.PRICE_ASC, FILTER_KEY))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void decode_whenSortDiffers_throwsInvalidCursorException() {
+        String token = productCursorCodec.encode(new ProductCursor(ProductSort.PRICE_ASC, FILTER_KEY, "10.00", PRODUCT_ID));
+
+        assertThatThrownBy(() -> productCursorCodec.decode(token, ProductSort.PRICE_DESC, FILTER_KEY))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    @Test
+    void decode_whenCursorMalformed_throwsInvalidCursorException() {
+        assertThatThrownBy(() -> productCursorCodec.decode("not-a-cursor", ProductSort.PRICE_ASC, FILTER_KEY))
+                .isInstanceOf(InvalidCursorException.class);
+        assertThatThrownBy(() -> productCursorCodec.decode("%%%.%%%", ProductSort.PRICE_ASC, FILTER_KEY))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private static PaginationProperties paginationProperties(String cursorSecret) {
+        PaginationProperties paginationProperties = new PaginationProperties();
+        paginationProperties.setCursorSecret(cursorSecret);
+        return paginationProperties;
+    }
+}
@@ -0,0 +1,258 @@
+package com.vendo.product_service.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.product_service.cache.ProductReadCache;
+import com.vendo.common.exception.ExceptionResponse;
+import com.vendo.product_service.common.builder.JwtPayloadBuilder;
+import com.vendo.product_service.common.builder.ProductRequestBuilder;
+import com.vendo.product_service.common.dto.ProductBatchRequest;
+import com.vendo.product_service.common.dto.ProductBatchResponse;
+import com.vendo.product_service.common.dto.ProductRequest;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.OutboxEventRepository;
+import com.vendo.product_service.repository.ProductRepository;
+import com.vendo.product_service.service.JwtService;
+import com.vendo.product_service.warmup.HotProductTracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static com.vendo.product_service.common.builder.JwtPayloadBuilder.JWT_USER_SUBJECT;
+import static com.vendo.security.common.constants.AuthConstants.AUTHORIZATION_HEADER;
+import static com.vendo.security.common.constants.AuthConstants.BEARER_PREFIX;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class ProductControllerIntegrationTest {
+
+    private static final String PRODUCT_ID = "product-1";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private JwtService jwtService;
+
+    @Autowired
+    private JwtPayloadBuilder jwtPayloadBuilder;
+
+    @Autowired
+    private ProductRequestBuilder productRequestBuilder;
+
+    @Autowired
+    private ProductReadCache productReadCache;
+
+    @MockitoBean
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private OutboxEventRepository outboxEventRepository;
+
+    @MockitoBean
+    private MongoTransactionManager transactionManager;
+
+    @MockitoSpyBean
+    private HotProductTracker hotProductTracker;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        productReadCache.invalidateAll();
+    }
+
+    @Test
+    void findById_shouldReturnProduct_whenAnonymousAndProductActive() throws Exception {
+        Product product = Product.builder().id(PRODUCT_ID).title("Headphones").status(ProductStatus.ACTIVE).build();
+        when(productRepository.findByIdAndStatus(PRODUCT_ID, ProductStatus.ACTIVE)).thenReturn(Optional.of(product));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/products/" + PRODUCT_ID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        ProductResponse productResponse = objectMapper.readValue(response.getContentAsString(), ProductResponse.class);
+        assertThat(productResponse.getId()).isEqualTo(PRODUCT_ID);
+        assertThat(productResponse.getTitle()).isEqualTo("Headphones");
+    }
+
+    @Test
+    void findById_shouldReturnValidators_whenProductHasVersion() throws Exception {
+        Product product = Product.builder().id(PRODUCT_ID).status(ProductStatus.ACTIVE).version(3L).updatedAt(Instant.now()).build();
+        when(productRepository.findByIdAndStatus(PRODUCT_ID, ProductStatus.ACTIVE)).thenReturn(Optional.of(product));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/products/" + PRODUCT_ID))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"3\"");
+        assertThat(response.getHeader(HttpHeaders.LAST_MODIFIED)).isNotNull();
+        assertThat(response.getHeader(HttpHeaders.CACHE_CONTROL)).contains("max-age=0", "must-revalidate");
+    }
+
+    @Test
+    void findById_shouldReturnNotModifiedWithoutLoadingProduct_whenETagMatches() throws Exception {
+        Product version = Product.builder().id(PRODUCT_ID).version(3L).build();
+        when(productRepository.findVersionByIdAndStatus(PRODUCT_ID, ProductStatus.ACTIVE)).thenReturn(Optional.of(version));
+
+        MockHttpServletResponse response = mockMvc.perform(get("/products/" + PRODUCT_ID).header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse();
+
+        assertThat(response.getContentLength()).isZero();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo("\"3\"");
+        verify(productRepository, never()).findByIdAndStatus(any(), any());
+    }
+
+    @Test
+    void findByCategory_shouldReturnNotModified_whenPageUnchanged() throws Exception {
+        when(productRepository.findCategoryPage(any(), any(), any(), anyInt())).thenReturn(List.of());
+
+        String eTag = mockMvc.perform(get("/products").param("category", "audio"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/products").param("category", "audio").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void findById_shouldReturnNotFound_whenProductMissing() throws Exception {
+        when(productRepository.findByIdAndStatus(PRODUCT_ID, ProductStatus.ACTIVE)).thenReturn(Optional.empty());
+
+        MockHttpServletResponse response = mockMvc.perform(get("/products/" + PRODUCT_ID))
+                .andExpect(status().isNotFound())
+                .andReturn().getResponse();
+
+        ExceptionResponse exceptionResponse = objectMapper.readValue(response.getContentAsString(), ExceptionResponse.class);
+        assertThat(exceptionResponse.getMessage()).isEqualTo("Product not found.");
+        assertThat(exceptionResponse.getCode()).isEqualTo(HttpStatus.NOT_FOUND.value());
+        assertThat(exceptionResponse.getPath()).isEqualTo("/products/" + PRODUCT_ID);
+        verify(hotProductTracker, never()).record(any());
+    }
+
+    @Test
+    void findBatch_shouldReturnProductsInInputOrderWithMisses_whenAnonymous() throws Exception {
+        Product product = Product.builder().id(PRODUCT_ID).title("Headphones").status(ProductStatus.ACTIVE).build();
+        when(productRepository.findActiveByIds(anyCollection())).thenReturn(List.of(product));
+        ProductBatchRequest productBatchRequest = new ProductBatchRequest(List.of("missing", PRODUCT_ID));
+
+        MockHttpServletResponse response = mockMvc.perform(post("/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productBatchRequest)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        ProductBatchResponse productBatchResponse = objectMapper.readValue(response.getContentAsString(), ProductBatchResponse.class);
+        assertThat(productBatchResponse.getItems()).hasSize(2);
+        assertThat(productBatchResponse.getItems().get(0).isFound()).isFalse();
+        assertThat(productBatchResponse.getItems().get(1).getProduct().getTitle()).isEqualTo("Headphones");
+        verify(hotProductTracker).recordAll(List.of(PRODUCT_ID));
+    }
+
+    @Test
+    void findBatch_shouldReturnBadRequest_whenTooManyIds() throws Exception {
+        ProductBatchRequest productBatchRequest = new ProductBatchRequest(Collections.nCopies(ProductBatchRequest.MAX_IDS + 1, PRODUCT_ID));
+
+        mockMvc.perform(post("/products/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productBatchRequest)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void create_shouldReturnUnauthorized_whenNoToken() throws Exception {
+        ProductRequest productRequest = productRequestBuilder.buildValidProductRequest().build();
+
+        mockMvc.perform(post("/seller/products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productRequest)))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void create_shouldCreateProductForTokenSubject_whenRequestValid() throws Exception {
+        ProductRequest productRequest = productRequestBuilder.buildValidProductRequest().build();
+        when(productRepository.save(any(Product.class))).thenAnswer(invocation -> {
+            Product product = invocation.getArgument(0);
+            product.setId(PRODUCT_ID);
+            return product;
+        });
+
+        MockHttpServletResponse response = mockMvc.perform(post("/seller/products")
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + generateToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productRequest)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+
+        ProductResponse productResponse = objectMapper.readValue(response.getContentAsString(), ProductResponse.class);
+        assertThat(productResponse.getId()).isEqualTo(PRODUCT_ID);
+        assertThat(productResponse.getSellerId()).isEqualTo(JWT_USER_SUBJECT);
+        assertThat(productResponse.getPrice()).isEqualByComparingTo(productRequest.getPrice());
+    }
+
+    @Test
+    void create_shouldReturnBadRequest_whenRequestInvalid() throws Exception {
+        ProductRequest productRequest = productRequestBuilder.buildValidProductRequest().title(" ").price(null).build();
+
+        MockHttpServletResponse response = mockMvc.perform(post("/seller/products")
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + generateToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productRequest)))
+                .andExpect(status().isBadRequest())
+                .andReturn().getResponse();
+
+        ExceptionResponse exceptionResponse = objectMapper.readValue(response.getContentAsString(), ExceptionResponse.class);
+        assertThat(exceptionResponse.getMessage()).contains("price", "title");
+        assertThat(exceptionResponse.getCode()).isEqualTo(HttpStatus.BAD_REQUEST.value());
+    }
+
+    @Test
+    void update_shouldReturnNotFound_whenProductOwnedByAnotherSeller() throws Exception {
+        ProductRequest productRequest = productRequestBuilder.buildValidProductRequest().build();
+        when(productRepository.findByIdAndSellerId(PRODUCT_ID, JWT_USER_SUBJECT)).thenReturn(Optional.empty());
+
+        mockMvc.perform(put("/seller/products/" + PRODUCT_ID)
+                        .header(AUTHORIZATION_HEADER, BEARER_PREFIX + generateToken())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(productRequest)))
+                .andExpect(status().isNotFound());
+    }
+
+    private String generateToken() {
+        return jwtService.generateAccessToken(jwtPayloadBuilder.buildValidUserJwtPayload().build());
+    }
+}
@@ -13,4 +13,9 @@ public class TestController {
         return "pong";
     }
 
+    @GetMapping("/public/ping")
+    public String publicPing() {
+        return "pong";
+    }
+
 }
@@ -0,0 +1,102 @@
+package com.vendo.product_service.counts;
+
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.model.ProductAttribute;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CategoryCountStoreTest {
+
+    private static final String CATEGORY = "electronics";
+
+    private CategoryCountStore categoryCountStore;
+
+    @BeforeEach
+    void setUp() {
+        categoryCountStore = new CategoryCountStore();
+    }
+
+    @Test
+    void apply_whenNotPublished_keepsPreviousSnapshot() {
+        categoryCountStore.apply(Set.of("p1"), List.of(product("p1", "red")));
+
+        assertThat(categoryCountStore.snapshot().productCount(CATEGORY)).isZero();
+
+        categoryCountStore.publish();
+
+        assertThat(categoryCountStore.snapshot().productCount(CATEGORY)).isEqualTo(1);
+    }
+
+    @Test
+    void apply_whenProductChanged_movesCountsToNewValues() {
+        categoryCountStore.apply(Set.of("p1", "p2"), List.of(product("p1", "red"), product("p2", "red")));
+        categoryCountStore.apply(Set.of("p1"), List.of(product("p1", "blue")));
+        categoryCountStore.publish();
+
+        CategoryCountSnapshot snapshot = categoryCountStore.snapshot();
+        assertThat(snapshot.productCount(CATEGORY)).isEqualTo(2);
+        assertThat(snapshot.attributeCounts(CATEGORY)).isEqualTo(Map.of("color", Map.of("red", 1L, "blue", 1L)));
+    }
+
+    @Test
+    void apply_whenProductArchivedOrDeleted_removesItsCounts() {
+        Product archived = product("p1", "red");
+        archived.setStatus(ProductStatus.ARCHIVED);
+        categoryCountStore.apply(Set.of("p1", "p2"), List.of(product("p1", "red"), product("p2", "red")));
+
+        categoryCountStore.apply(Set.of("p1", "p2"), List.of(archived));
+        categoryCountStore.publish();
+
+        assertThat(categoryCountStore.snapshot().categories()).isEmpty();
+        assertThat(categoryCountStore.snapshot().attributeCounts(CATEGORY)).isEmpty();
+    }
+
+    @Test
+    void replace_whenFacetValuesRetired_dropsTheirCounts() {
+        CategoryCountTally tally = new CategoryCountTally();
+        Product archived = product("p1", "green");
+        archived.setStatus(ProductStatus.ARCHIVED);
+
+        tally.replace("p1", product("p1", "red"));
+        tally.replace("p1", product("p1", "blue"));
+        tally.replace("p1", product("p1", "blue"));
+        tally.replace("p2", product("p2", "blue"));
+
+        assertThat(tally.facetCount()).isEqualTo(2);
+
+        tally.replace("p1", archived);
+        tally.replace("p2", null);
+
+        assertThat(tally.facetCount()).isZero();
+        assertThat(tally.toSnapshot().categories()).isEmpty();
+    }
+
+    @Test
+    void completeReconcile_whenProductChangedDuringScan_returnsItForReapplying() {
+        categoryCountStore.apply(Set.of("stale"), List.of(product("stale", "red")));
+        CategoryCountTally reconciled = categoryCountStore.beginReconcile();
+        reconciled.replace("p1", product("p1", "red"));
+
+        categoryCountStore.apply(Set.of("p2"), List.of(product("p2", "blue")));
+        Set<String> changed = categoryCountStore.completeReconcile(reconciled);
+
+        assertThat(changed).containsExactly("p2");
+        assertThat(categoryCountStore.snapshot().attributeCounts(CATEGORY)).isEqualTo(Map.of("color", Map.of("red", 1L)));
+    }
+
+    private Product product(String id, String color) {
+        return Product.builder()
+                .id(id)
+                .categories(List.of(CATEGORY))
+                .attributes(List.of(new ProductAttribute("color", color)))
+                .status(ProductStatus.ACTIVE)
+                .build();
+    }
+}
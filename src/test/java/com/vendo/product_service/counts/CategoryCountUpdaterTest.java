@@ -0,0 +1,58 @@
+package com.vendo.product_service.counts;
+
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.counts.config.CategoryCountProperties;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryCountUpdaterTest {
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private CategoryCountStore categoryCountStore;
+
+    private CategoryCountStartupCheck categoryCountStartupCheck;
+
+    private CategoryCountUpdater categoryCountUpdater;
+
+    @BeforeEach
+    void setUp() {
+        categoryCountStore = new CategoryCountStore();
+        categoryCountUpdater = new CategoryCountUpdater(categoryCountStore, productRepository, new CategoryCountProperties(),
+                new SimpleMeterRegistry());
+        categoryCountStartupCheck = new CategoryCountStartupCheck(categoryCountUpdater);
+    }
+
+    @Test
+    void retryInitialReconcile_whenFirstReconcileFailed_becomesReadyOnceCountsAreBuilt() {
+        Product product = Product.builder().id("p1").categories(List.of("electronics")).status(ProductStatus.ACTIVE).build();
+        when(productRepository.streamActiveFacets(anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("mongo unavailable"))
+                .thenReturn(Stream.of(product));
+
+        categoryCountUpdater.reconcile();
+
+        assertThat(categoryCountStartupCheck.isReady()).isFalse();
+
+        categoryCountUpdater.retryInitialReconcile();
+
+        assertThat(categoryCountStartupCheck.isReady()).isTrue();
+        assertThat(categoryCountStore.snapshot().productCount("electronics")).isEqualTo(1);
+    }
+}
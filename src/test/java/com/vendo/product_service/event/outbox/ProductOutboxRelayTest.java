@@ -0,0 +1,211 @@
+package com.vendo.product_service.event.outbox;
+
+import com.vendo.product_service.common.type.ProductChangeType;
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.event.config.ProductEventProperties;
+import com.vendo.product_service.model.OutboxEvent;
+import com.vendo.product_service.repository.OutboxEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.errors.NotEnoughReplicasException;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductOutboxRelayTest {
+
+    private static final String TOPIC = "product-events";
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Mock
+    private OutboxRelayLock outboxRelayLock;
+
+    private ProductEventProperties productEventProperties;
+
+    private ProductOutboxRelay productOutboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        productEventProperties = new ProductEventProperties();
+        productEventProperties.setTopic(TOPIC);
+
+        productOutboxRelay = new ProductOutboxRelay(outboxEventRepository, kafkaTemplate, outboxRelayLock,
+                productEventProperties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void relay_whenLockHeldByAnotherInstance_doesNotReadOutbox() {
+        when(outboxRelayLock.tryAcquire()).thenReturn(false);
+
+        productOutboxRelay.relay();
+
+        verify(outboxEventRepository, never()).findByParkedAtIsNullOrderByCreatedAtAscIdAsc(any());
+    }
+
+    @Test
+    void relay_whenAllEventsAcknowledged_deletesBatch() {
+        OutboxEvent first = outboxEvent("1");
+        OutboxEvent second = outboxEvent("2");
+        when(outboxRelayLock.tryAcquire()).thenReturn(true);
+        when(outboxEventRepository.findByParkedAtIsNullOrderByCreatedAtAscIdAsc(any(Limit.class))).thenReturn(List.of(first, second));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(acknowledged());
+
+        productOutboxRelay.relay();
+
+        verify(outboxEventRepository).deleteAllById(List.of("1", "2"));
+    }
+
+    @Test
+    void relay_whenSendFails_deletesOnlyAcknowledgedPrefix() {
+        OutboxEvent first = outboxEvent("1");
+        OutboxEvent second = outboxEvent("2");
+        OutboxEvent third = outboxEvent("3");
+        when(outboxRelayLock.tryAcquire()).thenReturn(true);
+        when(outboxEventRepository.findByParkedAtIsNullOrderByCreatedAtAscIdAsc(any(Limit.class))).thenReturn(List.of(first, second, third));
+        when(kafkaTemplate.send(TOPIC, "product-1", first.getPayload())).thenReturn(acknowledged());
+        when(kafkaTemplate.send(TOPIC, "product-2", second.getPayload()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker unavailable")));
+        when(kafkaTemplate.send(TOPIC, "product-3", third.getPayload())).thenReturn(acknowledged());
+
+        productOutboxRelay.relay();
+
+        verify(outboxEventRepository).deleteAllById(List.of("1"));
+    }
+
+    @Test
+    void relay_whenRecordTooLarge_parksEventAtOnce() {
+        OutboxEvent first = outboxEvent("1");
+        when(outboxRelayLock.tryAcquire()).thenReturn(true);
+        when(outboxEventRepository.findByParkedAtIsNullOrderByCreatedAtAscIdAsc(any(Limit.class))).thenReturn(List.of(first));
+        when(kafkaTemplate.send(TOPIC, "product-1", first.getPayload()))
+                .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")));
+
+        productOutboxRelay.relay();
+
+        OutboxEvent saved = savedEvent();
+        assertThat(saved.getAttempts()).isEqualTo(1);
+        assertThat(saved.getParkedAt()).isNotNull();
+        verify(outboxEventRepository, never()).deleteAllById(any());
+    }
+
+    @Test
+    void relay_whenSerializationFailsInSend_parksEventAtOnce() {
+        OutboxEvent first = outboxEvent("1");
+        when(outboxRelayLock.tryAcquire()).thenReturn(true);
+        when(outboxEventRepository.findByParkedAtIsNullOrderByCreatedAtAscIdAsc(any(Limit.class))).thenReturn(List.of(first));
+        when(kafkaTemplate.send(TOPIC, "product-1", first.getPayload())).thenThrow(new SerializationException("bad payload"));
+
+        productOutboxRelay.relay();
+
+        assertThat(savedEvent().getParkedAt()).isNotNull();
+    }
+
+    @Test
+    void relay_whenNonRetriableFailureRepeats_parksEventAfterMaxAttempts() {
+        productEventProperties.getRelay().setMaxAttempts(3);
+        OutboxEvent first = outboxEvent("1");
+        when(outboxRelayLock.tryAcquire()).thenReturn(true);
+        when(outboxEventRepository.findByParkedAtIsNullOrderByCreatedAtAscIdAsc(any(Limit.class))).thenReturn(List.of(first));
+        when(kafkaTemplate.send(TOPIC, "product-1", first.getPayload()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("rejected")));
+
+        productOutboxRelay.relay();
+        productOutboxRelay.relay();
+
+        assertThat(first.getAttempts()).isEqualTo(2);
+        assertThat(first.getParkedAt()).isNull();
+
+        productOutboxRelay.relay();
+
+        assertThat(first.getAttempts()).isEqualTo(3);
+        assertThat(first.getParkedAt()).isNotNull();
+    }
+
+    @Test
+    void relay_whenFailureRetriable_retriesWithoutCountingAttempts() {
+        OutboxEvent first = outboxEvent("1");
+        when(outboxRelayLock.tryAcquire()).thenReturn(true);
+        when(outboxEventRepository.findByParkedAtIsNullOrderByCreatedAtAscIdAsc(any(Limit.class))).thenReturn(List.of(first));
+        when(kafkaTemplate.send(TOPIC, "product-1", first.getPayload()))
+                .thenReturn(CompletableFuture.failedFuture(new NotEnoughReplicasException("not enough replicas")));
+
+        productOutboxRelay.relay();
+
+        assertThat(first.getAttempts()).isZero();
+        verify(outboxEventRepository, never()).save(any());
+    }
+
+    @Test
+    void outboxEventWriter_whenEventsDisabled_isNotCreated() {
+        new ApplicationContextRunner()
+                .withPropertyValues("product.events.enabled=false")
+                .withBean(OutboxEventRepository.class, () -> outboxEventRepository)
+                .withUserConfiguration(OutboxEventWriter.class)
+                .run(context -> assertThat(context).doesNotHaveBean(OutboxEventWriter.class));
+    }
+
+    @Test
+    void relay_whenLeaseRenewalFails_stopsBeforeNextBatch() {
+        productEventProperties.getRelay().setBatchSize(2);
+        when(outboxRelayLock.tryAcquire()).thenReturn(true, false);
+        when(outboxEventRepository.findByParkedAtIsNullOrderByCreatedAtAscIdAsc(any(Limit.class)))
+                .thenReturn(List.of(outboxEvent("1"), outboxEvent("2")));
+        when(kafkaTemplate.send(eq(TOPIC), anyString(), any())).thenReturn(acknowledged());
+
+        productOutboxRelay.relay();
+
+        verify(outboxEventRepository, times(1)).findByParkedAtIsNullOrderByCreatedAtAscIdAsc(any(Limit.class));
+        verify(outboxRelayLock, times(2)).tryAcquire();
+    }
+
+    private OutboxEvent savedEvent() {
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+        return saved.getValue();
+    }
+
+    private CompletableFuture<SendResult<String, Object>> acknowledged() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private OutboxEvent outboxEvent(String id) {
+        String productId = "product-" + id;
+        ProductChangedEvent payload = new ProductChangedEvent(
+                ProductChangeType.UPDATED, productId, "seller-1", Set.of("electronics"), 1L, Instant.now());
+
+        return OutboxEvent.builder()
+                .id(id)
+                .aggregateId(productId)
+                .payload(payload)
+                .createdAt(payload.occurredAt())
+                .build();
+    }
+}
@@ -0,0 +1,447 @@
+package com.vendo.product_service.inventory;
+
+import com.vendo.product_service.common.exception.InsufficientStockException;
+import com.vendo.product_service.common.exception.InventoryUnavailableException;
+import com.vendo.product_service.common.exception.ReservationNotFoundException;
+import com.vendo.product_service.common.type.ProductChangeType;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.common.type.ReservationState;
+import com.vendo.product_service.event.InventoryReservationEvent;
+import com.vendo.product_service.event.ProductChangeBatchEvent;
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.inventory.config.InventoryProperties;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+class InventoryReservationEngineTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private static final Duration HOLD_TIME_TO_LIVE = Duration.ofSeconds(10);
+
+    private static final Duration LEASE_TIME_TO_LIVE = Duration.ofMinutes(1);
+
+    private final AtomicReference<Instant> now = new AtomicReference<>(NOW);
+
+    private final AtomicLong mongoStock = new AtomicLong();
+
+    private final AtomicLong flushedUnits = new AtomicLong();
+
+    private final Map<String, InventoryReservationEvent> logEntries = new ConcurrentHashMap<>();
+
+    private final AtomicReference<String> leaseOwner = new AtomicReference<>();
+
+    private final AtomicReference<Instant> leaseUntil = new AtomicReference<>(NOW);
+
+    private final List<Object> publishedEvents = new CopyOnWriteArrayList<>();
+
+    // Stub-only mocks keep no invocation history, which the stress tests would otherwise fill up.
+    private final ProductRepository productRepository = mock(ProductRepository.class, withSettings().stubOnly());
+
+    private final ReservationLog reservationLog = mock(ReservationLog.class, withSettings().stubOnly());
+
+    private final MongoTransactionManager transactionManager = mock(MongoTransactionManager.class);
+
+    private final InventoryProperties inventoryProperties = new InventoryProperties();
+
+    private final Clock clock = mock(Clock.class, withSettings().stubOnly());
+
+    private InventoryReservationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        inventoryProperties.setStripes(8);
+        inventoryProperties.setHoldTimeToLive(HOLD_TIME_TO_LIVE);
+        inventoryProperties.setLeaseTimeToLive(LEASE_TIME_TO_LIVE);
+
+        when(clock.instant()).thenAnswer(invocation -> now.get());
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+        when(productRepository.findStockByIdAndStatus(anyString(), eq(ProductStatus.ACTIVE)))
+                .thenAnswer(invocation -> Optional.of(Product.builder().stock((int) mongoStock.get()).build()));
+        doAnswer(this::decrementStock).when(productRepository).decrementStock(anyMap());
+        doAnswer(invocation -> {
+            Reservation reservation = invocation.getArgument(0);
+            logEntries.put(reservation.id(), new InventoryReservationEvent(invocation.getArgument(1), reservation.id(),
+                    reservation.productId(), reservation.userId(), reservation.quantity(), reservation.expiresAt()));
+            return null;
+        }).when(reservationLog).append(any(), any());
+        doAnswer(invocation -> logEntries.remove(invocation.<String>getArgument(0)))
+                .when(reservationLog).remove(anyString());
+        when(reservationLog.replay()).thenAnswer(invocation -> Map.copyOf(logEntries));
+
+        engine = newEngine("owner");
+    }
+
+    @Test
+    void reserve_whenNotOwner_throwsInventoryUnavailable() {
+        mongoStock.set(10);
+
+        assertThatThrownBy(() -> engine.reserve("u1", "p1", 1))
+                .isInstanceOf(InventoryUnavailableException.class);
+        assertThat(engine.isReady()).isFalse();
+    }
+
+    @Test
+    void reserve_whenStockSufficient_holdsUnitsUntilExpiry() {
+        mongoStock.set(10);
+        engine.maintainOwnership();
+
+        Reservation reservation = engine.reserve("u1", "p1", 4);
+
+        assertThat(reservation.expiresAt()).isEqualTo(NOW.plus(HOLD_TIME_TO_LIVE));
+        assertThat(engine.available("p1")).isEqualTo(6);
+
+        now.set(reservation.expiresAt());
+        engine.expireHolds();
+
+        assertThat(engine.available("p1")).isEqualTo(10);
+        assertThatThrownBy(() -> engine.confirm("u1", reservation.id())).isInstanceOf(ReservationNotFoundException.class);
+    }
+
+    @Test
+    void reserve_whenInsufficientStock_throwsInsufficientStock() {
+        mongoStock.set(3);
+        engine.maintainOwnership();
+
+        assertThatThrownBy(() -> engine.reserve("u1", "p1", 4)).isInstanceOf(InsufficientStockException.class);
+        assertThat(engine.available("p1")).isEqualTo(3);
+    }
+
+    @Test
+    void reserve_whenLogFails_returnsUnits() {
+        mongoStock.set(3);
+        engine.maintainOwnership();
+        doThrow(new InventoryUnavailableException("Reservation could not be recorded."))
+                .when(reservationLog).append(any(), eq(ReservationState.RESERVED));
+
+        assertThatThrownBy(() -> engine.reserve("u1", "p1", 2)).isInstanceOf(InventoryUnavailableException.class);
+        assertThat(engine.available("p1")).isEqualTo(3);
+    }
+
+    @Test
+    void release_whenOtherUser_throwsReservationNotFound() {
+        mongoStock.set(3);
+        engine.maintainOwnership();
+        Reservation reservation = engine.reserve("u1", "p1", 2);
+
+        assertThatThrownBy(() -> engine.release("u2", reservation.id())).isInstanceOf(ReservationNotFoundException.class);
+
+        engine.release("u1", reservation.id());
+
+        assertThat(engine.available("p1")).isEqualTo(3);
+    }
+
+    @Test
+    void flush_writesConfirmedUnitsPublishesChangesAndRemovesThemFromLog() {
+        mongoStock.set(10);
+        when(productRepository.findChangeKeysByIdIn(Set.of("p1")))
+                .thenReturn(List.of(Product.builder().id("p1").sellerId("s1").categories(List.of("c1")).version(3L).build()));
+        engine.maintainOwnership();
+
+        Reservation reservation = engine.reserve("u1", "p1", 4);
+        engine.confirm("u1", reservation.id());
+
+        assertThat(logEntries.get(reservation.id()).state()).isEqualTo(ReservationState.CONFIRMED);
+
+        engine.flush();
+
+        assertThat(mongoStock.get()).isEqualTo(6);
+        assertThat(engine.available("p1")).isEqualTo(6);
+        assertThat(logEntries).isEmpty();
+        assertThat(publishedEvents).singleElement()
+                .isEqualTo(new ProductChangeBatchEvent(List.of(
+                        new ProductChangedEvent(ProductChangeType.UPDATED, "p1", "s1", Set.of("c1"), 3L, NOW))));
+    }
+
+    @Test
+    void flush_whenMongoFails_retriesOnNextRun() {
+        mongoStock.set(10);
+        engine.maintainOwnership();
+        engine.confirm("u1", engine.reserve("u1", "p1", 4).id());
+        doThrow(new DataAccessResourceFailureException("down")).doAnswer(this::decrementStock)
+                .when(productRepository).decrementStock(anyMap());
+
+        engine.flush();
+
+        assertThat(mongoStock.get()).isEqualTo(10);
+
+        engine.flush();
+
+        assertThat(mongoStock.get()).isEqualTo(6);
+        assertThat(engine.available("p1")).isEqualTo(6);
+    }
+
+    @Test
+    void flush_whenPublishingChangesFails_rollsBackAndRetriesOnNextRun() {
+        mongoStock.set(10);
+        when(productRepository.findChangeKeysByIdIn(Set.of("p1")))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(List.of(Product.builder().id("p1").sellerId("s1").version(3L).build()));
+        engine.maintainOwnership();
+        Reservation reservation = engine.reserve("u1", "p1", 4);
+        engine.confirm("u1", reservation.id());
+
+        engine.flush();
+
+        verify(transactionManager).rollback(any());
+        assertThat(logEntries).containsKey(reservation.id());
+        assertThat(publishedEvents).isEmpty();
+
+        engine.flush();
+
+        verify(transactionManager).commit(any());
+        assertThat(logEntries).isEmpty();
+        assertThat(publishedEvents).hasSize(1);
+    }
+
+    @Test
+    void flush_whenStockChangedElsewhere_resyncsCounter() {
+        mongoStock.set(10);
+        engine.maintainOwnership();
+        engine.reserve("u1", "p1", 4);
+
+        mongoStock.set(20);
+        engine.onProductChanged(new ProductChangedEvent(ProductChangeType.UPDATED, "p1", "s1", Set.of(), 2L, NOW));
+        engine.flush();
+
+        assertThat(engine.available("p1")).isEqualTo(16);
+
+        mongoStock.set(2);
+        engine.onProductChanged(new ProductChangedEvent(ProductChangeType.UPDATED, "p1", "s1", Set.of(), 3L, NOW));
+        engine.flush();
+
+        assertThat(engine.available("p1")).isZero();
+        assertThatThrownBy(() -> engine.reserve("u2", "p1", 1)).isInstanceOf(InsufficientStockException.class);
+    }
+
+    @Test
+    void rebuild_restoresHoldsAndUnflushedSales() {
+        mongoStock.set(10);
+        when(reservationLog.replay()).thenReturn(Map.of(
+                "r1", new InventoryReservationEvent(ReservationState.RESERVED, "r1", "p1", "u1", 2, NOW.plus(HOLD_TIME_TO_LIVE)),
+                "r2", new InventoryReservationEvent(ReservationState.CONFIRMED, "r2", "p1", "u2", 3, NOW)
+        ));
+
+        engine.maintainOwnership();
+
+        assertThat(engine.isReady()).isTrue();
+        assertThat(engine.available("p1")).isEqualTo(5);
+
+        engine.confirm("u1", "r1");
+        engine.flush();
+
+        assertThat(mongoStock.get()).isEqualTo(5);
+        assertThat(engine.available("p1")).isEqualTo(5);
+    }
+
+    @Test
+    void reserve_whenFlashSale_sellsExactlyTheStock() throws Exception {
+        int stock = 1_000;
+        mongoStock.set(stock);
+        engine.maintainOwnership();
+
+        AtomicLong reserved = new AtomicLong();
+        runConcurrently(32, () -> {
+            for (int attempt = 0; attempt < 200; attempt++) {
+                try {
+                    engine.reserve("u", "p1", 1);
+                    reserved.incrementAndGet();
+                } catch (InsufficientStockException ignored) {
+                }
+            }
+        });
+
+        assertThat(reserved.get()).isEqualTo(stock);
+        assertThat(engine.available("p1")).isZero();
+    }
+
+    @Test
+    void reserve_whenConfirmReleaseExpiryAndFlushRace_neverOversells() throws Exception {
+        int stock = 2_000;
+        mongoStock.set(stock);
+        engine.maintainOwnership();
+
+        AtomicLong confirmed = new AtomicLong();
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread background = new Thread(() -> {
+            while (running.get()) {
+                now.updateAndGet(instant -> instant.plusSeconds(5));
+                engine.maintainOwnership();
+                engine.expireHolds();
+                engine.flush();
+            }
+        });
+        background.start();
+
+        runConcurrently(16, () -> {
+            ThreadLocalRandom random = ThreadLocalRandom.current();
+            for (int attempt = 0; attempt < 2_000; attempt++) {
+                Reservation reservation;
+                try {
+                    reservation = engine.reserve("u", "p1", random.nextInt(1, 4));
+                } catch (InsufficientStockException e) {
+                    continue;
+                }
+
+                try {
+                    int action = random.nextInt(4);
+                    if (action < 2) {
+                        engine.confirm("u", reservation.id());
+                        confirmed.addAndGet(reservation.quantity());
+                    } else if (action == 2) {
+                        engine.release("u", reservation.id());
+                    }
+                } catch (ReservationNotFoundException ignored) {
+                    // Expired in the meantime.
+                }
+            }
+        });
+
+        running.set(false);
+        background.join();
+        now.updateAndGet(instant -> instant.plus(HOLD_TIME_TO_LIVE));
+        engine.expireHolds();
+        engine.flush();
+
+        assertThat(confirmed.get()).isLessThanOrEqualTo(stock);
+        assertThat(flushedUnits.get()).isEqualTo(confirmed.get());
+        assertThat(engine.available("p1")).isEqualTo(stock - confirmed.get());
+    }
+
+    @Test
+    void reserve_whenTwoInstancesShareStock_onlyLeaseOwnerSells() throws Exception {
+        int stock = 1_000;
+        mongoStock.set(stock);
+        InventoryReservationEngine other = newEngine("other");
+        engine.maintainOwnership();
+        other.maintainOwnership();
+
+        assertThat(engine.isReady()).isTrue();
+        assertThat(other.isReady()).isFalse();
+
+        AtomicLong reserved = new AtomicLong();
+        runConcurrently(32, () -> {
+            for (int attempt = 0; attempt < 200; attempt++) {
+                InventoryReservationEngine instance = attempt % 2 == 0 ? engine : other;
+                try {
+                    instance.reserve("u", "p1", 1);
+                    reserved.incrementAndGet();
+                } catch (InsufficientStockException | InventoryUnavailableException ignored) {
+                }
+            }
+        });
+
+        assertThat(reserved.get()).isEqualTo(stock);
+        assertThatThrownBy(() -> other.reserve("u", "p1", 1)).isInstanceOf(InventoryUnavailableException.class);
+    }
+
+    @Test
+    void maintainOwnership_whenLeaseMovesToAnotherInstance_successorTakesOverFromLog() {
+        mongoStock.set(10);
+        InventoryReservationEngine successor = newEngine("successor");
+        engine.maintainOwnership();
+        successor.maintainOwnership();
+        engine.reserve("u1", "p1", 4);
+        engine.confirm("u2", engine.reserve("u2", "p1", 3).id());
+
+        now.updateAndGet(instant -> instant.plus(LEASE_TIME_TO_LIVE));
+        successor.maintainOwnership();
+        engine.maintainOwnership();
+
+        assertThatThrownBy(() -> engine.reserve("u3", "p1", 1)).isInstanceOf(InventoryUnavailableException.class);
+        assertThat(successor.available("p1")).isEqualTo(3);
+
+        successor.expireHolds();
+        successor.flush();
+        engine.flush();
+
+        assertThat(mongoStock.get()).isEqualTo(7);
+        assertThat(successor.available("p1")).isEqualTo(7);
+    }
+
+    private InventoryReservationEngine newEngine(String owner) {
+        InventoryOwnerLease lease = mock(InventoryOwnerLease.class, withSettings().stubOnly());
+        when(lease.tryAcquire()).thenAnswer(invocation -> acquireLease(owner));
+        return new InventoryReservationEngine(productRepository, reservationLog, lease, publishedEvents::add, inventoryProperties,
+                transactionManager, clock);
+    }
+
+    // Mirrors the conditional upsert of InventoryOwnerLease.
+    private synchronized Optional<Instant> acquireLease(String owner) {
+        Instant current = now.get();
+        if (leaseOwner.get() != null && !leaseOwner.get().equals(owner) && leaseUntil.get().isAfter(current)) {
+            return Optional.empty();
+        }
+
+        leaseOwner.set(owner);
+        leaseUntil.set(current.plus(LEASE_TIME_TO_LIVE));
+        return Optional.of(leaseUntil.get());
+    }
+
+    private Object decrementStock(InvocationOnMock invocation) {
+        Map<String, Long> units = invocation.getArgument(0);
+        units.values().forEach(decrement -> {
+            flushedUnits.addAndGet(decrement);
+            mongoStock.addAndGet(-decrement);
+        });
+        return null;
+    }
+
+    private void runConcurrently(int threads, Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> results = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                task.run();
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<?> result : results) {
+            result.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,86 @@
+package com.vendo.product_service.inventory;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StripedStockCounterTest {
+
+    @Test
+    void tryTake_whenUnitsSpreadOverStripes_takesAcrossStripes() {
+        StripedStockCounter counter = new StripedStockCounter(4, 10);
+
+        assertThat(counter.tryTake(7)).isTrue();
+        assertThat(counter.available()).isEqualTo(3);
+    }
+
+    @Test
+    void tryTake_whenInsufficient_leavesUnitsUntouched() {
+        StripedStockCounter counter = new StripedStockCounter(4, 5);
+
+        assertThat(counter.tryTake(6)).isFalse();
+        assertThat(counter.available()).isEqualTo(5);
+    }
+
+    @Test
+    void adjust_whenWithdrawingReservedUnits_recordsDebtUntilRepaid() {
+        StripedStockCounter counter = new StripedStockCounter(4, 3);
+
+        counter.adjust(-5);
+
+        assertThat(counter.available()).isEqualTo(-2);
+        assertThat(counter.tryTake(1)).isFalse();
+
+        counter.put(3);
+
+        assertThat(counter.available()).isEqualTo(1);
+        assertThat(counter.tryTake(1)).isTrue();
+    }
+
+    @Test
+    void tryTake_whenContended_neverHandsOutMoreThanAvailable() throws Exception {
+        int stock = 10_000;
+        int threads = 16;
+        StripedStockCounter counter = new StripedStockCounter(8, stock);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int thread = 0; thread < threads; thread++) {
+            int units = thread % 3 + 1;
+            results.add(executor.submit(() -> {
+                start.await();
+                int taken = 0;
+                for (int attempt = 0; attempt < stock; attempt++) {
+                    if (counter.tryTake(units)) {
+                        taken += units;
+                    }
+                    // Returned units keep stripes refilling while others drain them.
+                    if (attempt % 10 == 0 && taken > 0) {
+                        counter.put(1);
+                        taken--;
+                    }
+                }
+                return taken;
+            }));
+        }
+        start.countDown();
+
+        int taken = 0;
+        for (Future<Integer> result : results) {
+            taken += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(taken).isLessThanOrEqualTo(stock);
+        assertThat(taken + counter.available()).isEqualTo(stock);
+    }
+}
@@ -0,0 +1,105 @@
+package com.vendo.product_service.readiness;
+
+import com.vendo.product_service.readiness.config.ReadinessProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupGateTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final List<Object> publishedEvents = new ArrayList<>();
+
+    private final AtomicBoolean mongoReady = new AtomicBoolean();
+
+    private final AtomicInteger kafkaCalls = new AtomicInteger();
+
+    private ReadinessProperties readinessProperties;
+
+    private List<StartupCheck> startupChecks;
+
+    @BeforeEach
+    void setUp() {
+        readinessProperties = new ReadinessProperties();
+        startupChecks = List.of(check("mongo", mongoReady::get), check("kafka", () -> {
+            kafkaCalls.incrementAndGet();
+            return true;
+        }));
+    }
+
+    @Test
+    void evaluate_whenCheckPending_staysClosedAndReportsIt() {
+        StartupGate startupGate = new StartupGate(startupChecks, readinessProperties, publishedEvents::add, nanos::get);
+
+        startupGate.evaluate();
+
+        assertThat(startupGate.isOpen()).isFalse();
+        assertThat(startupGate.health().getStatus()).isEqualTo(Status.OUT_OF_SERVICE);
+        assertThat(startupGate.health().getDetails()).containsEntry("pending", List.of("mongo"));
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    @Test
+    void evaluate_whenAllChecksPass_opensOnceAndStopsChecking() {
+        StartupGate startupGate = new StartupGate(startupChecks, readinessProperties, publishedEvents::add, nanos::get);
+        startupGate.evaluate();
+
+        mongoReady.set(true);
+        nanos.addAndGet(Duration.ofSeconds(3).toNanos());
+        startupGate.evaluate();
+        startupGate.evaluate();
+
+        assertThat(startupGate.isOpen()).isTrue();
+        assertThat(startupGate.health().getStatus()).isEqualTo(Status.UP);
+        assertThat(publishedEvents).containsExactly(new StartupGateOpenedEvent(3_000));
+        assertThat(kafkaCalls).hasValue(1);
+    }
+
+    @Test
+    void evaluate_whenCheckThrows_treatsItAsPending() {
+        StartupGate startupGate = new StartupGate(List.of(check("mongo", () -> {
+            throw new IllegalStateException("No server");
+        })), readinessProperties, publishedEvents::add, nanos::get);
+
+        startupGate.evaluate();
+
+        assertThat(startupGate.isOpen()).isFalse();
+    }
+
+    @Test
+    void constructor_whenDisabled_startsOpenWithoutChecks() {
+        readinessProperties.setEnabled(false);
+
+        StartupGate startupGate = new StartupGate(startupChecks, readinessProperties, publishedEvents::add, nanos::get);
+        startupGate.evaluate();
+
+        assertThat(startupGate.isOpen()).isTrue();
+        assertThat(kafkaCalls).hasValue(0);
+        assertThat(publishedEvents).isEmpty();
+    }
+
+    private StartupCheck check(String name, BooleanSupplier ready) {
+        return new StartupCheck() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public boolean isReady() {
+                return ready.getAsBoolean();
+            }
+        };
+    }
+}
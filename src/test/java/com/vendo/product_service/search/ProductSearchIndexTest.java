@@ -0,0 +1,140 @@
+package com.vendo.product_service.search;
+
+import com.vendo.product_service.common.dto.FacetCount;
+import com.vendo.product_service.common.dto.PriceBucketCount;
+import com.vendo.product_service.common.dto.ProductSearchHit;
+import com.vendo.product_service.common.dto.ProductSearchResponse;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.search.config.SearchProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ProductSearchIndexTest {
+
+    @TempDir
+    private Path indexDirectory;
+
+    private SearchProperties searchProperties;
+
+    private ProductSearchIndex productSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        searchProperties = new SearchProperties();
+        searchProperties.setIndexDirectory(indexDirectory);
+        searchProperties.setPriceBuckets(List.of(BigDecimal.ZERO, BigDecimal.valueOf(50), BigDecimal.valueOf(100)));
+
+        productSearchIndex = new ProductSearchIndex(searchProperties);
+        productSearchIndex.rebuildCompleted();
+        productSearchIndex.upsert(List.of(
+                product("p1", "Wireless headphones", "Sony", "audio", "79.99"),
+                product("p2", "Wired headphones", "Sennheiser", "audio", "29.99"),
+                product("p3", "Bluetooth speaker with deep bass", "Sony", "speakers", "149.00")));
+        productSearchIndex.refresh();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        productSearchIndex.close();
+    }
+
+    @Test
+    void search_whenTextMatchesTitle_ranksTitleMatchesFirst() {
+        productSearchIndex.upsert(List.of(product("p4", "Cable", "Generic", "audio", "5.00", "Works with wireless headphones")));
+        productSearchIndex.refresh();
+
+        ProductSearchResponse response = productSearchIndex.search(query("wireless headphones", null, null));
+
+        assertThat(response.getHits()).extracting(ProductSearchHit::getId).startsWith("p1");
+        assertThat(response.getHits()).extracting(ProductSearchHit::getId).contains("p4");
+    }
+
+    @Test
+    void search_whenFiltered_countsFacetsForMatchingProductsOnly() {
+        ProductSearchResponse response = productSearchIndex.search(query(null, null, "Sony"));
+
+        assertThat(response.getTotal()).isEqualTo(2);
+        assertThat(response.getFacets().getCategories()).extracting(FacetCount::getValue, FacetCount::getCount)
+                .containsExactlyInAnyOrder(tuple("audio", 1L), tuple("speakers", 1L));
+        assertThat(response.getFacets().getPrices()).extracting(PriceBucketCount::getCount).containsExactly(0L, 1L, 1L);
+    }
+
+    @Test
+    void search_whenPriceRangeGiven_returnsProductsInRange() {
+        ProductSearchResponse response = productSearchIndex.search(
+                new ProductSearchQuery("headphones", "audio", null, BigDecimal.valueOf(50), BigDecimal.valueOf(100), 0, 10));
+
+        assertThat(response.getHits()).extracting(ProductSearchHit::getId).containsExactly("p1");
+        assertThat(response.getHits().get(0).getPrice()).isEqualByComparingTo("79.99");
+    }
+
+    @Test
+    void upsert_whenProductNoLongerActive_removesItFromResults() {
+        Product archived = product("p1", "Wireless headphones", "Sony", "audio", "79.99");
+        archived.setStatus(ProductStatus.ARCHIVED);
+
+        productSearchIndex.upsert(List.of(archived));
+        productSearchIndex.delete(List.of("p2"));
+        productSearchIndex.refresh();
+
+        assertThat(productSearchIndex.search(query("headphones", null, null)).getTotal()).isZero();
+    }
+
+    @Test
+    void reopen_whenSnapshotFresh_restoresDocumentsAndOffsets() throws IOException {
+        productSearchIndex.recordOffset(0, 41);
+        productSearchIndex.recordOffset(0, 42);
+        productSearchIndex.close();
+
+        productSearchIndex = new ProductSearchIndex(searchProperties);
+
+        assertThat(productSearchIndex.isRebuildRequired()).isFalse();
+        assertThat(productSearchIndex.restoredOffsets()).isEqualTo(Map.of(0, 42L));
+        assertThat(productSearchIndex.search(query(null, null, null)).getTotal()).isEqualTo(3);
+    }
+
+    @Test
+    void reopen_whenSnapshotStale_requiresRebuild() throws IOException {
+        productSearchIndex.close();
+        searchProperties.setMaxSnapshotAge(Duration.ZERO);
+
+        productSearchIndex = new ProductSearchIndex(searchProperties);
+
+        assertThat(productSearchIndex.isRebuildRequired()).isTrue();
+        assertThat(productSearchIndex.search(query(null, null, null)).getTotal()).isZero();
+    }
+
+    private ProductSearchQuery query(String text, String category, String brand) {
+        return new ProductSearchQuery(text, category, brand, null, null, 0, 10);
+    }
+
+    private Product product(String id, String title, String brand, String category, String price) {
+        return product(id, title, brand, category, price, null);
+    }
+
+    private Product product(String id, String title, String brand, String category, String price, String description) {
+        return Product.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .brand(brand)
+                .categories(List.of(category))
+                .price(new BigDecimal(price))
+                .currency("USD")
+                .status(ProductStatus.ACTIVE)
+                .build();
+    }
+}
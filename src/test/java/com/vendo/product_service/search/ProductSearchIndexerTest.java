@@ -0,0 +1,91 @@
+package com.vendo.product_service.search;
+
+import com.vendo.product_service.common.type.ProductChangeType;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ProductRepository;
+import com.vendo.product_service.search.config.SearchProperties;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexerTest {
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductSearchIndexer productSearchIndexer;
+
+    @BeforeEach
+    void setUp() {
+        productSearchIndexer = new ProductSearchIndexer(productSearchIndex, productRepository, new SearchProperties());
+        when(productSearchIndex.isRebuildRequired()).thenReturn(true);
+    }
+
+    @Test
+    void rebuildIfRequired_whenProductChangesDuringScan_reindexesItAfterScan() {
+        Product scanned = product("p1", ProductStatus.ACTIVE, 1L);
+        Product archived = product("p1", ProductStatus.ARCHIVED, 2L);
+        when(productRepository.findAllById(Set.of("p1"))).thenReturn(List.of(archived));
+        when(productRepository.streamActive(any(), anyInt())).thenAnswer(invocation -> {
+            productSearchIndexer.onChanges(List.of(record("p1")));
+            return Stream.of(scanned);
+        });
+
+        // The scan reuses its batch list, so upserts are copied as they happen.
+        List<Product> upserted = new ArrayList<>();
+        doAnswer(invocation -> upserted.addAll(invocation.getArgument(0))).when(productSearchIndex).upsert(any());
+
+        productSearchIndexer.rebuildIfRequired();
+
+        assertThat(upserted).containsExactly(archived, scanned, archived);
+        verify(productSearchIndex).rebuildCompleted();
+    }
+
+    @Test
+    void rebuildIfRequired_whenScanFails_retriesUntilItSucceeds() {
+        when(productRepository.streamActive(any(), anyInt()))
+                .thenThrow(new DataAccessResourceFailureException("down"))
+                .thenReturn(Stream.of(product("p1", ProductStatus.ACTIVE, 1L)));
+
+        productSearchIndexer.rebuildIfRequired();
+
+        verify(productSearchIndex, never()).rebuildCompleted();
+
+        productSearchIndexer.retryRebuild();
+
+        verify(productSearchIndex).rebuildCompleted();
+    }
+
+    private ConsumerRecord<String, ProductChangedEvent> record(String productId) {
+        return new ConsumerRecord<>("product-events", 0, 0L, productId,
+                new ProductChangedEvent(ProductChangeType.UPDATED, productId, "s1", Set.of(), 2L, Instant.now()));
+    }
+
+    private Product product(String id, ProductStatus status, Long version) {
+        return Product.builder().id(id).status(status).version(version).build();
+    }
+}
@@ -3,6 +3,7 @@ package com.vendo.product_service.security.common;
 import com.vendo.domain.user.common.type.UserStatus;
 import com.vendo.product_service.common.builder.JwtPayloadBuilder;
 import com.vendo.product_service.common.dto.JwtPayload;
+import com.vendo.product_service.security.common.config.JwtProperties;
 import com.vendo.product_service.security.common.helper.JwtHelper;
 import com.vendo.product_service.service.JwtService;
 import com.vendo.security.common.exception.InvalidTokenException;
@@ -11,7 +12,10 @@ import io.jsonwebtoken.security.SignatureException;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.context.scope.refresh.RefreshScopeRefreshedEvent;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
@@ -41,6 +45,15 @@ class JwtHelperTest {
     @Autowired
     private JwtPayloadBuilder jwtPayloadBuilder;
 
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Value("${security.jwt.bad-secret-key}")
+    private String badSecretKey;
+
     @Nested
     class ExtractAllClaimsTests {
 
@@ -303,4 +316,42 @@ class JwtHelperTest {
                     .isInstanceOf(InvalidTokenException.class);
         }
     }
+
+    @Nested
+    class RefreshSigningKeyTests {
+
+        @Test
+        void getSignInKey_whenSecretUnchanged_returnsSameKey() {
+            assertThat(jwtHelper.getSignInKey()).isSameAs(jwtHelper.getSignInKey());
+
+            eventPublisher.publishEvent(new RefreshScopeRefreshedEvent());
+
+            assertThat(jwtHelper.getSignInKey()).isSameAs(jwtHelper.getSignInKey());
+        }
+
+        @Test
+        void refreshSigningKey_whenSecretChanged_verifiesWithNewSecret() {
+            String secretKey = jwtProperties.getSecretKey();
+            JwtPayload oldKeyPayload = jwtPayloadBuilder.buildValidUserJwtPayload().build();
+            String oldKeyToken = jwtService.generateAccessToken(oldKeyPayload);
+            JwtPayload newKeyPayload = jwtPayloadBuilder.buildValidUserJwtPayload()
+                    .key(jwtService.getBadSecretKey())
+                    .build();
+            String newKeyToken = jwtService.generateAccessToken(newKeyPayload);
+
+            try {
+                jwtProperties.setSecretKey(badSecretKey);
+                eventPublisher.publishEvent(new RefreshScopeRefreshedEvent());
+
+                assertThat(jwtHelper.extractAllClaims(newKeyToken).getSubject()).isEqualTo(JWT_USER_SUBJECT);
+                assertThatThrownBy(() -> jwtHelper.extractAllClaims(oldKeyToken))
+                        .isInstanceOf(SignatureException.class);
+            } finally {
+                jwtProperties.setSecretKey(secretKey);
+                eventPublisher.publishEvent(new RefreshScopeRefreshedEvent());
+            }
+
+            assertThat(jwtHelper.extractAllClaims(oldKeyToken).getSubject()).isEqualTo(JWT_USER_SUBJECT);
+        }
+    }
 }
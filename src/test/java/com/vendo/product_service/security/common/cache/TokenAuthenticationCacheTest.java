@@ -0,0 +1,114 @@
+package com.vendo.product_service.security.common.cache;
+
+import com.vendo.product_service.security.common.config.JwtProperties;
+import com.vendo.security.common.exception.InvalidTokenException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static com.vendo.product_service.service.JwtService.ROLE_USER;
+import static com.vendo.product_service.security.common.cache.TokenAuthenticationCache.CACHE_NAME;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenAuthenticationCacheTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private JwtProperties jwtProperties;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtProperties = new JwtProperties();
+    }
+
+    @Test
+    void get_whenSameTokenRequestedTwice_authenticatesOnce() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(jwtProperties, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        UsernamePasswordAuthenticationToken first = cache.get(TOKEN, countingAuthenticator(calls, futureDate()));
+        UsernamePasswordAuthenticationToken second = cache.get(TOKEN, countingAuthenticator(calls, futureDate()));
+
+        assertThat(calls).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", "hit").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", CACHE_NAME).tag("result", "miss").functionCounter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void get_whenTokenAlreadyExpired_authenticatesEveryTime() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(jwtProperties, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+        Date pastDate = new Date(System.currentTimeMillis() - 1_000);
+
+        cache.get(TOKEN, countingAuthenticator(calls, pastDate));
+        cache.get(TOKEN, countingAuthenticator(calls, pastDate));
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void get_whenAuthenticatorThrows_doesNotCacheFailure() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(jwtProperties, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        assertThatThrownBy(() -> cache.get(TOKEN, token -> {
+            throw new InvalidTokenException("Invalid token.");
+        })).isInstanceOf(InvalidTokenException.class);
+        cache.get(TOKEN, countingAuthenticator(calls, futureDate()));
+
+        assertThat(calls).hasValue(1);
+        assertThat(cache.estimatedSize()).isEqualTo(1);
+    }
+
+    @Test
+    void get_whenCacheDisabled_authenticatesEveryTime() {
+        jwtProperties.getCache().setEnabled(false);
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(jwtProperties, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(TOKEN, countingAuthenticator(calls, futureDate()));
+        cache.get(TOKEN, countingAuthenticator(calls, futureDate()));
+
+        assertThat(calls).hasValue(2);
+        assertThat(cache.estimatedSize()).isZero();
+    }
+
+    @Test
+    void invalidateAll_whenEntriesCached_forcesReauthentication() {
+        TokenAuthenticationCache cache = new TokenAuthenticationCache(jwtProperties, meterRegistry);
+        AtomicInteger calls = new AtomicInteger();
+
+        cache.get(TOKEN, countingAuthenticator(calls, futureDate()));
+        cache.invalidateAll();
+        cache.get(TOKEN, countingAuthenticator(calls, futureDate()));
+
+        assertThat(calls).hasValue(2);
+    }
+
+    private Function<String, CachedAuthentication> countingAuthenticator(AtomicInteger calls, Date expiration) {
+        return token -> {
+            calls.incrementAndGet();
+            UsernamePasswordAuthenticationToken authentication =
+                    new UsernamePasswordAuthenticationToken("subject", null, List.of(new SimpleGrantedAuthority(ROLE_USER)));
+            return new CachedAuthentication(authentication, expiration);
+        };
+    }
+
+    private Date futureDate() {
+        return new Date(System.currentTimeMillis() + 60_000);
+    }
+}
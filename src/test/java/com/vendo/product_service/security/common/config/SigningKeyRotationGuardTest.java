@@ -0,0 +1,34 @@
+package com.vendo.product_service.security.common.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SigningKeyRotationGuardTest {
+
+    @Test
+    void constructor_whenJwksDisabled_allowsStartup() {
+        assertThatCode(() -> new SigningKeyRotationGuard(new JwtProperties())).doesNotThrowAnyException();
+    }
+
+    @Test
+    void constructor_whenJwksDisabledAndRotationRequired_failsStartup() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setRequireKeyRotation(true);
+
+        assertThatThrownBy(() -> new SigningKeyRotationGuard(jwtProperties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("security.jwt.jwks.enabled");
+    }
+
+    @Test
+    void constructor_whenJwksConfiguredAndRotationRequired_allowsStartup() {
+        JwtProperties jwtProperties = new JwtProperties();
+        jwtProperties.setRequireKeyRotation(true);
+        jwtProperties.getJwks().setEnabled(true);
+        jwtProperties.getJwks().setLocation("http://auth-service/.well-known/jwks.json");
+
+        assertThatCode(() -> new SigningKeyRotationGuard(jwtProperties)).doesNotThrowAnyException();
+    }
+}
@@ -0,0 +1,215 @@
+package com.vendo.product_service.security.common.jwks;
+
+import com.vendo.product_service.security.common.config.JwtProperties;
+import com.vendo.product_service.security.common.event.SigningKeyRotatedEvent;
+import com.vendo.product_service.security.common.helper.JwtHelper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.security.Jwks;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwksKeyStoreTest {
+
+    private static final String SECRET_KEY = "secretKeysecretKeysecretKeysecretKeysecretKey";
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private final KeyPair rsaKeyPair = Jwts.SIG.RS256.keyPair().build();
+
+    private final KeyPair ecKeyPair = Jwts.SIG.ES256.keyPair().build();
+
+    private final List<Object> publishedEvents = new ArrayList<>();
+
+    @TempDir
+    private Path directory;
+
+    private Path jwksFile;
+
+    private JwtProperties jwtProperties;
+
+    private Instant now;
+
+    @BeforeEach
+    void setUp() {
+        jwksFile = directory.resolve("jwks.json");
+        now = NOW;
+
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecretKey(SECRET_KEY);
+        jwtProperties.getJwks().setEnabled(true);
+        jwtProperties.getJwks().setLocation(jwksFile.toUri().toString());
+        jwtProperties.getJwks().setGracePeriod(Duration.ofMinutes(15));
+    }
+
+    @Test
+    void extractAllClaims_whenSignedWithPublishedKeys_verifiesByKid() throws IOException {
+        writeJwks(rsaJwk("rsa-1"), ecJwk("ec-1"));
+        JwtHelper jwtHelper = jwtHelper(keyStore());
+
+        assertThat(jwtHelper.extractAllClaims(token("rsa-1", rsaKeyPair)).getSubject()).isEqualTo("user");
+        assertThat(jwtHelper.extractAllClaims(token("ec-1", ecKeyPair)).getSubject()).isEqualTo("user");
+        assertThat(jwtHelper.extractAllClaims(hmacToken(jwtHelper)).getSubject()).isEqualTo("user");
+    }
+
+    @Test
+    void constructor_whenCreated_leavesFirstLoadToTheScheduler() throws IOException {
+        writeJwks(rsaJwk("rsa-1"));
+        List<Runnable> scheduled = new ArrayList<>();
+
+        JwksKeyStore keyStore = new JwksKeyStore(jwtProperties, new DefaultResourceLoader(), publishedEvents::add,
+                scheduled::add, Clock.systemUTC());
+
+        assertThat(keyStore.keyIds()).isEmpty();
+        assertThat(keyStore.isReady()).isFalse();
+
+        scheduled.forEach(Runnable::run);
+
+        assertThat(keyStore.keyIds()).containsExactly("rsa-1");
+        assertThat(keyStore.isReady()).isTrue();
+    }
+
+    @Test
+    void isReady_whenFirstLoadFails_opensAfterTheAttempt() {
+        JwksKeyStore keyStore = keyStore();
+
+        assertThat(keyStore.keyIds()).isEmpty();
+        assertThat(keyStore.isReady()).isTrue();
+    }
+
+    @Test
+    void extractAllClaims_whenKidUnknown_rejectsAndRefreshesInBackground() throws IOException {
+        writeJwks(rsaJwk("rsa-1"));
+        JwksKeyStore keyStore = keyStore();
+        JwtHelper jwtHelper = jwtHelper(keyStore);
+        writeJwks(rsaJwk("rsa-1"), ecJwk("ec-1"));
+
+        assertThatThrownBy(() -> jwtHelper.extractAllClaims(token("ec-1", ecKeyPair)))
+                .isInstanceOf(UnsupportedJwtException.class);
+        assertThat(keyStore.keyIds()).containsExactlyInAnyOrder("rsa-1", "ec-1");
+        assertThat(jwtHelper.extractAllClaims(token("ec-1", ecKeyPair)).getSubject()).isEqualTo("user");
+    }
+
+    @Test
+    void extractAllClaims_whenAlgorithmDoesNotMatchKey_rejects() throws IOException {
+        writeJwks(rsaJwk("rsa-1"));
+        JwtHelper jwtHelper = jwtHelper(keyStore());
+
+        String hmacWithKid = Jwts.builder()
+                .header().keyId("rsa-1").and()
+                .subject("user")
+                .signWith(jwtHelper.getSignInKey())
+                .compact();
+
+        assertThatThrownBy(() -> jwtHelper.extractAllClaims(hmacWithKid))
+                .isInstanceOf(UnsupportedJwtException.class);
+    }
+
+    @Test
+    void refresh_whenKeyRemoved_keepsItForGracePeriod() throws IOException {
+        writeJwks(rsaJwk("rsa-1"));
+        JwksKeyStore keyStore = keyStore();
+        JwtHelper jwtHelper = jwtHelper(keyStore);
+        String token = token("rsa-1", rsaKeyPair);
+
+        writeJwks(ecJwk("ec-1"));
+        keyStore.refresh();
+        now = now.plus(Duration.ofMinutes(10));
+        keyStore.refresh();
+
+        assertThat(jwtHelper.extractAllClaims(token).getSubject()).isEqualTo("user");
+        assertThat(publishedEvents).isEmpty();
+
+        now = now.plus(Duration.ofMinutes(10));
+        keyStore.refresh();
+
+        assertThat(keyStore.keyIds()).containsExactly("ec-1");
+        assertThatThrownBy(() -> jwtHelper.extractAllClaims(token)).isInstanceOf(UnsupportedJwtException.class);
+        assertThat(publishedEvents).containsExactly(new SigningKeyRotatedEvent());
+    }
+
+    @Test
+    void refresh_whenDocumentUnavailable_keepsKnownKeys() throws IOException {
+        writeJwks(rsaJwk("rsa-1"));
+        JwksKeyStore keyStore = keyStore();
+
+        Files.delete(jwksFile);
+        now = now.plus(Duration.ofHours(1));
+        keyStore.refresh();
+
+        assertThat(keyStore.keyIds()).containsExactly("rsa-1");
+    }
+
+    private JwksKeyStore keyStore() {
+        Clock clock = new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return now;
+            }
+        };
+
+        return new JwksKeyStore(jwtProperties, new DefaultResourceLoader(), publishedEvents::add, Runnable::run, clock);
+    }
+
+    private JwtHelper jwtHelper(JwksKeyStore keyStore) {
+        return new JwtHelper(jwtProperties, event -> {}, keyStore);
+    }
+
+    private String rsaJwk(String keyId) {
+        return Jwks.json(Jwks.builder().key((RSAPublicKey) rsaKeyPair.getPublic()).id(keyId).publicKeyUse("sig").build());
+    }
+
+    private String ecJwk(String keyId) {
+        return Jwks.json(Jwks.builder().key((ECPublicKey) ecKeyPair.getPublic()).id(keyId).algorithm("ES256").build());
+    }
+
+    private void writeJwks(String... jwks) throws IOException {
+        Files.writeString(jwksFile, Arrays.stream(jwks).collect(Collectors.joining(",", "{\"keys\":[", "]}")));
+    }
+
+    private String token(String keyId, KeyPair keyPair) {
+        return Jwts.builder()
+                .header().keyId(keyId).and()
+                .subject("user")
+                .signWith(keyPair.getPrivate())
+                .compact();
+    }
+
+    private String hmacToken(JwtHelper jwtHelper) {
+        return Jwts.builder()
+                .subject("user")
+                .signWith(jwtHelper.getSignInKey())
+                .compact();
+    }
+}
@@ -0,0 +1,39 @@
+package com.vendo.product_service.security.common.ratelimit;
+
+import com.vendo.product_service.security.common.config.RateLimitProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientAddressResolverTest {
+
+    private final ClientAddressResolver clientAddressResolver = new ClientAddressResolver(new RateLimitProperties());
+
+    @Test
+    void resolve_whenPeerTrusted_returnsRightmostUntrustedHop() {
+        assertThat(clientAddressResolver.resolve("10.0.0.1", List.of("198.51.100.1, 203.0.113.7", "10.1.2.3")))
+                .isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void resolve_whenPeerUntrusted_ignoresForwardedHeader() {
+        assertThat(clientAddressResolver.resolve("203.0.113.7", List.of("198.51.100.1"))).isEqualTo("203.0.113.7");
+    }
+
+    @Test
+    void resolve_whenAllHopsTrusted_returnsLeftmostHop() {
+        assertThat(clientAddressResolver.resolve("127.0.0.1", List.of("192.168.1.5, 10.0.0.2"))).isEqualTo("192.168.1.5");
+    }
+
+    @Test
+    void resolve_whenHopIsNotAnAddress_stopsAtLastTrustedHop() {
+        assertThat(clientAddressResolver.resolve("10.0.0.1", List.of("evil.example, 10.0.0.2"))).isEqualTo("10.0.0.2");
+    }
+
+    @Test
+    void resolve_whenHeaderMissing_returnsPeer() {
+        assertThat(clientAddressResolver.resolve("10.0.0.1", null)).isEqualTo("10.0.0.1");
+    }
+}
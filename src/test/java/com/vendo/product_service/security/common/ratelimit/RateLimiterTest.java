@@ -0,0 +1,73 @@
+package com.vendo.product_service.security.common.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Ticker;
+import com.vendo.product_service.security.common.config.RateLimitProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final String ADDRESS = "10.0.0.1";
+
+    private final AtomicLong nanos = new AtomicLong();
+
+    private final Ticker ticker = nanos::get;
+
+    private RateLimitProperties rateLimitProperties;
+
+    @BeforeEach
+    void setUp() {
+        rateLimitProperties = new RateLimitProperties();
+        rateLimitProperties.setAnonymous(new RateLimitProperties.Limit(2, 1));
+        rateLimitProperties.setAuthenticated(new RateLimitProperties.Limit(1, 1));
+        rateLimitProperties.setRoles(Map.of("ROLE_SELLER", new RateLimitProperties.Limit(3, 10)));
+    }
+
+    @Test
+    void tryAcquire_whenBurstExhausted_returnsTimeUntilNextToken() {
+        RateLimiter rateLimiter = new RateLimiter(rateLimitProperties, ticker);
+
+        assertThat(rateLimiter.tryAcquire(null, ADDRESS)).isZero();
+        assertThat(rateLimiter.tryAcquire(null, ADDRESS)).isZero();
+        assertThat(rateLimiter.tryAcquire(null, ADDRESS)).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.2")).isZero();
+    }
+
+    @Test
+    void tryAcquire_whenTimePassed_refillsTokens() {
+        RateLimiter rateLimiter = new RateLimiter(rateLimitProperties, ticker);
+        rateLimiter.tryAcquire(null, ADDRESS);
+        rateLimiter.tryAcquire(null, ADDRESS);
+
+        nanos.addAndGet(Duration.ofMillis(1_000).toNanos());
+
+        assertThat(rateLimiter.tryAcquire(null, ADDRESS)).isZero();
+        assertThat(rateLimiter.tryAcquire(null, ADDRESS)).isPositive();
+    }
+
+    @Test
+    void tryAcquire_whenSubjectHasConfiguredRole_usesRoleLimit() {
+        RateLimiter rateLimiter = new RateLimiter(rateLimitProperties, ticker);
+        UsernamePasswordAuthenticationToken seller = new UsernamePasswordAuthenticationToken("seller", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_SELLER")));
+        UsernamePasswordAuthenticationToken user = new UsernamePasswordAuthenticationToken("user", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(rateLimiter.tryAcquire(seller, ADDRESS)).isZero();
+        }
+        assertThat(rateLimiter.tryAcquire(seller, ADDRESS)).isPositive();
+        assertThat(rateLimiter.tryAcquire(user, ADDRESS)).isZero();
+        assertThat(rateLimiter.tryAcquire(user, ADDRESS)).isPositive();
+    }
+}
@@ -0,0 +1,69 @@
+package com.vendo.product_service.security.filter;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompiledPathMatcherTest {
+
+    private static final List<String> PATTERNS = List.of(
+            "/swagger-ui/**",
+            "/v3/api-docs/**",
+            "/products",
+            "/products/*",
+            "/products/{id}/reviews",
+            "/categories/{id:[a-z]+}",
+            "/files/*.json",
+            "/search/**/facets",
+            "/static/?.css"
+    );
+
+    private static final List<String> PATHS = List.of(
+            "/", "", "/swagger-ui", "/swagger-ui/", "/swagger-ui/index.html", "/swagger-uix/index.html",
+            "/v3/api-docs", "/v3/api-docs/swagger-config", "/v3", "/products", "/products/", "/products/42",
+            "/products/42/", "/products/42/reviews", "/products/42/reviews/1", "/products//42", "/Products/42",
+            "/categories/shoes", "/categories/42", "/files/feed.json", "/files/feed.xml", "/search/a/b/facets",
+            "/search/facets", "/static/a.css", "/static/ab.css", "/test/ping"
+    );
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+    @Test
+    void matches_whenComparedWithAntPathMatcher_returnsSameResult() {
+        CompiledPathMatcher matcher = CompiledPathMatcher.compile(PATTERNS.toArray(String[]::new));
+
+        for (String path : PATHS) {
+            boolean expected = PATTERNS.stream().anyMatch(pattern -> antPathMatcher.match(pattern, path));
+
+            assertThat(matcher.matches(path)).as(path).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void matches_whenSinglePatternCompiled_returnsSameResultAsAntPathMatcher() {
+        for (String pattern : PATTERNS) {
+            CompiledPathMatcher matcher = CompiledPathMatcher.compile(pattern);
+
+            for (String path : PATHS) {
+                assertThat(matcher.matches(path)).as(pattern + " -> " + path).isEqualTo(antPathMatcher.match(pattern, path));
+            }
+        }
+    }
+
+    @Test
+    void matches_whenPathNull_returnsFalse() {
+        CompiledPathMatcher matcher = CompiledPathMatcher.compile(PATTERNS.toArray(String[]::new));
+
+        assertThat(matcher.matches(null)).isFalse();
+    }
+
+    @Test
+    void matches_whenNoPatterns_returnsFalse() {
+        CompiledPathMatcher matcher = CompiledPathMatcher.compile();
+
+        assertThat(matcher.matches("/swagger-ui/index.html")).isFalse();
+    }
+}
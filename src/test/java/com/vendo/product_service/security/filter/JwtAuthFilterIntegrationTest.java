@@ -5,7 +5,11 @@ import com.vendo.common.exception.ExceptionResponse;
 import com.vendo.domain.user.common.type.UserStatus;
 import com.vendo.product_service.common.builder.JwtPayloadBuilder;
 import com.vendo.product_service.common.dto.JwtPayload;
+import com.vendo.product_service.security.common.metrics.AuthObservations;
+import com.vendo.product_service.security.common.metrics.AuthPhase;
 import com.vendo.product_service.service.JwtService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -13,6 +17,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -50,6 +55,9 @@ public class JwtAuthFilterIntegrationTest {
     @Autowired
     private JwtPayloadBuilder jwtPayloadBuilder;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
         SecurityContextHolder.clearContext();
@@ -77,6 +85,29 @@ public class JwtAuthFilterIntegrationTest {
         assertThat(responseContent).isEqualTo("pong");
     }
 
+    @Test
+    void doFilterInternal_shouldPassAuthorization_whenSameTokenReused() throws Exception {
+        JwtPayload jwtPayload = jwtPayloadBuilder.buildValidUserJwtPayload().build();
+        String token = jwtService.generateAccessToken(jwtPayload);
+
+        for (int i = 0; i < 2; i++) {
+            MockHttpServletResponse response = mockMvc.perform(get("/test/ping").header(AUTHORIZATION_HEADER, BEARER_PREFIX + token))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse();
+
+            assertThat(response.getContentAsString()).isEqualTo("pong");
+        }
+    }
+
+    @Test
+    void doFilterInternal_shouldSkipAuthorization_whenPathPermittedByProperties() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/test/public/ping"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+
+        assertThat(response.getContentAsString()).isEqualTo("pong");
+    }
+
     @Test
     void doFilterInternal_shouldReturnUnauthorized_whenNoTokenInRequest() throws Exception {
         MockHttpServletResponse response = mockMvc.perform(get("/test/ping"))
@@ -154,6 +185,57 @@ public class JwtAuthFilterIntegrationTest {
         assertThat(exceptionResponse.getPath()).isEqualTo("/test/ping");
     }
 
+    @Test
+    void doFilterInternal_shouldReturnExceptionResponseContract_whenTokenMalformed() throws Exception {
+        MockHttpServletResponse response = mockMvc.perform(get("/test/ping").header(AUTHORIZATION_HEADER, BEARER_PREFIX + "not.a-jwt"))
+                .andExpect(status().isUnauthorized())
+                .andReturn().getResponse();
+
+        ExceptionResponse expected = ExceptionResponse.builder()
+                .message("Invalid token.")
+                .code(HttpStatus.UNAUTHORIZED.value())
+                .path("/test/ping")
+                .build();
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(objectMapper.readTree(response.getContentAsString())).isEqualTo(objectMapper.valueToTree(expected));
+    }
+
+    @Test
+    void doFilterInternal_shouldCountRejection_whenTokenMalformed() throws Exception {
+        double rejectedBefore = rejections("invalid_token");
+
+        mockMvc.perform(get("/test/ping").header(AUTHORIZATION_HEADER, BEARER_PREFIX + "a.b.c.d"))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(rejections("invalid_token")).isEqualTo(rejectedBefore + 1);
+    }
+
+    @Test
+    void doFilterInternal_shouldCountRejectionByReason_whenTokenExpired() throws Exception {
+        JwtPayload jwtPayload = jwtPayloadBuilder.buildValidUserJwtPayload().expiration(0).build();
+        String expiredToken = jwtService.generateAccessToken(jwtPayload);
+        double rejectedBefore = rejections("expired_token");
+
+        mockMvc.perform(get("/test/ping").header(AUTHORIZATION_HEADER, BEARER_PREFIX + expiredToken))
+                .andExpect(status().isUnauthorized());
+
+        assertThat(rejections("expired_token")).isEqualTo(rejectedBefore + 1);
+    }
+
+    @Test
+    void doFilterInternal_shouldTimeAuthenticationPhases_whenTokenVerified() throws Exception {
+        String token = jwtService.generateAccessToken(jwtPayloadBuilder.buildValidUserJwtPayload().build());
+
+        mockMvc.perform(get("/test/ping").header(AUTHORIZATION_HEADER, BEARER_PREFIX + token))
+                .andExpect(status().isOk());
+
+        for (AuthPhase phase : AuthPhase.values()) {
+            Timer timer = meterRegistry.find(AuthObservations.PHASE_OBSERVATION).tag("phase", phase.getTag()).timer();
+            assertThat(timer).isNotNull();
+            assertThat(timer.count()).isPositive();
+        }
+    }
+
     @Test
     void doFilterInternal_shouldReturnForbidden_whenUserIsIncomplete() throws Exception {
         Map<String, Object> claims = Map.of(
@@ -293,4 +375,8 @@ public class JwtAuthFilterIntegrationTest {
         assertThat(exceptionResponse.getPath()).isEqualTo("/test/ping");
     }
 
+
+    private double rejections(String reason) {
+        return meterRegistry.get(AuthObservations.REJECTIONS_METER).tag("reason", reason).counter().count();
+    }
 }
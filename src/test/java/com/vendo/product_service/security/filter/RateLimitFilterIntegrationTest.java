@@ -0,0 +1,82 @@
+package com.vendo.product_service.security.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.common.exception.ExceptionResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.RequestPostProcessor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "security.rate-limit.anonymous.capacity=2",
+        "security.rate-limit.anonymous.refill-per-second=0.1"
+})
+@ActiveProfiles("test")
+@AutoConfigureMockMvc
+class RateLimitFilterIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void doFilterInternal_shouldReturnTooManyRequests_whenAnonymousClientExceedsLimit() throws Exception {
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.1"))).andExpect(status().isOk());
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.1"))).andExpect(status().isOk());
+
+        MockHttpServletResponse response = mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.1")))
+                .andExpect(status().isTooManyRequests())
+                .andReturn().getResponse();
+
+        ExceptionResponse exceptionResponse = objectMapper.readValue(response.getContentAsString(), ExceptionResponse.class);
+        assertThat(exceptionResponse.getMessage()).isEqualTo("Too many requests.");
+        assertThat(exceptionResponse.getCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(exceptionResponse.getPath()).isEqualTo("/test/public/ping");
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("10");
+    }
+
+    @Test
+    void doFilterInternal_shouldLimitClientsSeparately_whenAddressesDiffer() throws Exception {
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.2"))).andExpect(status().isOk());
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.2"))).andExpect(status().isOk());
+
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.3"))).andExpect(status().isOk());
+    }
+
+    @Test
+    void doFilterInternal_shouldLimitForwardedClientsSeparately_whenBehindTrustedProxy() throws Exception {
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.9")).header("X-Forwarded-For", "203.0.113.1")).andExpect(status().isOk());
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.9")).header("X-Forwarded-For", "203.0.113.1")).andExpect(status().isOk());
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.9")).header("X-Forwarded-For", "203.0.113.1")).andExpect(status().isTooManyRequests());
+
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("10.0.0.9")).header("X-Forwarded-For", "203.0.113.2")).andExpect(status().isOk());
+    }
+
+    @Test
+    void doFilterInternal_shouldIgnoreForwardedHeader_whenPeerUntrusted() throws Exception {
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("198.51.100.7")).header("X-Forwarded-For", "203.0.113.3")).andExpect(status().isOk());
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("198.51.100.7")).header("X-Forwarded-For", "203.0.113.4")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/test/public/ping").with(remoteAddress("198.51.100.7")).header("X-Forwarded-For", "203.0.113.5"))
+                .andExpect(status().isTooManyRequests());
+    }
+
+    private static RequestPostProcessor remoteAddress(String address) {
+        return request -> {
+            request.setRemoteAddr(address);
+            return request;
+        };
+    }
+}
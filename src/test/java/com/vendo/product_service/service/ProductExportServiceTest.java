@@ -0,0 +1,108 @@
+package com.vendo.product_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.vendo.product_service.common.exception.ExportRejectedException;
+import com.vendo.product_service.common.exception.InvalidCursorException;
+import com.vendo.product_service.common.exporting.ExportProperties;
+import com.vendo.product_service.common.mapper.ProductMapperImpl;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductExportServiceTest {
+
+    private static final int CURSOR_BATCH_SIZE = 500;
+
+    private static final String AFTER_ID = "652f1c9e8a4b2d0012345678";
+
+    @Mock
+    private ProductRepository productRepository;
+
+    private ProductExportService productExportService;
+
+    @BeforeEach
+    void setUp() {
+        ExportProperties exportProperties = new ExportProperties();
+        exportProperties.setCursorBatchSize(CURSOR_BATCH_SIZE);
+        exportProperties.setMaxConcurrentExports(1);
+
+        productExportService = new ProductExportService(productRepository, new ProductMapperImpl(), exportProperties,
+                new ObjectMapper().registerModule(new JavaTimeModule()));
+    }
+
+    @Test
+    void exportActive_whenProductsStreamed_writesOneJsonLinePerProductAndClosesCursor() throws IOException {
+        AtomicBoolean cursorClosed = new AtomicBoolean();
+        when(productRepository.streamActive(AFTER_ID, CURSOR_BATCH_SIZE))
+                .thenReturn(Stream.of(product("a"), product("b")).onClose(() -> cursorClosed.set(true)));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        productExportService.reserve(AFTER_ID);
+        productExportService.exportActive(AFTER_ID, false, outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"id\":\"a\"");
+        assertThat(lines[1]).contains("\"id\":\"b\"");
+        assertThat(cursorClosed).isTrue();
+    }
+
+    @Test
+    void exportActive_whenGzipRequested_writesCompressedNdjson() throws IOException {
+        when(productRepository.streamActive(null, CURSOR_BATCH_SIZE)).thenReturn(Stream.of(product("a")));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        productExportService.reserve(null);
+        productExportService.exportActive(null, true, outputStream);
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+            assertThat(new String(inputStream.readAllBytes(), StandardCharsets.UTF_8)).startsWith("{\"id\":\"a\"").endsWith("\n");
+        }
+    }
+
+    @Test
+    void reserve_whenAllSlotsTaken_throwsExportRejectedException() {
+        productExportService.reserve(null);
+
+        assertThatThrownBy(() -> productExportService.reserve(null))
+                .isInstanceOf(ExportRejectedException.class);
+    }
+
+    @Test
+    void release_whenExportCompleted_freesSlot() {
+        productExportService.reserve(null);
+        productExportService.release();
+
+        assertThatCode(() -> productExportService.reserve(null)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void reserve_whenResumeTokenMalformed_throwsInvalidCursorException() {
+        assertThatThrownBy(() -> productExportService.reserve("not-an-id"))
+                .isInstanceOf(InvalidCursorException.class);
+    }
+
+    private Product product(String id) {
+        return Product.builder().id(id).title("Headphones").status(ProductStatus.ACTIVE).build();
+    }
+}
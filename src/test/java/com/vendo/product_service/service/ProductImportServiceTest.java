@@ -0,0 +1,203 @@
+package com.vendo.product_service.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.product_service.common.importing.BulkUpsertResult;
+import com.vendo.product_service.common.importing.ImportProperties;
+import com.vendo.product_service.common.importing.ProductRowReaderFactory;
+import com.vendo.product_service.common.mapper.ImportJobMapperImpl;
+import com.vendo.product_service.common.mapper.ProductMapperImpl;
+import com.vendo.product_service.common.type.ImportFormat;
+import com.vendo.product_service.common.type.ImportJobStatus;
+import com.vendo.product_service.common.type.ProductChangeType;
+import com.vendo.product_service.event.ProductChangeBatchEvent;
+import com.vendo.product_service.model.ImportJob;
+import com.vendo.product_service.model.ImportRowError;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.repository.ImportJobRepository;
+import com.vendo.product_service.repository.ProductRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.mongodb.MongoTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductImportServiceTest {
+
+    private static final String SELLER_ID = "seller-1";
+
+    private static final String JOB_ID = "job-1";
+
+    private static final String VALID_ROW =
+            "{\"sku\":\"%s\",\"title\":\"Headphones\",\"brand\":\"Acme\",\"categories\":[\"electronics\"],\"price\":10.00,\"currency\":\"USD\",\"stock\":1}";
+
+    @Mock
+    private ImportJobRepository importJobRepository;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    private MongoTransactionManager transactionManager;
+
+    @TempDir
+    private Path spoolDirectory;
+
+    private ProductImportService productImportService;
+
+    @BeforeEach
+    void setUp() {
+        ImportProperties importProperties = new ImportProperties();
+        importProperties.setBatchSize(2);
+        importProperties.setWriteParallelism(2);
+        importProperties.setSpoolDirectory(spoolDirectory);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> new SimpleTransactionStatus());
+
+        productImportService = new ProductImportService(importJobRepository, productRepository, new ProductMapperImpl(),
+                new ImportJobMapperImpl(), new ProductRowReaderFactory(new ObjectMapper()),
+                Validation.buildDefaultValidatorFactory().getValidator(), applicationEventPublisher, importProperties,
+                transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        productImportService.shutdown();
+    }
+
+    @Test
+    void process_whenRowsInvalid_recordsRowErrorsAndWritesValidRowsInBatches() throws IOException {
+        Path file = spool(String.join("\n",
+                VALID_ROW.formatted("SKU-1"),
+                "{\"sku\":\"SKU-2\"}",
+                VALID_ROW.formatted("SKU-3")));
+        when(productRepository.bulkUpsertBySku(eq(SELLER_ID), anyList()))
+                .thenAnswer(invocation -> new BulkUpsertResult(Set.of(0), 0, Map.of()));
+
+        productImportService.process(importJob(), file);
+
+        verify(productRepository, times(2)).bulkUpsertBySku(eq(SELLER_ID), anyList());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ImportRowError>> errorsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(importJobRepository, times(2)).recordBatch(eq(JOB_ID), anyLong(), anyLong(), anyLong(), errorsCaptor.capture(), anyInt());
+        List<ImportRowError> errors = errorsCaptor.getAllValues().stream().flatMap(List::stream).toList();
+        assertThat(errors).singleElement().satisfies(error -> {
+            assertThat(error.row()).isEqualTo(2);
+            assertThat(error.sku()).isEqualTo("SKU-2");
+            assertThat(error.message()).contains("title: ");
+        });
+
+        verify(importJobRepository).markFinished(JOB_ID, ImportJobStatus.COMPLETED, null);
+        assertThat(file).doesNotExist();
+    }
+
+    @Test
+    void process_whenRowsWritten_publishesChangeBatchWithPreviousAndNewCategories() throws IOException {
+        Path file = spool(VALID_ROW.formatted("SKU-1"));
+        Product previous = Product.builder().id("product-1").sku("SKU-1").categories(List.of("audio")).version(1L).build();
+        Product written = Product.builder().id("product-1").sku("SKU-1").categories(List.of("electronics")).version(2L).build();
+        when(productRepository.bulkUpsertBySku(eq(SELLER_ID), anyList())).thenReturn(new BulkUpsertResult(Set.of(), 1, Map.of()));
+        when(productRepository.findChangeKeysBySellerIdAndSkuIn(eq(SELLER_ID), any())).thenReturn(List.of(previous), List.of(written));
+
+        productImportService.process(importJob(), file);
+
+        ArgumentCaptor<ProductChangeBatchEvent> eventCaptor = ArgumentCaptor.forClass(ProductChangeBatchEvent.class);
+        verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().changes()).singleElement().satisfies(change -> {
+            assertThat(change.type()).isEqualTo(ProductChangeType.UPDATED);
+            assertThat(change.productId()).isEqualTo("product-1");
+            assertThat(change.categories()).containsExactlyInAnyOrder("audio", "electronics");
+        });
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void process_whenRowRejected_rollsBackAndRewritesRemainingRows() throws IOException {
+        Path file = spool(String.join("\n", VALID_ROW.formatted("SKU-1"), VALID_ROW.formatted("SKU-2")));
+        Product written = Product.builder().id("product-2").sku("SKU-2").categories(List.of("electronics")).version(1L).build();
+        when(productRepository.bulkUpsertBySku(eq(SELLER_ID), anyList()))
+                .thenReturn(new BulkUpsertResult(Set.of(), 0, Map.of(0, "duplicate key")))
+                .thenReturn(new BulkUpsertResult(Set.of(0), 0, Map.of()));
+        when(productRepository.findChangeKeysBySellerIdAndSkuIn(eq(SELLER_ID), any())).thenReturn(List.of(), List.of(), List.of(written));
+
+        productImportService.process(importJob(), file);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Product>> productsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(productRepository, times(2)).bulkUpsertBySku(eq(SELLER_ID), productsCaptor.capture());
+        assertThat(productsCaptor.getAllValues().get(1)).extracting(Product::getSku).containsExactly("SKU-2");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ImportRowError>> errorsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(importJobRepository).recordBatch(eq(JOB_ID), eq(2L), eq(1L), eq(0L), errorsCaptor.capture(), anyInt());
+        assertThat(errorsCaptor.getValue()).singleElement().satisfies(error -> {
+            assertThat(error.sku()).isEqualTo("SKU-1");
+            assertThat(error.message()).isEqualTo("duplicate key");
+        });
+        verify(applicationEventPublisher, times(1)).publishEvent(any(ProductChangeBatchEvent.class));
+    }
+
+    @Test
+    void process_whenPublishingChangesFails_rollsBackAndMarksRowsFailed() throws IOException {
+        Path file = spool(VALID_ROW.formatted("SKU-1"));
+        when(productRepository.bulkUpsertBySku(eq(SELLER_ID), anyList())).thenReturn(new BulkUpsertResult(Set.of(0), 0, Map.of()));
+        doThrow(new IllegalStateException("outbox unavailable")).when(applicationEventPublisher).publishEvent(any(ProductChangeBatchEvent.class));
+
+        productImportService.process(importJob(), file);
+
+        verify(transactionManager).rollback(any());
+        verify(importJobRepository).recordBatch(eq(JOB_ID), eq(1L), eq(0L), eq(0L), anyList(), anyInt());
+    }
+
+    @Test
+    void process_whenWriteFails_marksRowsFailed() throws IOException {
+        Path file = spool(VALID_ROW.formatted("SKU-1"));
+        when(productRepository.bulkUpsertBySku(eq(SELLER_ID), anyList())).thenThrow(new IllegalStateException("primary unavailable"));
+
+        productImportService.process(importJob(), file);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ImportRowError>> errorsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(importJobRepository).recordBatch(eq(JOB_ID), eq(1L), eq(0L), eq(0L), errorsCaptor.capture(), anyInt());
+        assertThat(errorsCaptor.getValue()).singleElement()
+                .extracting(ImportRowError::message).isEqualTo("Write failed: primary unavailable");
+        verify(importJobRepository).markFinished(eq(JOB_ID), eq(ImportJobStatus.COMPLETED), isNull());
+    }
+
+    private ImportJob importJob() {
+        return ImportJob.builder().id(JOB_ID).sellerId(SELLER_ID).format(ImportFormat.NDJSON).build();
+    }
+
+    private Path spool(String content) throws IOException {
+        return Files.writeString(spoolDirectory.resolve("import.ndjson"), content);
+    }
+}
@@ -0,0 +1,60 @@
+package com.vendo.product_service.service;
+
+import com.vendo.product_service.common.exception.InvalidSearchQueryException;
+import com.vendo.product_service.search.ProductSearchIndex;
+import com.vendo.product_service.search.ProductSearchQuery;
+import com.vendo.product_service.search.config.SearchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchServiceTest {
+
+    @Mock
+    private ProductSearchIndex productSearchIndex;
+
+    private ProductSearchService productSearchService;
+
+    @BeforeEach
+    void setUp() {
+        productSearchService = new ProductSearchService(productSearchIndex, new SearchProperties());
+    }
+
+    @Test
+    void search_whenMaxPriceExceedsIndexedRange_throwsInvalidSearchQuery() {
+        BigDecimal maxPrice = new BigDecimal("1e30");
+
+        assertThatThrownBy(() -> productSearchService.search(null, null, null, null, maxPrice, 0, 20))
+                .isInstanceOf(InvalidSearchQueryException.class)
+                .hasMessageStartingWith("maxPrice");
+        verify(productSearchIndex, never()).search(any(ProductSearchQuery.class));
+    }
+
+    @Test
+    void search_whenMinPriceBelowIndexedRange_throwsInvalidSearchQuery() {
+        BigDecimal minPrice = new BigDecimal("-92233720368547759");
+
+        assertThatThrownBy(() -> productSearchService.search(null, null, null, minPrice, null, 0, 20))
+                .isInstanceOf(InvalidSearchQueryException.class)
+                .hasMessageStartingWith("minPrice");
+    }
+
+    @Test
+    void search_whenPricesAtBound_searchesIndex() {
+        BigDecimal bound = BigDecimal.valueOf(Long.MAX_VALUE / 100);
+
+        productSearchService.search(null, null, null, bound.negate(), bound, 0, 20);
+
+        verify(productSearchIndex).search(any(ProductSearchQuery.class));
+    }
+}
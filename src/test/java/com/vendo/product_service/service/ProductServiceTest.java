@@ -0,0 +1,261 @@
+package com.vendo.product_service.service;
+
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.vendo.product_service.cache.ProductReadCache;
+import com.vendo.product_service.cache.config.ProductCacheProperties;
+import com.vendo.product_service.cache.shared.NoOpSharedProductCache;
+import com.vendo.product_service.common.builder.ProductRequestBuilder;
+import com.vendo.product_service.common.dto.CursorPageResponse;
+import com.vendo.product_service.common.dto.ProductRequest;
+import com.vendo.product_service.common.dto.ProductResponse;
+import com.vendo.product_service.common.exception.InvalidCursorException;
+import com.vendo.product_service.common.exception.ProductNotFoundException;
+import com.vendo.product_service.common.http.VersionedPage;
+import com.vendo.product_service.common.mapper.ProductMapper;
+import com.vendo.product_service.common.mapper.ProductMapperImpl;
+import com.vendo.product_service.common.pagination.PaginationProperties;
+import com.vendo.product_service.common.pagination.ProductCursor;
+import com.vendo.product_service.common.pagination.ProductCursorCodec;
+import com.vendo.product_service.common.type.ProductChangeType;
+import com.vendo.product_service.common.type.ProductSort;
+import com.vendo.product_service.common.type.ProductStatus;
+import com.vendo.product_service.event.ProductChangedEvent;
+import com.vendo.product_service.model.Product;
+import com.vendo.product_service.model.projection.ProductSummary;
+import com.vendo.product_service.repository.ProductRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static com.vendo.product_service.common.builder.ProductRequestBuilder.PRODUCT_CATEGORY;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProductServiceTest {
+
+    private static final String SELLER_ID = "seller-1";
+
+    private static final String PRODUCT_ID = "product-1";
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private final ProductMapper productMapper = new ProductMapperImpl();
+
+    private final ProductRequestBuilder productRequestBuilder = new ProductRequestBuilder();
+
+    private ProductCursorCodec productCursorCodec;
+
+    private ProductReadCache productReadCache;
+
+    private ProductService productService;
+
+    @BeforeEach
+    void setUp() {
+        PaginationProperties paginationProperties = new PaginationProperties();
+        paginationProperties.setCursorSecret("cursorSecret");
+        paginationProperties.setMaxPageSize(MAX_PAGE_SIZE);
+
+        productCursorCodec = new ProductCursorCodec(paginationProperties);
+        productReadCache = new ProductReadCache(new ProductCacheProperties(), new NoOpSharedProductCache(), new SimpleMeterRegistry());
+        productService = new ProductService(productRepository, productMapper, productCursorCodec, paginationProperties,
+                productReadCache, applicationEventPublisher, JsonMapper.builder().findAndAddModules().build());
+    }
+
+    @Nested
+    class CreateTests {
+
+        @Test
+        void create_whenRequestValid_savesProductOwnedBySeller() {
+            ProductRequest productRequest = productRequestBuilder.buildValidProductRequest().build();
+            when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            ProductResponse productResponse = productService.create(SELLER_ID, productRequest);
+
+            assertThat(productResponse.getSellerId()).isEqualTo(SELLER_ID);
+            assertThat(productResponse.getStatus()).isEqualTo(ProductStatus.ACTIVE);
+            assertThat(productResponse.getAttributes()).hasSize(1);
+        }
+
+        @Test
+        void create_whenStatusMissing_savesDraft() {
+            ProductRequest productRequest = productRequestBuilder.buildValidProductRequest().status(null).build();
+            when(productRepository.save(any(Product.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            ProductResponse productResponse = productService.create(SELLER_ID, productRequest);
+
+            assertThat(productResponse.getStatus()).isEqualTo(ProductStatus.DRAFT);
+        }
+    }
+
+    @Nested
+    class UpdateTests {
+
+        @Test
+        void update_whenStatusMissing_keepsCurrentStatus() {
+            Product product = Product.builder().id(PRODUCT_ID).sellerId(SELLER_ID).status(ProductStatus.ACTIVE).build();
+            ProductRequest productRequest = productRequestBuilder.buildValidProductRequest().status(null).build();
+            when(productRepository.findByIdAndSellerId(PRODUCT_ID, SELLER_ID)).thenReturn(Optional.of(product));
+            when(productRepository.save(product)).thenReturn(product);
+
+            ProductResponse productResponse = productService.update(SELLER_ID, PRODUCT_ID, productRequest);
+
+            assertThat(productResponse.getStatus()).isEqualTo(ProductStatus.ACTIVE);
+            assertThat(productResponse.getSellerId()).isEqualTo(SELLER_ID);
+            assertThat(productResponse.getTitle()).isEqualTo(productRequest.getTitle());
+        }
+
+        @Test
+        void update_whenCategoriesChanged_publishesPreviousAndNewCategories() {
+            Product product = Product.builder().id(PRODUCT_ID).sellerId(SELLER_ID).categories(new ArrayList<>(List.of("old"))).build();
+            ProductRequest productRequest = productRequestBuilder.buildValidProductRequest().build();
+            when(productRepository.findByIdAndSellerId(PRODUCT_ID, SELLER_ID)).thenReturn(Optional.of(product));
+            when(productRepository.save(product)).thenReturn(product);
+
+            productService.update(SELLER_ID, PRODUCT_ID, productRequest);
+
+            ArgumentCaptor<ProductChangedEvent> eventCaptor = ArgumentCaptor.forClass(ProductChangedEvent.class);
+            verify(applicationEventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().type()).isEqualTo(ProductChangeType.UPDATED);
+            assertThat(eventCaptor.getValue().categories()).containsExactlyInAnyOrder("old", PRODUCT_CATEGORY);
+        }
+
+        @Test
+        void update_whenProductOwnedByAnotherSeller_throwsProductNotFoundException() {
+            ProductRequest productRequest = productRequestBuilder.buildValidProductRequest().build();
+            when(productRepository.findByIdAndSellerId(PRODUCT_ID, SELLER_ID)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> productService.update(SELLER_ID, PRODUCT_ID, productRequest))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+    }
+
+    @Nested
+    class ReadTests {
+
+        @Test
+        void findActiveById_whenProductMissing_throwsProductNotFoundException() {
+            when(productRepository.findByIdAndStatus(PRODUCT_ID, ProductStatus.ACTIVE)).thenReturn(Optional.empty());
+
+            assertThatThrownBy(() -> productService.findActiveById(PRODUCT_ID))
+                    .isInstanceOf(ProductNotFoundException.class);
+        }
+
+        @Test
+        void findActiveById_whenCalledTwice_readsRepositoryOnce() {
+            Product product = Product.builder().id(PRODUCT_ID).status(ProductStatus.ACTIVE).build();
+            when(productRepository.findByIdAndStatus(PRODUCT_ID, ProductStatus.ACTIVE)).thenReturn(Optional.of(product));
+
+            productService.findActiveById(PRODUCT_ID);
+            ProductResponse productResponse = productService.findActiveById(PRODUCT_ID);
+
+            assertThat(productResponse.getId()).isEqualTo(PRODUCT_ID);
+            verify(productRepository, times(1)).findByIdAndStatus(PRODUCT_ID, ProductStatus.ACTIVE);
+        }
+
+        @Test
+        void findActiveByCategory_whenLimitTooLarge_capsLimit() {
+            when(productRepository.findCategoryPage(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, null, MAX_PAGE_SIZE + 1))
+                    .thenReturn(List.of());
+
+            CursorPageResponse<ProductSummary> page = productService.findActiveByCategory(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, null, 10_000).page();
+
+            assertThat(page.getItems()).isEmpty();
+            assertThat(page.getNextCursor()).isNull();
+        }
+
+        @Test
+        void findActiveByCategory_whenPageCached_reusesVersionComputedOnLoad() {
+            when(productRepository.findCategoryPage(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, null, 3))
+                    .thenReturn(List.of(productSummary("a", "10.00")));
+
+            VersionedPage<ProductSummary> first = productService.findActiveByCategory(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, null, 2);
+            VersionedPage<ProductSummary> second = productService.findActiveByCategory(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, null, 2);
+
+            assertThat(first.version().eTag()).isNotNull();
+            assertThat(second.version()).isSameAs(first.version());
+            verify(productRepository, times(1)).findCategoryPage(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, null, 3);
+        }
+
+        @Test
+        void findActiveByCategory_whenMoreProductsThanLimit_returnsCursorAfterLastItem() {
+            List<ProductSummary> products = List.of(productSummary("a", "10.00"), productSummary("b", "12.50"), productSummary("c", "15.00"));
+            when(productRepository.findCategoryPage(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, null, 3)).thenReturn(products);
+
+            CursorPageResponse<ProductSummary> firstPage = productService.findActiveByCategory(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, null, 2).page();
+
+            assertThat(firstPage.getItems()).extracting(ProductSummary::id).containsExactly("a", "b");
+            assertThat(firstPage.getNextCursor()).isNotNull();
+
+            ArgumentCaptor<ProductCursor> cursorCaptor = ArgumentCaptor.forClass(ProductCursor.class);
+            when(productRepository.findCategoryPage(eq(PRODUCT_CATEGORY), eq(ProductSort.PRICE_ASC), cursorCaptor.capture(), eq(3)))
+                    .thenReturn(List.of(products.get(2)));
+
+            CursorPageResponse<ProductSummary> secondPage =
+                    productService.findActiveByCategory(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, firstPage.getNextCursor(), 2).page();
+
+            assertThat(secondPage.getItems()).extracting(ProductSummary::id).containsExactly("c");
+            assertThat(secondPage.getNextCursor()).isNull();
+            assertThat(cursorCaptor.getValue().id()).isEqualTo("b");
+            assertThat(cursorCaptor.getValue().sortKey()).isEqualTo(new BigDecimal("12.50"));
+        }
+
+        @Test
+        void findActiveByCategory_whenCursorFromAnotherCategory_throwsInvalidCursorException() {
+            String otherCategoryCursor = productCursorCodec.encode(
+                    ProductCursor.after(productSummary("a", "10.00"), ProductSort.PRICE_ASC, "other"));
+
+            assertThatThrownBy(() -> productService.findActiveByCategory(PRODUCT_CATEGORY, ProductSort.PRICE_ASC, otherCategoryCursor, 2))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+
+        @Test
+        void findActiveByCategory_whenCursorFromCategoryWithSameHashCode_throwsInvalidCursorException() {
+            List<ProductSummary> products = List.of(productSummary("a", "10.00"), productSummary("b", "12.50"));
+            when(productRepository.findCategoryPage("Aa", ProductSort.PRICE_ASC, null, 2)).thenReturn(products);
+            String cursor = productService.findActiveByCategory("Aa", ProductSort.PRICE_ASC, null, 1).page().getNextCursor();
+
+            assertThatThrownBy(() -> productService.findActiveByCategory("BB", ProductSort.PRICE_ASC, cursor, 1))
+                    .isInstanceOf(InvalidCursorException.class);
+        }
+
+        @Test
+        void archive_whenProductOwnedBySeller_setsArchivedStatus() {
+            Product product = Product.builder().id(PRODUCT_ID).sellerId(SELLER_ID).status(ProductStatus.ACTIVE).build();
+            when(productRepository.findByIdAndSellerId(PRODUCT_ID, SELLER_ID)).thenReturn(Optional.of(product));
+            when(productRepository.save(product)).thenReturn(product);
+
+            productService.archive(SELLER_ID, PRODUCT_ID);
+
+            verify(productRepository).save(product);
+            assertThat(product.getStatus()).isEqualTo(ProductStatus.ARCHIVED);
+        }
+    }
+
+    private ProductSummary productSummary(String id, String price) {
+        return new ProductSummary(id, "title", "brand", new BigDecimal(price), "USD", 1, ProductStatus.ACTIVE, Instant.now());
+    }
+}
@@ -0,0 +1,54 @@
+package com.vendo.product_service.warmup;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vendo.product_service.common.mapper.ProductMapper;
+import com.vendo.product_service.repository.ProductRepository;
+import com.vendo.product_service.security.common.helper.JwtAuthenticator;
+import com.vendo.product_service.security.common.helper.JwtHelper;
+import com.vendo.product_service.service.ProductService;
+import com.vendo.product_service.warmup.config.WarmupProperties;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+
+    @Mock
+    private HotProductTracker hotProductTracker;
+
+    @Mock
+    private ProductService productService;
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ProductMapper productMapper;
+
+    @Mock
+    private JwtHelper jwtHelper;
+
+    @Mock
+    private JwtAuthenticator jwtAuthenticator;
+
+    @Test
+    void warmUp_whenPreloadThrowsUnexpectedException_finishesAsFailed() {
+        CacheWarmer cacheWarmer = new CacheWarmer(hotProductTracker, productService, productRepository, productMapper,
+                new ObjectMapper(), jwtHelper, jwtAuthenticator, new WarmupProperties());
+        when(hotProductTracker.loadSnapshot()).thenReturn(List.of("not-an-id"));
+        when(productService.findActiveByIds(anyList())).thenThrow(new IllegalArgumentException("invalid id"));
+
+        cacheWarmer.warmUp();
+
+        assertThat(cacheWarmer.isReady()).isTrue();
+        assertThat(cacheWarmer.progress().stage()).isEqualTo(WarmupStage.FAILED);
+    }
+}
@@ -0,0 +1,113 @@
+package com.vendo.product_service.warmup;
+
+import com.vendo.product_service.model.HotProductSnapshot;
+import com.vendo.product_service.repository.HotProductSnapshotRepository;
+import com.vendo.product_service.warmup.config.WarmupProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class HotProductTrackerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private HotProductSnapshotRepository hotProductSnapshotRepository;
+
+    private WarmupProperties warmupProperties;
+
+    private HotProductTracker hotProductTracker;
+
+    @BeforeEach
+    void setUp() {
+        warmupProperties = new WarmupProperties();
+        warmupProperties.setTopProducts(2);
+        warmupProperties.setTrackedProducts(3);
+        hotProductTracker = new HotProductTracker(hotProductSnapshotRepository, warmupProperties, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void topProducts_ordersByReadCount() {
+        record("p1", 1);
+        record("p2", 5);
+        record("p3", 3);
+
+        assertThat(hotProductTracker.topProducts(2)).containsExactly("p2", "p3");
+    }
+
+    @Test
+    void record_whenTrackedProductsReached_onlyCountsKnownIds() {
+        record("p1", 1);
+        record("p2", 1);
+        record("p3", 1);
+        record("p4", 10);
+        record("p1", 1);
+
+        assertThat(hotProductTracker.topProducts(10)).containsExactly("p1", "p2", "p3").doesNotContain("p4");
+    }
+
+    @Test
+    void record_whenDisabled_tracksNothing() {
+        warmupProperties.setEnabled(false);
+
+        record("p1", 3);
+
+        assertThat(hotProductTracker.topProducts(10)).isEmpty();
+    }
+
+    @Test
+    void saveSnapshot_savesTopProductsAndDecaysCounts() {
+        record("p1", 1);
+        record("p2", 6);
+        record("p3", 4);
+
+        hotProductTracker.saveSnapshot();
+
+        ArgumentCaptor<HotProductSnapshot> snapshot = ArgumentCaptor.forClass(HotProductSnapshot.class);
+        verify(hotProductSnapshotRepository).save(snapshot.capture());
+        assertThat(snapshot.getValue().getId()).isEqualTo(HotProductTracker.SNAPSHOT_ID);
+        assertThat(snapshot.getValue().getProductIds()).containsExactly("p2", "p3");
+        assertThat(snapshot.getValue().getUpdatedAt()).isEqualTo(NOW);
+
+        // p1 halves to zero and is dropped, which frees a slot for a newly popular id.
+        record("p4", 4);
+        assertThat(hotProductTracker.topProducts(10)).containsExactly("p4", "p2", "p3");
+    }
+
+    @Test
+    void saveSnapshot_whenNothingRecorded_keepsPreviousSnapshot() {
+        hotProductTracker.saveSnapshot();
+
+        verify(hotProductSnapshotRepository, never()).save(any());
+    }
+
+    @Test
+    void loadSnapshot_returnsSavedIds() {
+        when(hotProductSnapshotRepository.findById(HotProductTracker.SNAPSHOT_ID))
+                .thenReturn(Optional.of(new HotProductSnapshot(HotProductTracker.SNAPSHOT_ID, List.of("p1", "p2"), NOW)));
+
+        assertThat(hotProductTracker.loadSnapshot()).containsExactly("p1", "p2");
+    }
+
+    private void record(String id, int times) {
+        for (int i = 0; i < times; i++) {
+            hotProductTracker.record(id);
+        }
+    }
+}